@@ -0,0 +1,14 @@
+package com.fiap.hospital.appointment;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@SpringBootApplication
+@EnableScheduling
+public class AppointmentApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(AppointmentApplication.class, args);
+    }
+}
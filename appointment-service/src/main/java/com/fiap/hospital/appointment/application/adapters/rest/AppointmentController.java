@@ -0,0 +1,112 @@
+package com.fiap.hospital.appointment.application.adapters.rest;
+
+import com.fiap.hospital.appointment.application.dto.AppointmentResponseDTO;
+import com.fiap.hospital.appointment.application.dto.BookAppointmentRequestDTO;
+import com.fiap.hospital.appointment.application.exception.ApiError;
+import com.fiap.hospital.appointment.domain.ports.appointment.AppointmentPort;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/appointments")
+@RequiredArgsConstructor
+@Tag(name = "Appointments", description = "Booking and cancellation of appointment slots")
+public class AppointmentController {
+
+    private final AppointmentPort appointmentService;
+
+    @PostMapping
+    @Operation(
+        summary = "Book appointment",
+        description = "Book a slot with a doctor. The slot lasts durationMinutes, or appointment.booking.slot-duration when omitted"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "201",
+            description = "Appointment booked successfully",
+            content = @Content(schema = @Schema(implementation = AppointmentResponseDTO.class))
+        ),
+        @ApiResponse(
+            responseCode = "409",
+            description = "Slot overlaps an appointment already booked with the doctor",
+            content = @Content(schema = @Schema(implementation = ApiError.class))
+        ),
+        @ApiResponse(
+            responseCode = "503",
+            description = "Doctor's calendar is being changed by another booking, retry after the Retry-After delay",
+            content = @Content(schema = @Schema(implementation = ApiError.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid request parameters",
+            content = @Content(schema = @Schema(implementation = ApiError.class))
+        )
+    })
+    public ResponseEntity<AppointmentResponseDTO> book(
+            @Parameter(description = "Doctor, patient and slot to book", required = true)
+            @Valid @RequestBody BookAppointmentRequestDTO bookRequest) {
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(AppointmentResponseDTO.from(appointmentService.book(bookRequest)));
+    }
+
+    @PostMapping("/{id}/cancel")
+    @Operation(
+        summary = "Cancel appointment",
+        description = "Cancel an appointment and free its slot. Cancelling twice has no further effect"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Appointment cancelled",
+            content = @Content(schema = @Schema(implementation = AppointmentResponseDTO.class))
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Appointment not found",
+            content = @Content(schema = @Schema(implementation = ApiError.class))
+        ),
+        @ApiResponse(
+            responseCode = "503",
+            description = "Doctor's calendar is being changed by another booking, retry after the Retry-After delay",
+            content = @Content(schema = @Schema(implementation = ApiError.class))
+        )
+    })
+    public ResponseEntity<AppointmentResponseDTO> cancel(@PathVariable("id") Long id) {
+        return ResponseEntity.ok(AppointmentResponseDTO.from(appointmentService.cancel(id)));
+    }
+
+    @GetMapping("/doctors/{doctorId}")
+    @Operation(
+        summary = "Doctor's appointments",
+        description = "List the scheduled appointments of a doctor on a day, ordered by start time"
+    )
+    @ApiResponse(responseCode = "200", description = "Scheduled appointments of the day")
+    public ResponseEntity<List<AppointmentResponseDTO>> findScheduled(
+            @PathVariable("doctorId") Long doctorId,
+            @Parameter(description = "Day, as yyyy-MM-dd", required = true)
+            @RequestParam("date") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        return ResponseEntity.ok(appointmentService.findScheduled(doctorId, date).stream()
+                .map(AppointmentResponseDTO::from)
+                .toList());
+    }
+}
@@ -0,0 +1,50 @@
+package com.fiap.hospital.appointment.application.adapters.rest;
+
+import com.fiap.hospital.appointment.application.dto.AvailableSlotDTO;
+import com.fiap.hospital.appointment.domain.ports.availability.AvailabilityPort;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/availability")
+@RequiredArgsConstructor
+@Tag(name = "Availability", description = "Search for free appointment slots")
+public class AvailabilityController {
+
+    private static final int MAX_LIMIT = 100;
+
+    private final AvailabilityPort availabilityService;
+
+    @GetMapping
+    @Operation(
+        summary = "Find free slots",
+        description = "The earliest free slot of each doctor of a specialty, earliest first. Searches the next 7 days when no period is given"
+    )
+    @ApiResponse(responseCode = "200", description = "Free slots, at most one per doctor")
+    public ResponseEntity<List<AvailableSlotDTO>> findAvailable(
+            @Parameter(description = "Specialty, e.g. cardiology", required = true)
+            @RequestParam("specialty") String specialty,
+            @Parameter(description = "Start of the period, defaults to now")
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "End of the period, defaults to 7 days after its start")
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @Parameter(description = "Maximum number of slots, up to 100")
+            @RequestParam(value = "limit", defaultValue = "10") int limit) {
+        LocalDateTime start = from != null ? from : LocalDateTime.now();
+        LocalDateTime end = to != null ? to : start.plusDays(7);
+        return ResponseEntity.ok(availabilityService.findAvailable(specialty, start, end,
+                Math.max(1, Math.min(limit, MAX_LIMIT))));
+    }
+}
@@ -0,0 +1,72 @@
+package com.fiap.hospital.appointment.application.adapters.rest;
+
+import com.fiap.hospital.appointment.application.dto.DoctorResponseDTO;
+import com.fiap.hospital.appointment.application.dto.RegisterDoctorRequestDTO;
+import com.fiap.hospital.appointment.application.exception.ApiError;
+import com.fiap.hospital.appointment.domain.ports.doctor.DoctorPort;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/doctors")
+@RequiredArgsConstructor
+@Tag(name = "Doctors", description = "Doctors that appointments can be booked with")
+public class DoctorController {
+
+    private final DoctorPort doctorService;
+
+    @PostMapping
+    @Operation(
+        summary = "Register doctor",
+        description = "Register a doctor, identified by the id of their user in the auth-service, with a specialty"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "201",
+            description = "Doctor registered successfully",
+            content = @Content(schema = @Schema(implementation = DoctorResponseDTO.class))
+        ),
+        @ApiResponse(
+            responseCode = "409",
+            description = "Doctor already registered",
+            content = @Content(schema = @Schema(implementation = ApiError.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid request parameters",
+            content = @Content(schema = @Schema(implementation = ApiError.class))
+        )
+    })
+    public ResponseEntity<DoctorResponseDTO> register(
+            @Parameter(description = "Doctor information", required = true)
+            @Valid @RequestBody RegisterDoctorRequestDTO registerRequest) {
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(DoctorResponseDTO.from(doctorService.register(registerRequest)));
+    }
+
+    @GetMapping
+    @Operation(summary = "Doctors by specialty", description = "List the doctors of a specialty, ordered by name")
+    @ApiResponse(responseCode = "200", description = "Doctors of the specialty")
+    public ResponseEntity<List<DoctorResponseDTO>> findBySpecialty(@RequestParam("specialty") String specialty) {
+        return ResponseEntity.ok(doctorService.findBySpecialty(specialty).stream()
+                .map(DoctorResponseDTO::from)
+                .toList());
+    }
+}
@@ -0,0 +1,152 @@
+package com.fiap.hospital.appointment.application.adapters.service;
+
+import com.fiap.hospital.appointment.application.dto.BookAppointmentRequestDTO;
+import com.fiap.hospital.appointment.application.exception.SlotUnavailableException;
+import com.fiap.hospital.appointment.domain.entities.Appointment;
+import com.fiap.hospital.appointment.domain.entities.DoctorSchedule;
+import com.fiap.hospital.appointment.domain.enums.AppointmentStatus;
+import com.fiap.hospital.appointment.domain.events.AppointmentBookedEvent;
+import com.fiap.hospital.appointment.domain.events.AppointmentCancelledEvent;
+import com.fiap.hospital.appointment.domain.ports.appointment.AppointmentPort;
+import com.fiap.hospital.appointment.domain.ports.persistence.AppointmentRepositoryPort;
+import com.fiap.hospital.appointment.domain.ports.persistence.DoctorScheduleRepositoryPort;
+import com.fiap.hospital.appointment.infrastructure.adapters.locking.BookingContentionException;
+import com.fiap.hospital.appointment.infrastructure.adapters.locking.DoctorLockStripes;
+import com.fiap.hospital.appointment.infrastructure.adapters.persistence.ConstraintViolations;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Books and cancels slots without table locks. On this instance bookings for a doctor are serialized by a
+ * striped lock, held until the transaction commits. Across instances every change to a doctor's day bumps the
+ * version of its {@link DoctorSchedule} row, so concurrent changes to the same day fail their optimistic check,
+ * and on Postgres the exclusion constraint on {@code appointments} rejects any overlap that still got through.
+ * Contention is reported with {@link BookingContentionException} rather than waited out.
+ * <p>
+ * Each change publishes an {@link AppointmentBookedEvent} or {@link AppointmentCancelledEvent} within its
+ * transaction, which writes it to the outbox, and for listeners that act once it commits. Nothing is sent to
+ * the broker on the booking path.
+ */
+@Service
+@Slf4j
+public class AppointmentServiceAdapter implements AppointmentPort {
+
+    static final String NO_OVERLAP_CONSTRAINT = "ex_appointments_no_overlap";
+    static final String SCHEDULE_DAY_CONSTRAINT = "uk_doctor_schedules_doctor_day";
+
+    private final AppointmentRepositoryPort appointmentRepository;
+    private final DoctorScheduleRepositoryPort scheduleRepository;
+    private final DoctorLockStripes lockStripes;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Duration slotDuration;
+
+    public AppointmentServiceAdapter(AppointmentRepositoryPort appointmentRepository,
+                                     DoctorScheduleRepositoryPort scheduleRepository,
+                                     DoctorLockStripes lockStripes,
+                                     PlatformTransactionManager transactionManager,
+                                     ApplicationEventPublisher eventPublisher,
+                                     @Value("${appointment.booking.slot-duration:30m}") Duration slotDuration) {
+        this.appointmentRepository = appointmentRepository;
+        this.scheduleRepository = scheduleRepository;
+        this.lockStripes = lockStripes;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.slotDuration = slotDuration;
+    }
+
+    @Override
+    public Appointment book(BookAppointmentRequestDTO bookRequest) {
+        LocalDateTime startTime = bookRequest.getStartTime().truncatedTo(ChronoUnit.MINUTES);
+        LocalDateTime endTime = bookRequest.getDurationMinutes() != null
+                ? startTime.plusMinutes(bookRequest.getDurationMinutes())
+                : startTime.plus(slotDuration);
+        Long doctorId = bookRequest.getDoctorId();
+
+        Appointment appointment = inDoctorTransaction(doctorId, () -> {
+            if (appointmentRepository.existsOverlapping(doctorId, AppointmentStatus.SCHEDULED, startTime, endTime)) {
+                throw new SlotUnavailableException("Slot " + startTime + " of doctor " + doctorId + " is already booked");
+            }
+            touchSchedule(doctorId, startTime.toLocalDate(), 1);
+            Appointment saved = appointmentRepository.save(Appointment.builder()
+                    .doctorId(doctorId)
+                    .patientId(bookRequest.getPatientId())
+                    .startTime(startTime)
+                    .endTime(endTime)
+                    .status(AppointmentStatus.SCHEDULED)
+                    .build());
+            eventPublisher.publishEvent(new AppointmentBookedEvent(saved.getId(), doctorId, saved.getPatientId(),
+                    startTime, endTime));
+            return saved;
+        });
+        log.debug("Booked appointment {} with doctor {} at {}", appointment.getId(), doctorId, startTime);
+        return appointment;
+    }
+
+    @Override
+    public Appointment cancel(Long appointmentId) {
+        Appointment appointment = appointmentRepository.findById(appointmentId)
+                .orElseThrow(() -> new EntityNotFoundException("Appointment not found: " + appointmentId));
+        return inDoctorTransaction(appointment.getDoctorId(), () -> {
+            Appointment current = appointmentRepository.findById(appointmentId)
+                    .orElseThrow(() -> new EntityNotFoundException("Appointment not found: " + appointmentId));
+            if (current.getStatus() == AppointmentStatus.CANCELLED) {
+                return current;
+            }
+            current.setStatus(AppointmentStatus.CANCELLED);
+            touchSchedule(current.getDoctorId(), current.getStartTime().toLocalDate(), -1);
+            Appointment saved = appointmentRepository.save(current);
+            eventPublisher.publishEvent(new AppointmentCancelledEvent(saved.getId(), saved.getDoctorId(),
+                    saved.getPatientId(), saved.getStartTime(), saved.getEndTime()));
+            return saved;
+        });
+    }
+
+    @Override
+    public List<Appointment> findScheduled(Long doctorId, LocalDate day) {
+        return appointmentRepository.findByDoctorIdAndStatusAndStartTimeGreaterThanEqualAndStartTimeLessThanOrderByStartTime(
+                doctorId, AppointmentStatus.SCHEDULED, day.atStartOfDay(), day.plusDays(1).atStartOfDay());
+    }
+
+    /**
+     * Bumps the version of the doctor's day, creating it on the first booking, so a concurrent change to the
+     * same day on another instance cannot commit as well.
+     */
+    private void touchSchedule(Long doctorId, LocalDate day, int bookedDelta) {
+        DoctorSchedule schedule = scheduleRepository.findByDoctorIdAndDay(doctorId, day)
+                .orElseGet(() -> DoctorSchedule.builder().doctorId(doctorId).day(day).build());
+        schedule.setBookedSlots(schedule.getBookedSlots() + bookedDelta);
+        scheduleRepository.save(schedule);
+    }
+
+    private <T> T inDoctorTransaction(Long doctorId, Supplier<T> work) {
+        try {
+            return lockStripes.callLocked(doctorId, () -> transactionTemplate.execute(status -> work.get()));
+        } catch (ObjectOptimisticLockingFailureException e) {
+            throw new BookingContentionException("Doctor's calendar changed concurrently, try again");
+        } catch (DataIntegrityViolationException e) {
+            if (ConstraintViolations.isExclusionViolation(e, NO_OVERLAP_CONSTRAINT)) {
+                throw new SlotUnavailableException("Slot of doctor " + doctorId + " is already booked");
+            }
+            if (ConstraintViolations.isUniqueViolation(e, SCHEDULE_DAY_CONSTRAINT)) {
+                // The doctor's day was created by another instance at the same time
+                throw new BookingContentionException("Doctor's calendar changed concurrently, try again");
+            }
+            throw e;
+        }
+    }
+}
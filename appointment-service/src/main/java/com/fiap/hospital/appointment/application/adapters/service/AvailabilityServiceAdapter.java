@@ -0,0 +1,30 @@
+package com.fiap.hospital.appointment.application.adapters.service;
+
+import com.fiap.hospital.appointment.application.dto.AvailableSlotDTO;
+import com.fiap.hospital.appointment.domain.ports.availability.AvailabilityPort;
+import com.fiap.hospital.appointment.infrastructure.adapters.availability.AvailabilityIndexManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Answers availability searches from the in-memory index, without touching the database. The index can lag
+ * behind bookings made on other instances until its next rebuild, in which case booking the slot answers 409.
+ */
+@Service
+@RequiredArgsConstructor
+public class AvailabilityServiceAdapter implements AvailabilityPort {
+
+    private final AvailabilityIndexManager indexManager;
+
+    @Override
+    public List<AvailableSlotDTO> findAvailable(String specialty, LocalDateTime from, LocalDateTime to, int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        return indexManager.findFirstAvailable(specialty, from.isBefore(now) ? now : from, to, limit).stream()
+                .map(slot -> new AvailableSlotDTO(slot.doctorId(), slot.doctorName(), slot.specialty(),
+                        slot.startTime(), slot.endTime()))
+                .toList();
+    }
+}
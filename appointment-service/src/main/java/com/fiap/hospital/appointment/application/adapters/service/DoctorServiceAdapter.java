@@ -0,0 +1,47 @@
+package com.fiap.hospital.appointment.application.adapters.service;
+
+import com.fiap.hospital.appointment.application.dto.RegisterDoctorRequestDTO;
+import com.fiap.hospital.appointment.application.exception.DoctorAlreadyExistsException;
+import com.fiap.hospital.appointment.domain.entities.Doctor;
+import com.fiap.hospital.appointment.domain.events.DoctorRegisteredEvent;
+import com.fiap.hospital.appointment.domain.ports.doctor.DoctorPort;
+import com.fiap.hospital.appointment.domain.ports.persistence.DoctorRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Locale;
+
+@Service
+@RequiredArgsConstructor
+public class DoctorServiceAdapter implements DoctorPort {
+
+    private final DoctorRepositoryPort doctorRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    @Transactional
+    public Doctor register(RegisterDoctorRequestDTO registerRequest) {
+        if (doctorRepository.existsById(registerRequest.getId())) {
+            throw new DoctorAlreadyExistsException("Doctor already exists: " + registerRequest.getId());
+        }
+        Doctor doctor = doctorRepository.save(Doctor.builder()
+                .id(registerRequest.getId())
+                .name(registerRequest.getName())
+                .specialty(normalize(registerRequest.getSpecialty()))
+                .build());
+        eventPublisher.publishEvent(new DoctorRegisteredEvent(doctor.getId(), doctor.getName(), doctor.getSpecialty()));
+        return doctor;
+    }
+
+    @Override
+    public List<Doctor> findBySpecialty(String specialty) {
+        return doctorRepository.findBySpecialtyOrderByName(normalize(specialty));
+    }
+
+    private static String normalize(String specialty) {
+        return specialty.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,34 @@
+package com.fiap.hospital.appointment.application.dto;
+
+import com.fiap.hospital.appointment.domain.entities.Appointment;
+import com.fiap.hospital.appointment.domain.enums.AppointmentStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AppointmentResponseDTO {
+    private Long id;
+    private Long doctorId;
+    private Long patientId;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+    private AppointmentStatus status;
+
+    public static AppointmentResponseDTO from(Appointment appointment) {
+        return AppointmentResponseDTO.builder()
+                .id(appointment.getId())
+                .doctorId(appointment.getDoctorId())
+                .patientId(appointment.getPatientId())
+                .startTime(appointment.getStartTime())
+                .endTime(appointment.getEndTime())
+                .status(appointment.getStatus())
+                .build();
+    }
+}
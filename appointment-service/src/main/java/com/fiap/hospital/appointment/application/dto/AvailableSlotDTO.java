@@ -0,0 +1,20 @@
+package com.fiap.hospital.appointment.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AvailableSlotDTO {
+    private Long doctorId;
+    private String doctorName;
+    private String specialty;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+}
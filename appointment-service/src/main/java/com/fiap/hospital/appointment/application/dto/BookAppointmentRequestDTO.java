@@ -0,0 +1,46 @@
+package com.fiap.hospital.appointment.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookAppointmentRequestDTO {
+
+    @NotNull(message = "Doctor id is required")
+    private Long doctorId;
+
+    @NotNull(message = "Patient id is required")
+    private Long patientId;
+
+    @NotNull(message = "Start time is required")
+    @Future(message = "Start time must be in the future")
+    private LocalDateTime startTime;
+
+    @Min(value = 5, message = "Duration must be at least 5 minutes")
+    @Max(value = 240, message = "Duration must be at most 240 minutes")
+    private Integer durationMinutes;
+
+    @JsonIgnore
+    @AssertTrue(message = "durationMinutes: appointment must end on the day it starts")
+    public boolean isWithinOneDay() {
+        if (startTime == null || durationMinutes == null) {
+            return true;
+        }
+        LocalDateTime endTime = startTime.plusMinutes(durationMinutes);
+        return endTime.toLocalDate().equals(startTime.toLocalDate()) || endTime.toLocalTime().equals(LocalTime.MIDNIGHT);
+    }
+}
@@ -0,0 +1,21 @@
+package com.fiap.hospital.appointment.application.dto;
+
+import com.fiap.hospital.appointment.domain.entities.Doctor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DoctorResponseDTO {
+    private Long id;
+    private String name;
+    private String specialty;
+
+    public static DoctorResponseDTO from(Doctor doctor) {
+        return new DoctorResponseDTO(doctor.getId(), doctor.getName(), doctor.getSpecialty());
+    }
+}
@@ -0,0 +1,27 @@
+package com.fiap.hospital.appointment.application.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RegisterDoctorRequestDTO {
+
+    @NotNull(message = "Doctor id is required")
+    private Long id;
+
+    @NotBlank(message = "Name is required")
+    @Size(min = 2, max = 100, message = "Name must be between 2 and 100 characters")
+    private String name;
+
+    @NotBlank(message = "Specialty is required")
+    @Size(max = 50, message = "Specialty must be at most 50 characters")
+    private String specialty;
+}
@@ -0,0 +1,41 @@
+package com.fiap.hospital.appointment.application.exception;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.http.HttpStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApiError {
+    
+    private HttpStatus status;
+    
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime timestamp;
+    
+    private String message;
+    private String debugMessage;
+    private List<String> errors;
+    
+    public ApiError(HttpStatus status, String message, Throwable ex) {
+        this.status = status;
+        this.message = message;
+        this.debugMessage = ex.getLocalizedMessage();
+        this.timestamp = LocalDateTime.now();
+    }
+    
+    public ApiError(HttpStatus status, String message, List<String> errors) {
+        this.status = status;
+        this.message = message;
+        this.errors = errors;
+        this.timestamp = LocalDateTime.now();
+    }
+} 
\ No newline at end of file
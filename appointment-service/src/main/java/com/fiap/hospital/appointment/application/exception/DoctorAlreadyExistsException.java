@@ -0,0 +1,8 @@
+package com.fiap.hospital.appointment.application.exception;
+
+public class DoctorAlreadyExistsException extends RuntimeException {
+
+    public DoctorAlreadyExistsException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.fiap.hospital.appointment.application.exception;
+
+public class SlotUnavailableException extends RuntimeException {
+
+    public SlotUnavailableException(String message) {
+        super(message);
+    }
+}
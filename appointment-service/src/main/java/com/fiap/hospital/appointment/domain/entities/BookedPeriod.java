@@ -0,0 +1,9 @@
+package com.fiap.hospital.appointment.domain.entities;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read-only projection of a scheduled appointment, for loading many of them without managed entities.
+ */
+public record BookedPeriod(Long doctorId, LocalDateTime startTime, LocalDateTime endTime) {
+}
@@ -0,0 +1,39 @@
+package com.fiap.hospital.appointment.domain.entities;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * One row per doctor and day with bookings. Every booking or cancellation on that day bumps its version, so
+ * two instances changing the same calendar at once cannot both commit: the second fails its optimistic lock
+ * check instead of waiting on a row or table lock.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "doctor_schedules",
+        uniqueConstraints = @UniqueConstraint(name = "uk_doctor_schedules_doctor_day", columnNames = {"doctor_id", "schedule_day"}))
+public class DoctorSchedule {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "doctor_id", nullable = false)
+    private Long doctorId;
+
+    @Column(name = "schedule_day", nullable = false)
+    private LocalDate day;
+
+    @Column(name = "booked_slots", nullable = false)
+    private int bookedSlots;
+
+    @Version
+    private Long version;
+}
@@ -0,0 +1,6 @@
+package com.fiap.hospital.appointment.domain.enums;
+
+public enum AppointmentStatus {
+    SCHEDULED,
+    CANCELLED
+}
@@ -0,0 +1,9 @@
+package com.fiap.hospital.appointment.domain.events;
+
+import java.time.LocalDateTime;
+
+public record AppointmentBookedEvent(Long appointmentId, Long doctorId, Long patientId,
+                                     LocalDateTime startTime, LocalDateTime endTime) {
+
+    public static final String TYPE = "appointment.booked";
+}
@@ -0,0 +1,4 @@
+package com.fiap.hospital.appointment.domain.events;
+
+public record DoctorRegisteredEvent(Long doctorId, String name, String specialty) {
+}
@@ -0,0 +1,16 @@
+package com.fiap.hospital.appointment.domain.ports.appointment;
+
+import com.fiap.hospital.appointment.application.dto.BookAppointmentRequestDTO;
+import com.fiap.hospital.appointment.domain.entities.Appointment;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface AppointmentPort {
+
+    Appointment book(BookAppointmentRequestDTO bookRequest);
+
+    Appointment cancel(Long appointmentId);
+
+    List<Appointment> findScheduled(Long doctorId, LocalDate day);
+}
@@ -0,0 +1,14 @@
+package com.fiap.hospital.appointment.domain.ports.availability;
+
+import com.fiap.hospital.appointment.application.dto.AvailableSlotDTO;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface AvailabilityPort {
+
+    /**
+     * The earliest free slot of each doctor of the specialty between {@code from} and {@code to}, earliest first.
+     */
+    List<AvailableSlotDTO> findAvailable(String specialty, LocalDateTime from, LocalDateTime to, int limit);
+}
@@ -0,0 +1,13 @@
+package com.fiap.hospital.appointment.domain.ports.doctor;
+
+import com.fiap.hospital.appointment.application.dto.RegisterDoctorRequestDTO;
+import com.fiap.hospital.appointment.domain.entities.Doctor;
+
+import java.util.List;
+
+public interface DoctorPort {
+
+    Doctor register(RegisterDoctorRequestDTO registerRequest);
+
+    List<Doctor> findBySpecialty(String specialty);
+}
@@ -0,0 +1,16 @@
+package com.fiap.hospital.appointment.domain.ports.messaging;
+
+import com.fiap.hospital.appointment.domain.entities.OutboxEvent;
+
+import java.util.List;
+import java.util.Set;
+
+public interface EventPublisherPort {
+
+    /**
+     * Publishes the events and waits for the broker to take responsibility for them.
+     *
+     * @return the ids of the events the broker confirmed; the others must be published again
+     */
+    Set<Long> publish(List<OutboxEvent> events);
+}
@@ -0,0 +1,49 @@
+package com.fiap.hospital.appointment.domain.ports.persistence;
+
+import com.fiap.hospital.appointment.domain.entities.Appointment;
+import com.fiap.hospital.appointment.domain.entities.BookedPeriod;
+import com.fiap.hospital.appointment.domain.enums.AppointmentStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Repository
+public interface AppointmentRepositoryPort extends JpaRepository<Appointment, Long> {
+
+    @Query("SELECT COUNT(a) > 0 FROM Appointment a WHERE a.doctorId = :doctorId AND a.status = :status "
+            + "AND a.startTime < :endTime AND a.endTime > :startTime")
+    boolean existsOverlapping(@Param("doctorId") Long doctorId,
+                              @Param("status") AppointmentStatus status,
+                              @Param("startTime") LocalDateTime startTime,
+                              @Param("endTime") LocalDateTime endTime);
+
+    List<Appointment> findByDoctorIdAndStatusAndStartTimeGreaterThanEqualAndStartTimeLessThanOrderByStartTime(
+            Long doctorId, AppointmentStatus status, LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Streams rather than lists, so loading every appointment of the horizon holds one fetch at a time.
+     * Must be consumed inside a transaction.
+     */
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.fiap.hospital.appointment.domain.entities.BookedPeriod(a.doctorId, a.startTime, a.endTime) "
+            + "FROM Appointment a WHERE a.status = :status AND a.startTime < :to AND a.endTime > :from")
+    Stream<BookedPeriod> streamBookedPeriods(@Param("status") AppointmentStatus status,
+                                             @Param("from") LocalDateTime from,
+                                             @Param("to") LocalDateTime to);
+
+    @Query("SELECT new com.fiap.hospital.appointment.domain.entities.BookedPeriod(a.doctorId, a.startTime, a.endTime) "
+            + "FROM Appointment a WHERE a.doctorId = :doctorId AND a.status = :status "
+            + "AND a.startTime < :to AND a.endTime > :from")
+    List<BookedPeriod> findBookedPeriods(@Param("doctorId") Long doctorId,
+                                         @Param("status") AppointmentStatus status,
+                                         @Param("from") LocalDateTime from,
+                                         @Param("to") LocalDateTime to);
+}
@@ -0,0 +1,13 @@
+package com.fiap.hospital.appointment.domain.ports.persistence;
+
+import com.fiap.hospital.appointment.domain.entities.Doctor;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface DoctorRepositoryPort extends JpaRepository<Doctor, Long> {
+
+    List<Doctor> findBySpecialtyOrderByName(String specialty);
+}
@@ -0,0 +1,14 @@
+package com.fiap.hospital.appointment.domain.ports.persistence;
+
+import com.fiap.hospital.appointment.domain.entities.DoctorSchedule;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+@Repository
+public interface DoctorScheduleRepositoryPort extends JpaRepository<DoctorSchedule, Long> {
+
+    Optional<DoctorSchedule> findByDoctorIdAndDay(Long doctorId, LocalDate day);
+}
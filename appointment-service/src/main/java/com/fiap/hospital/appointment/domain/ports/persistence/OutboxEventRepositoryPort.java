@@ -0,0 +1,23 @@
+package com.fiap.hospital.appointment.domain.ports.persistence;
+
+import com.fiap.hospital.appointment.domain.entities.OutboxEvent;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepositoryPort extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * The oldest events, locked until the transaction ends. A relay on another instance waits on the first of
+     * them instead of skipping ahead, so events are never published out of order.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM OutboxEvent e ORDER BY e.id")
+    List<OutboxEvent> findOldestForUpdate(Pageable pageable);
+}
@@ -0,0 +1,271 @@
+package com.fiap.hospital.appointment.infrastructure.adapters.availability;
+
+import com.fiap.hospital.appointment.domain.entities.BookedPeriod;
+import com.fiap.hospital.appointment.domain.entities.Doctor;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Taken/free bitmap of every doctor's slots over a rolling horizon of days, one bit per slot, grouped by
+ * specialty. Slots are {@code slotDuration} long and cover the working hours of each day; a slot is taken as
+ * soon as any scheduled appointment overlaps it. Bit operations are atomic, so searches never block and run
+ * alongside updates; the doctors and the horizon are swapped as a whole with {@link #replace(Snapshot)}.
+ */
+public class AvailabilityIndex {
+
+    private static final int SECONDS_PER_DAY = 24 * 60 * 60;
+
+    private final int dayStartSecond;
+    private final int slotSeconds;
+    private final int slotsPerDay;
+    private final int horizonDays;
+    private volatile Snapshot snapshot;
+
+    public AvailabilityIndex(LocalTime dayStart, LocalTime dayEnd, Duration slotDuration, int horizonDays) {
+        if (!dayEnd.isAfter(dayStart) || slotDuration.isNegative() || slotDuration.isZero() || horizonDays < 1) {
+            throw new IllegalArgumentException("Invalid availability grid: " + dayStart + "-" + dayEnd
+                    + " every " + slotDuration + " for " + horizonDays + " day(s)");
+        }
+        this.dayStartSecond = dayStart.toSecondOfDay();
+        this.slotSeconds = (int) slotDuration.toSeconds();
+        this.slotsPerDay = (dayEnd.toSecondOfDay() - dayStartSecond) / slotSeconds;
+        this.horizonDays = horizonDays;
+        this.snapshot = new Snapshot(LocalDate.now(), Map.of(), Map.of());
+    }
+
+    /**
+     * Builds, without publishing it, an index of {@code doctors} over the horizon starting on {@code firstDay}.
+     */
+    public Snapshot build(LocalDate firstDay, Collection<Doctor> doctors, Iterable<BookedPeriod> bookedPeriods) {
+        Snapshot built = new Snapshot(firstDay, new HashMap<>(), new HashMap<>());
+        doctors.forEach(doctor -> built.add(new DoctorSlots(doctor.getId(), doctor.getName(),
+                normalize(doctor.getSpecialty()), new AtomicLongArray((totalSlots() + 63) / 64))));
+        for (BookedPeriod period : bookedPeriods) {
+            DoctorSlots slots = built.doctors.get(period.doctorId());
+            if (slots != null) {
+                update(built, slots, period.startTime(), period.endTime(), true);
+            }
+        }
+        return built;
+    }
+
+    public Snapshot current() {
+        return snapshot;
+    }
+
+    public void replace(Snapshot snapshot) {
+        this.snapshot = snapshot;
+    }
+
+    /**
+     * Adds a doctor with every slot free; a doctor already in the index keeps its slots.
+     */
+    public synchronized void addDoctor(Long doctorId, String name, String specialty) {
+        Snapshot current = snapshot;
+        if (current.doctors.containsKey(doctorId)) {
+            return;
+        }
+        Snapshot copy = new Snapshot(current.firstDay, new HashMap<>(current.doctors), new HashMap<>(current.bySpecialty));
+        copy.add(new DoctorSlots(doctorId, name, normalize(specialty), new AtomicLongArray((totalSlots() + 63) / 64)));
+        snapshot = copy;
+    }
+
+    public void markBooked(Long doctorId, LocalDateTime startTime, LocalDateTime endTime) {
+        Snapshot current = snapshot;
+        DoctorSlots slots = current.doctors.get(doctorId);
+        if (slots != null) {
+            update(current, slots, startTime, endTime, true);
+        }
+    }
+
+    /**
+     * Frees every slot overlapping {@code startTime} to {@code endTime}, then takes again those still overlapped
+     * by {@code stillBooked}, so a slot shared with another appointment stays taken.
+     */
+    public void markFree(Long doctorId, LocalDateTime startTime, LocalDateTime endTime, Iterable<BookedPeriod> stillBooked) {
+        Snapshot current = snapshot;
+        DoctorSlots slots = current.doctors.get(doctorId);
+        if (slots == null) {
+            return;
+        }
+        update(current, slots, startTime, endTime, false);
+        stillBooked.forEach(period -> update(current, slots, period.startTime(), period.endTime(), true));
+    }
+
+    /**
+     * The earliest free slot of each doctor of the specialty starting within {@code from} and {@code to},
+     * earliest first.
+     */
+    public List<AvailableSlot> findFirstAvailable(String specialty, LocalDateTime from, LocalDateTime to, int limit) {
+        Snapshot current = snapshot;
+        List<DoctorSlots> doctors = current.bySpecialty.getOrDefault(normalize(specialty), List.of());
+        int first = slotAtOrAfter(current.firstDay, from);
+        int last = slotAtOrAfter(current.firstDay, to);
+        List<int[]> found = new ArrayList<>();
+        for (int i = 0; i < doctors.size(); i++) {
+            int slot = firstFree(doctors.get(i).taken, first, last);
+            if (slot >= 0) {
+                found.add(new int[]{slot, i});
+            }
+        }
+        found.sort(Comparator.<int[]>comparingInt(entry -> entry[0])
+                .thenComparingLong(entry -> doctors.get(entry[1]).doctorId));
+
+        List<AvailableSlot> slots = new ArrayList<>(Math.min(limit, found.size()));
+        for (int i = 0; i < found.size() && i < limit; i++) {
+            DoctorSlots doctor = doctors.get(found.get(i)[1]);
+            LocalDateTime startTime = slotStart(current.firstDay, found.get(i)[0]);
+            slots.add(new AvailableSlot(doctor.doctorId, doctor.name, doctor.specialty, startTime,
+                    startTime.plusSeconds(slotSeconds)));
+        }
+        return slots;
+    }
+
+    /**
+     * Number of slots that differ between two indexes of the same horizon, counting every taken slot of a
+     * doctor present in only one of them.
+     */
+    public long countDifferences(Snapshot expected, Snapshot actual) {
+        long differences = 0;
+        for (DoctorSlots slots : expected.doctors.values()) {
+            DoctorSlots other = actual.doctors.get(slots.doctorId);
+            for (int w = 0; w < slots.taken.length(); w++) {
+                differences += Long.bitCount(slots.taken.get(w) ^ (other == null ? 0 : other.taken.get(w)));
+            }
+        }
+        for (DoctorSlots slots : actual.doctors.values()) {
+            if (!expected.doctors.containsKey(slots.doctorId)) {
+                for (int w = 0; w < slots.taken.length(); w++) {
+                    differences += Long.bitCount(slots.taken.get(w));
+                }
+            }
+        }
+        return differences;
+    }
+
+    public int totalSlots() {
+        return slotsPerDay * horizonDays;
+    }
+
+    public int horizonDays() {
+        return horizonDays;
+    }
+
+    private void update(Snapshot target, DoctorSlots slots, LocalDateTime startTime, LocalDateTime endTime, boolean taken) {
+        LocalDate lastDay = endTime.toLocalDate();
+        for (LocalDate day = startTime.toLocalDate(); !day.isAfter(lastDay); day = day.plusDays(1)) {
+            long dayIndex = ChronoUnit.DAYS.between(target.firstDay, day);
+            if (dayIndex < 0 || dayIndex >= horizonDays) {
+                continue;
+            }
+            int fromSecond = day.equals(startTime.toLocalDate()) ? startTime.toLocalTime().toSecondOfDay() : 0;
+            int toSecond = day.equals(lastDay) ? endTime.toLocalTime().toSecondOfDay() : SECONDS_PER_DAY;
+            int first = Math.max(0, Math.floorDiv(fromSecond - dayStartSecond, slotSeconds));
+            int last = Math.min(slotsPerDay, -Math.floorDiv(dayStartSecond - toSecond, slotSeconds));
+            if (first < last) {
+                int offset = (int) dayIndex * slotsPerDay;
+                setRange(slots.taken, offset + first, offset + last, taken);
+            }
+        }
+    }
+
+    private static void setRange(AtomicLongArray words, int from, int to, boolean value) {
+        for (int i = from; i < to; ) {
+            int word = i >>> 6;
+            int end = Math.min(to, (word + 1) << 6);
+            long mask = (end - i == 64 ? -1L : ((1L << (end - i)) - 1)) << (i & 63);
+            if (value) {
+                words.accumulateAndGet(word, mask, (current, m) -> current | m);
+            } else {
+                words.accumulateAndGet(word, ~mask, (current, m) -> current & m);
+            }
+            i = end;
+        }
+    }
+
+    private static int firstFree(AtomicLongArray words, int from, int to) {
+        for (int i = from; i < to; ) {
+            int word = i >>> 6;
+            long free = ~words.get(word) & (-1L << (i & 63));
+            if (free != 0) {
+                int slot = (word << 6) + Long.numberOfTrailingZeros(free);
+                return slot < to ? slot : -1;
+            }
+            i = (word + 1) << 6;
+        }
+        return -1;
+    }
+
+    private int slotAtOrAfter(LocalDate firstDay, LocalDateTime time) {
+        long dayIndex = ChronoUnit.DAYS.between(firstDay, time.toLocalDate());
+        if (dayIndex < 0) {
+            return 0;
+        }
+        if (dayIndex >= horizonDays) {
+            return totalSlots();
+        }
+        int second = time.toLocalTime().toSecondOfDay() - dayStartSecond;
+        int slot = second <= 0 ? 0 : -Math.floorDiv(-second, slotSeconds);
+        return (int) dayIndex * slotsPerDay + Math.min(slot, slotsPerDay);
+    }
+
+    private LocalDateTime slotStart(LocalDate firstDay, int slot) {
+        return firstDay.plusDays(slot / slotsPerDay)
+                .atStartOfDay()
+                .plusSeconds(dayStartSecond + (long) (slot % slotsPerDay) * slotSeconds);
+    }
+
+    static String normalize(String specialty) {
+        return specialty == null ? "" : specialty.trim().toLowerCase(Locale.ROOT);
+    }
+
+    public record AvailableSlot(Long doctorId, String doctorName, String specialty,
+                                LocalDateTime startTime, LocalDateTime endTime) {
+    }
+
+    /**
+     * The doctors and horizon of one index generation. Bits are shared with the copies made when a doctor is
+     * added, so updates reach every copy.
+     */
+    public static final class Snapshot {
+        private final LocalDate firstDay;
+        private final Map<Long, DoctorSlots> doctors;
+        private final Map<String, List<DoctorSlots>> bySpecialty;
+
+        private Snapshot(LocalDate firstDay, Map<Long, DoctorSlots> doctors, Map<String, List<DoctorSlots>> bySpecialty) {
+            this.firstDay = firstDay;
+            this.doctors = doctors;
+            this.bySpecialty = bySpecialty;
+        }
+
+        private void add(DoctorSlots slots) {
+            doctors.put(slots.doctorId, slots);
+            List<DoctorSlots> sameSpecialty = new ArrayList<>(bySpecialty.getOrDefault(slots.specialty, List.of()));
+            sameSpecialty.add(slots);
+            bySpecialty.put(slots.specialty, List.copyOf(sameSpecialty));
+        }
+
+        public LocalDate firstDay() {
+            return firstDay;
+        }
+
+        public int doctorCount() {
+            return doctors.size();
+        }
+    }
+
+    private record DoctorSlots(Long doctorId, String name, String specialty, AtomicLongArray taken) {
+    }
+}
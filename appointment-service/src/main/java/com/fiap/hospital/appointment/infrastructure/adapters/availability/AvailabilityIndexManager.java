@@ -0,0 +1,159 @@
+package com.fiap.hospital.appointment.infrastructure.adapters.availability;
+
+import com.fiap.hospital.appointment.domain.entities.BookedPeriod;
+import com.fiap.hospital.appointment.domain.entities.Doctor;
+import com.fiap.hospital.appointment.domain.enums.AppointmentStatus;
+import com.fiap.hospital.appointment.domain.events.AppointmentBookedEvent;
+import com.fiap.hospital.appointment.domain.events.AppointmentCancelledEvent;
+import com.fiap.hospital.appointment.domain.events.DoctorRegisteredEvent;
+import com.fiap.hospital.appointment.domain.ports.persistence.AppointmentRepositoryPort;
+import com.fiap.hospital.appointment.domain.ports.persistence.DoctorRepositoryPort;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Keeps the {@link AvailabilityIndex} in line with the database. It is loaded on startup, updated from the
+ * booking and cancellation events of this instance once their transaction commits, and rebuilt from the
+ * database every {@code appointment.availability.consistency-check-interval}. The rebuild reports how many slots
+ * had drifted, picks up changes made by other instances and moves the horizon forward after midnight.
+ * <p>
+ * Changes that happen while a rebuild reads the database are recorded and replayed on the rebuilt index
+ * before it replaces the current one, so none is lost in the swap.
+ */
+@Component
+@Slf4j
+public class AvailabilityIndexManager {
+
+    private final AvailabilityIndex index;
+    private final DoctorRepositoryPort doctorRepository;
+    private final AppointmentRepositoryPort appointmentRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+
+    private List<Consumer<AvailabilityIndex>> pendingReplay;
+    private volatile long lastDifferences;
+
+    public AvailabilityIndexManager(DoctorRepositoryPort doctorRepository,
+                                    AppointmentRepositoryPort appointmentRepository,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${appointment.availability.day-start:08:00}") LocalTime dayStart,
+                                    @Value("${appointment.availability.day-end:18:00}") LocalTime dayEnd,
+                                    @Value("${appointment.booking.slot-duration:30m}") Duration slotDuration,
+                                    @Value("${appointment.availability.horizon-days:14}") int horizonDays) {
+        this.doctorRepository = doctorRepository;
+        this.appointmentRepository = appointmentRepository;
+        this.index = new AvailabilityIndex(dayStart, dayEnd, slotDuration, horizonDays);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @PostConstruct
+    void load() {
+        rebuild(false);
+        log.info("Availability index loaded: {} doctor(s), {} slots each from {}", index.current().doctorCount(),
+                index.totalSlots(), index.current().firstDay());
+    }
+
+    public List<AvailabilityIndex.AvailableSlot> findFirstAvailable(String specialty, LocalDateTime from,
+                                                                    LocalDateTime to, int limit) {
+        return index.findFirstAvailable(specialty, from, to, limit);
+    }
+
+    @TransactionalEventListener
+    public void onAppointmentBooked(AppointmentBookedEvent event) {
+        apply(target -> target.markBooked(event.doctorId(), event.startTime(), event.endTime()));
+    }
+
+    @TransactionalEventListener
+    public void onAppointmentCancelled(AppointmentCancelledEvent event) {
+        apply(target -> target.markFree(event.doctorId(), event.startTime(), event.endTime(),
+                appointmentRepository.findBookedPeriods(event.doctorId(), AppointmentStatus.SCHEDULED,
+                        event.startTime().minusDays(1), event.endTime().plusDays(1))));
+    }
+
+    @TransactionalEventListener
+    public void onDoctorRegistered(DoctorRegisteredEvent event) {
+        apply(target -> target.addDoctor(event.doctorId(), event.name(), event.specialty()));
+    }
+
+    /**
+     * Rebuilds the index from the database and replaces the current one.
+     *
+     * @return the number of slots the current index had wrong
+     */
+    @Scheduled(fixedDelayString = "${appointment.availability.consistency-check-interval:PT10M}",
+            initialDelayString = "${appointment.availability.consistency-check-interval:PT10M}")
+    public long rebuild() {
+        return rebuild(true);
+    }
+
+    private synchronized long rebuild(boolean compare) {
+        swapLock.writeLock().lock();
+        try {
+            pendingReplay = new ArrayList<>();
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+
+        LocalDate firstDay = LocalDate.now();
+        AvailabilityIndex.Snapshot rebuilt = readOnlyTransaction.execute(status -> {
+            List<Doctor> doctors = doctorRepository.findAll();
+            try (Stream<BookedPeriod> booked = appointmentRepository.streamBookedPeriods(AppointmentStatus.SCHEDULED,
+                    firstDay.atStartOfDay(), firstDay.plusDays(index.horizonDays()).atStartOfDay())) {
+                return index.build(firstDay, doctors, booked::iterator);
+            }
+        });
+
+        swapLock.writeLock().lock();
+        try {
+            AvailabilityIndex.Snapshot previous = index.current();
+            index.replace(rebuilt);
+            pendingReplay.forEach(change -> change.accept(index));
+            pendingReplay = null;
+            // After midnight the horizons differ and there is nothing to compare
+            lastDifferences = compare && previous.firstDay().equals(firstDay)
+                    ? index.countDifferences(index.current(), previous) : 0;
+            if (lastDifferences > 0) {
+                log.warn("Availability index had {} slot(s) out of date, replaced from the database", lastDifferences);
+            }
+            return lastDifferences;
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+    }
+
+    public long lastDifferences() {
+        return lastDifferences;
+    }
+
+    private void apply(Consumer<AvailabilityIndex> change) {
+        swapLock.readLock().lock();
+        try {
+            change.accept(index);
+            if (pendingReplay != null) {
+                synchronized (pendingReplay) {
+                    pendingReplay.add(change);
+                }
+            }
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.fiap.hospital.appointment.infrastructure.adapters.locking;
+
+/**
+ * Another booking for the same doctor is in progress. Retrying shortly is expected to succeed.
+ */
+public class BookingContentionException extends RuntimeException {
+
+    public BookingContentionException(String message) {
+        super(message);
+    }
+}
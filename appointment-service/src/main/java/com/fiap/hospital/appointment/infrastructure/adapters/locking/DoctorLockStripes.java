@@ -0,0 +1,61 @@
+package com.fiap.hospital.appointment.infrastructure.adapters.locking;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Fixed set of locks that doctors are hashed onto, so bookings for one doctor run one at a time on this instance
+ * without a lock per doctor or any database lock. A caller that cannot get its stripe within
+ * {@code appointment.booking.lock-timeout} fails right away instead of queueing behind the rush.
+ */
+@Component
+@Slf4j
+public class DoctorLockStripes {
+
+    private final ReentrantLock[] locks;
+    private final Duration timeout;
+
+    public DoctorLockStripes(@Value("${appointment.booking.lock-stripes:256}") int stripes,
+                             @Value("${appointment.booking.lock-timeout:50ms}") Duration timeout) {
+        int size = stripes <= 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+        this.locks = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        this.timeout = timeout;
+        log.info("Booking locks striped {} ways (timeout {})", size, timeout);
+    }
+
+    /**
+     * @throws BookingContentionException if the doctor's stripe is not free within the timeout
+     */
+    public <T> T callLocked(long doctorId, Supplier<T> action) {
+        ReentrantLock lock = locks[stripe(doctorId)];
+        boolean acquired;
+        try {
+            acquired = lock.tryLock(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BookingContentionException("Interrupted while waiting for the doctor's calendar");
+        }
+        if (!acquired) {
+            throw new BookingContentionException("Doctor's calendar is busy, try again");
+        }
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int stripe(long doctorId) {
+        long hash = doctorId * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & (locks.length - 1);
+    }
+}
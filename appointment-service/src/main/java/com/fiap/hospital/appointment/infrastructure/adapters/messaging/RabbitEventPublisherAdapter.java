@@ -0,0 +1,98 @@
+package com.fiap.hospital.appointment.infrastructure.adapters.messaging;
+
+import com.fiap.hospital.appointment.domain.entities.OutboxEvent;
+import com.fiap.hospital.appointment.domain.ports.messaging.EventPublisherPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Publishes events to the appointments topic exchange with the event type as routing key. The whole batch
+ * is sent before waiting, so it costs one round trip to the broker rather than one per event. An event counts
+ * as published only when the broker acks it and did not return it as unroutable (the template is mandatory).
+ */
+@Component
+@Slf4j
+public class RabbitEventPublisherAdapter implements EventPublisherPort {
+
+    public static final String APPOINTMENT_ID_HEADER = "x-appointment-id";
+
+    private final RabbitTemplate rabbitTemplate;
+    private final String exchange;
+    private final Duration confirmTimeout;
+
+    public RabbitEventPublisherAdapter(RabbitTemplate rabbitTemplate,
+                                       @Value("${appointment.outbox.exchange:hospital.appointments}") String exchange,
+                                       @Value("${appointment.outbox.confirm-timeout:5s}") Duration confirmTimeout) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.exchange = exchange;
+        this.confirmTimeout = confirmTimeout;
+    }
+
+    @Override
+    public Set<Long> publish(List<OutboxEvent> events) {
+        List<CorrelationData> sent = new ArrayList<>(events.size());
+        for (OutboxEvent event : events) {
+            CorrelationData correlation = new CorrelationData(event.getEventId());
+            rabbitTemplate.send(exchange, event.getEventType(), toMessage(event), correlation);
+            sent.add(correlation);
+        }
+
+        Set<Long> confirmed = new HashSet<>();
+        long deadline = System.nanoTime() + confirmTimeout.toNanos();
+        for (int i = 0; i < sent.size(); i++) {
+            OutboxEvent event = events.get(i);
+            CorrelationData correlation = sent.get(i);
+            try {
+                CorrelationData.Confirm confirm = correlation.getFuture()
+                        .get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                if (!confirm.isAck()) {
+                    log.warn("Broker rejected event {} ({}): {}", event.getEventId(), event.getEventType(), confirm.getReason());
+                } else if (correlation.getReturned() != null) {
+                    log.warn("Event {} ({}) was returned unroutable: {}", event.getEventId(), event.getEventType(),
+                            correlation.getReturned().getReplyText());
+                } else {
+                    confirmed.add(event.getId());
+                }
+            } catch (TimeoutException e) {
+                log.warn("No confirm for event {} within {}", event.getEventId(), confirmTimeout);
+            } catch (ExecutionException e) {
+                log.warn("Publishing event {} failed", event.getEventId(), e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        return confirmed;
+    }
+
+    private static Message toMessage(OutboxEvent event) {
+        return MessageBuilder.withBody(event.getPayload().getBytes(StandardCharsets.UTF_8))
+                .setContentType(MessageProperties.CONTENT_TYPE_JSON)
+                .setContentEncoding(StandardCharsets.UTF_8.name())
+                .setMessageId(event.getEventId())
+                .setType(event.getEventType())
+                .setTimestamp(Date.from(event.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant()))
+                .setHeader(APPOINTMENT_ID_HEADER, event.getAggregateId())
+                .setDeliveryMode(MessageDeliveryMode.PERSISTENT)
+                .build();
+    }
+}
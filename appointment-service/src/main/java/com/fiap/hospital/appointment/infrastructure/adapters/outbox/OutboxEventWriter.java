@@ -0,0 +1,69 @@
+package com.fiap.hospital.appointment.infrastructure.adapters.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fiap.hospital.appointment.domain.entities.OutboxEvent;
+import com.fiap.hospital.appointment.domain.events.AppointmentBookedEvent;
+import com.fiap.hospital.appointment.domain.events.AppointmentCancelledEvent;
+import com.fiap.hospital.appointment.domain.ports.persistence.OutboxEventRepositoryPort;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+
+/**
+ * Writes booking and cancellation events to the outbox in the transaction that publishes them, so the event
+ * is stored if and only if the change commits, and wakes the {@link OutboxRelay} once it has.
+ */
+@Component
+public class OutboxEventWriter {
+
+    private final OutboxEventRepositoryPort outboxRepository;
+    private final ObjectMapper objectMapper;
+    private final OutboxRelay relay;
+
+    public OutboxEventWriter(OutboxEventRepositoryPort outboxRepository, ObjectMapper objectMapper, OutboxRelay relay) {
+        this.outboxRepository = outboxRepository;
+        this.objectMapper = objectMapper;
+        this.relay = relay;
+    }
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onAppointmentBooked(AppointmentBookedEvent event) {
+        append(event.appointmentId(), AppointmentBookedEvent.TYPE, event);
+    }
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onAppointmentCancelled(AppointmentCancelledEvent event) {
+        append(event.appointmentId(), AppointmentCancelledEvent.TYPE, event);
+    }
+
+    private void append(Long appointmentId, String eventType, Object event) {
+        outboxRepository.save(OutboxEvent.builder()
+                .eventId(UUID.randomUUID().toString())
+                .aggregateId(appointmentId)
+                .eventType(eventType)
+                .payload(toJson(event))
+                .build());
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                relay.eventCommitted();
+            }
+        });
+    }
+
+    private String toJson(Object event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize " + event, e);
+        }
+    }
+}
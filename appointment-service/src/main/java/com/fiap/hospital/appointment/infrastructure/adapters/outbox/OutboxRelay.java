@@ -0,0 +1,179 @@
+package com.fiap.hospital.appointment.infrastructure.adapters.outbox;
+
+import com.fiap.hospital.appointment.domain.entities.OutboxEvent;
+import com.fiap.hospital.appointment.domain.ports.messaging.EventPublisherPort;
+import com.fiap.hospital.appointment.domain.ports.persistence.OutboxEventRepositoryPort;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Drains the outbox to the broker on a thread of its own, off the booking path. Committed events wake it up;
+ * it then lingers up to {@code appointment.outbox.linger} for a full batch of {@code batch-size} events and
+ * publishes them with one wait for the broker's confirms. Confirmed events are deleted in the transaction that
+ * locked them; the others stay and are retried after {@code poll-interval}, which also bounds how long an
+ * event left behind by a crash or another instance waits.
+ * <p>
+ * Events of an appointment are published in the order they were written: a batch carries at most one event
+ * per appointment, so a later event is only sent once the earlier one was confirmed. Events of the same
+ * appointment are written under its doctor's lock, so their ids follow their commit order.
+ */
+@Component
+@Slf4j
+public class OutboxRelay implements DisposableBean {
+
+    private final OutboxEventRepositoryPort outboxRepository;
+    private final EventPublisherPort publisher;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+    private final Duration linger;
+    private final Duration pollInterval;
+
+    private final Object monitor = new Object();
+    private int committed;
+    private volatile boolean running;
+    private Thread thread;
+
+    public OutboxRelay(OutboxEventRepositoryPort outboxRepository,
+                       EventPublisherPort publisher,
+                       PlatformTransactionManager transactionManager,
+                       @Value("${appointment.outbox.relay-enabled:true}") boolean enabled,
+                       @Value("${appointment.outbox.batch-size:100}") int batchSize,
+                       @Value("${appointment.outbox.linger:20ms}") Duration linger,
+                       @Value("${appointment.outbox.poll-interval:1s}") Duration pollInterval) {
+        this.outboxRepository = outboxRepository;
+        this.publisher = publisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.linger = linger;
+        this.pollInterval = pollInterval;
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            log.info("Outbox relay disabled");
+            return;
+        }
+        running = true;
+        thread = new Thread(this::run, "outbox-relay");
+        thread.setDaemon(true);
+        thread.start();
+        log.info("Outbox relay started (batchSize={}, linger={}, pollInterval={})", batchSize, linger, pollInterval);
+    }
+
+    /**
+     * Called after a transaction that wrote an event commits.
+     */
+    public void eventCommitted() {
+        synchronized (monitor) {
+            committed++;
+            if (committed == 1 || committed >= batchSize) {
+                monitor.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Publishes the oldest events of the outbox, at most one per appointment, and deletes those confirmed.
+     */
+    public BatchResult relayBatch() {
+        return transactionTemplate.execute(status -> {
+            List<OutboxEvent> oldest = outboxRepository.findOldestForUpdate(PageRequest.of(0, batchSize));
+            Set<Long> appointments = new HashSet<>();
+            List<OutboxEvent> batch = new ArrayList<>(oldest.size());
+            for (OutboxEvent event : oldest) {
+                if (appointments.add(event.getAggregateId())) {
+                    batch.add(event);
+                }
+            }
+            Set<Long> confirmed = batch.isEmpty() ? Set.of() : publisher.publish(batch);
+            outboxRepository.deleteAllByIdInBatch(confirmed);
+            return new BatchResult(oldest.size(), confirmed.size(), batch.size() - confirmed.size(),
+                    oldest.size() - batch.size());
+        });
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                awaitEvents();
+                BatchResult result;
+                do {
+                    result = relayBatch();
+                } while (running && result.failed() == 0 && (result.fetched() == batchSize || result.deferred() > 0));
+                if (result.failed() > 0) {
+                    log.warn("{} outbox event(s) not confirmed, retrying in {}", result.failed(), pollInterval);
+                    Thread.sleep(pollInterval.toMillis());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.warn("Outbox relay failed, retrying in {}", pollInterval, e);
+                try {
+                    Thread.sleep(pollInterval.toMillis());
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Waits for a first committed event or the poll interval, then for a full batch or the linger time.
+     */
+    private void awaitEvents() throws InterruptedException {
+        synchronized (monitor) {
+            if (committed == 0 && running) {
+                monitor.wait(pollInterval.toMillis());
+            }
+            long deadline = System.nanoTime() + linger.toNanos();
+            long remaining;
+            while (running && committed > 0 && committed < batchSize && (remaining = deadline - System.nanoTime()) > 0) {
+                TimeUnit.NANOSECONDS.timedWait(monitor, remaining);
+            }
+            committed = 0;
+        }
+    }
+
+    /**
+     * Lets the batch in flight finish, so its confirmed events are deleted rather than published again.
+     */
+    @Override
+    public void destroy() throws InterruptedException {
+        if (thread == null) {
+            return;
+        }
+        running = false;
+        synchronized (monitor) {
+            monitor.notifyAll();
+        }
+        thread.join(TimeUnit.SECONDS.toMillis(10));
+        thread.interrupt();
+    }
+
+    /**
+     * @param fetched   events read from the outbox
+     * @param published events confirmed by the broker and deleted
+     * @param failed    events sent but not confirmed
+     * @param deferred  events left for a later batch behind an earlier event of the same appointment
+     */
+    public record BatchResult(int fetched, int published, int failed, int deferred) {
+    }
+}
@@ -0,0 +1,45 @@
+package com.fiap.hospital.appointment.infrastructure.adapters.persistence;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Locale;
+
+/**
+ * Tells which constraint a failed write violated, from the SQLState and the constraint name the dialect
+ * extracted rather than from the wording of the driver's message.
+ */
+public final class ConstraintViolations {
+
+    private static final String UNIQUE_VIOLATION = "23505";
+
+    private ConstraintViolations() {
+    }
+
+    /**
+     * Whether the write broke the unique constraint named {@code constraint}.
+     */
+    public static boolean isUniqueViolation(DataIntegrityViolationException e, String constraint) {
+        return isViolation(e, UNIQUE_VIOLATION, constraint);
+    }
+
+    /**
+     * Whether the write broke the exclusion constraint named {@code constraint}; the name is only extracted by
+     * {@link ExclusionConstraintPostgreSQLDialect}.
+     */
+    public static boolean isExclusionViolation(DataIntegrityViolationException e, String constraint) {
+        return isViolation(e, ExclusionConstraintPostgreSQLDialect.EXCLUSION_VIOLATION, constraint);
+    }
+
+    // Some databases report the name qualified with the schema or the backing index, so it only has to appear in it
+    private static boolean isViolation(DataIntegrityViolationException e, String sqlState, String constraint) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                String name = violation.getConstraintName();
+                return sqlState.equals(violation.getSQLState()) && name != null
+                        && name.toLowerCase(Locale.ROOT).contains(constraint.toLowerCase(Locale.ROOT));
+            }
+        }
+        return false;
+    }
+}
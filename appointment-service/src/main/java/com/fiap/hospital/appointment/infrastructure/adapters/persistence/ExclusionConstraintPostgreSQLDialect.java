@@ -0,0 +1,45 @@
+package com.fiap.hospital.appointment.infrastructure.adapters.persistence;
+
+import org.hibernate.dialect.DatabaseVersion;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.jdbc.dialect.spi.DialectResolutionInfo;
+import org.hibernate.exception.spi.TemplatedViolatedConstraintNameExtractor;
+import org.hibernate.exception.spi.ViolatedConstraintNameExtractor;
+import org.hibernate.internal.util.JdbcExceptionHelper;
+
+/**
+ * PostgreSQL dialect that also names the violated constraint of an exclusion violation (SQLState 23P01),
+ * which Hibernate's own extractor leaves unnamed, so a double booking can be told apart from other failures
+ * by {@link ConstraintViolations}.
+ */
+public class ExclusionConstraintPostgreSQLDialect extends PostgreSQLDialect {
+
+    static final String EXCLUSION_VIOLATION = "23P01";
+
+    private static final ViolatedConstraintNameExtractor EXCLUSION_EXTRACTOR = new TemplatedViolatedConstraintNameExtractor(
+            sqle -> EXCLUSION_VIOLATION.equals(JdbcExceptionHelper.extractSqlState(sqle))
+                    ? TemplatedViolatedConstraintNameExtractor.extractUsingTemplate(
+                            "violates exclusion constraint \"", "\"", sqle.getMessage())
+                    : null);
+
+    public ExclusionConstraintPostgreSQLDialect() {
+        super();
+    }
+
+    public ExclusionConstraintPostgreSQLDialect(DatabaseVersion version) {
+        super(version);
+    }
+
+    public ExclusionConstraintPostgreSQLDialect(DialectResolutionInfo info) {
+        super(info);
+    }
+
+    @Override
+    public ViolatedConstraintNameExtractor getViolatedConstraintNameExtractor() {
+        ViolatedConstraintNameExtractor postgres = super.getViolatedConstraintNameExtractor();
+        return sqle -> {
+            String name = EXCLUSION_EXTRACTOR.extractConstraintName(sqle);
+            return name != null ? name : postgres.extractConstraintName(sqle);
+        };
+    }
+}
@@ -0,0 +1,19 @@
+package com.fiap.hospital.appointment.infrastructure.config;
+
+import org.springframework.amqp.core.ExchangeBuilder;
+import org.springframework.amqp.core.TopicExchange;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Declares the exchange appointment events are published to; consumers declare and bind their own queues.
+ */
+@Configuration
+public class MessagingConfiguration {
+
+    @Bean
+    public TopicExchange appointmentsExchange(@Value("${appointment.outbox.exchange:hospital.appointments}") String exchange) {
+        return ExchangeBuilder.topicExchange(exchange).durable(true).build();
+    }
+}
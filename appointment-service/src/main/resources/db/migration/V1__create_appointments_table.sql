@@ -0,0 +1,32 @@
+-- Lets the exclusion constraint combine the doctor_id equality with the time range overlap in one GiST index
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+CREATE TABLE appointments (
+    id BIGSERIAL PRIMARY KEY,
+    doctor_id BIGINT NOT NULL,
+    patient_id BIGINT NOT NULL,
+    start_time TIMESTAMP NOT NULL,
+    end_time TIMESTAMP NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    version BIGINT NOT NULL DEFAULT 0,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT ck_appointments_time_range CHECK (end_time > start_time),
+    -- No two scheduled appointments of a doctor may overlap; cancelled ones free their slot
+    CONSTRAINT ex_appointments_no_overlap EXCLUDE USING gist (
+        doctor_id WITH =,
+        tsrange(start_time, end_time, '[)') WITH &&
+    ) WHERE (status = 'SCHEDULED')
+);
+
+CREATE INDEX idx_appointments_doctor_start ON appointments(doctor_id, start_time);
+CREATE INDEX idx_appointments_patient ON appointments(patient_id);
+
+CREATE TABLE doctor_schedules (
+    id BIGSERIAL PRIMARY KEY,
+    doctor_id BIGINT NOT NULL,
+    schedule_day DATE NOT NULL,
+    booked_slots INTEGER NOT NULL DEFAULT 0,
+    version BIGINT NOT NULL DEFAULT 0,
+    CONSTRAINT uk_doctor_schedules_doctor_day UNIQUE (doctor_id, schedule_day)
+);
@@ -0,0 +1,8 @@
+CREATE TABLE doctors (
+    id BIGINT PRIMARY KEY,
+    name VARCHAR(100) NOT NULL,
+    specialty VARCHAR(50) NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_doctors_specialty ON doctors(specialty);
@@ -0,0 +1,115 @@
+package com.fiap.hospital.appointment.application.adapters.service;
+
+import com.fiap.hospital.appointment.application.dto.BookAppointmentRequestDTO;
+import com.fiap.hospital.appointment.application.exception.GlobalExceptionHandler;
+import com.fiap.hospital.appointment.application.exception.SlotUnavailableException;
+import com.fiap.hospital.appointment.domain.entities.DoctorSchedule;
+import com.fiap.hospital.appointment.domain.ports.persistence.AppointmentRepositoryPort;
+import com.fiap.hospital.appointment.domain.ports.persistence.DoctorScheduleRepositoryPort;
+import com.fiap.hospital.appointment.infrastructure.adapters.locking.BookingContentionException;
+import com.fiap.hospital.appointment.infrastructure.adapters.locking.DoctorLockStripes;
+import com.fiap.hospital.appointment.infrastructure.adapters.persistence.ExclusionConstraintPostgreSQLDialect;
+import org.hibernate.JDBCException;
+import org.hibernate.exception.ConstraintViolationException;
+import org.hibernate.exception.internal.SQLExceptionTypeDelegate;
+import org.hibernate.exception.internal.SQLStateConversionDelegate;
+import org.hibernate.exception.internal.StandardSQLExceptionConverter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * The H2 test database has neither the exclusion constraint nor concurrent instances, so the violations they
+ * cause on Postgres are raised here by the mocked transaction manager and repositories.
+ */
+public class AppointmentConstraintViolationTest {
+
+    private static final LocalDate DAY = LocalDate.now().plusDays(7);
+    private static final ExclusionConstraintPostgreSQLDialect DIALECT = new ExclusionConstraintPostgreSQLDialect();
+
+    private final AppointmentRepositoryPort appointmentRepository = mock(AppointmentRepositoryPort.class);
+    private final DoctorScheduleRepositoryPort scheduleRepository = mock(DoctorScheduleRepositoryPort.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private AppointmentServiceAdapter appointmentService;
+
+    @BeforeEach
+    void setUp() {
+        when(appointmentRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        appointmentService = new AppointmentServiceAdapter(appointmentRepository, scheduleRepository,
+                new DoctorLockStripes(4, Duration.ofMillis(50)), transactionManager,
+                mock(ApplicationEventPublisher.class), Duration.ofMinutes(30));
+    }
+
+    @Test
+    void testBook_ExclusionConstraintViolationOnCommitIsAConflict() {
+        doThrow(violation("conflicting key value violates exclusion constraint \"ex_appointments_no_overlap\"", "23P01"))
+                .when(transactionManager).commit(any());
+
+        SlotUnavailableException conflict = assertThrows(SlotUnavailableException.class,
+                () -> appointmentService.book(request()));
+
+        assertEquals(HttpStatus.CONFLICT, new GlobalExceptionHandler().handleSlotUnavailableException(conflict)
+                .getStatusCode());
+    }
+
+    @Test
+    void testBook_ScheduleDayCreatedConcurrentlyIsContention() {
+        doThrow(violation("duplicate key value violates unique constraint \"uk_doctor_schedules_doctor_day\"", "23505"))
+                .when(transactionManager).commit(any());
+
+        BookingContentionException contention = assertThrows(BookingContentionException.class,
+                () -> appointmentService.book(request()));
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, new GlobalExceptionHandler()
+                .handleBookingContentionException(contention).getStatusCode());
+    }
+
+    @Test
+    void testBook_StaleScheduleVersionIsContention() {
+        when(scheduleRepository.save(any())).thenThrow(new ObjectOptimisticLockingFailureException(DoctorSchedule.class, 1L));
+
+        assertThrows(BookingContentionException.class, () -> appointmentService.book(request()));
+    }
+
+    @Test
+    void testBook_OtherViolationIsRethrown() {
+        DataIntegrityViolationException notNull = violation(
+                "null value in column \"patient_id\" of relation \"appointments\" violates not-null constraint", "23502");
+        doThrow(notNull).when(transactionManager).commit(any());
+
+        assertSame(notNull, assertThrows(DataIntegrityViolationException.class, () -> appointmentService.book(request())));
+    }
+
+    /**
+     * Converts the driver's error the way Hibernate does with the dialect of the service, so the constraint name
+     * is the one the dialect extracts from it.
+     */
+    private static DataIntegrityViolationException violation(String message, String sqlState) {
+        JDBCException converted = new StandardSQLExceptionConverter(DIALECT.buildSQLExceptionConversionDelegate(),
+                new SQLExceptionTypeDelegate(DIALECT), new SQLStateConversionDelegate(DIALECT))
+                .convert(new SQLException("ERROR: " + message, sqlState), "could not execute statement", "insert");
+        assertInstanceOf(ConstraintViolationException.class, converted);
+        return new DataIntegrityViolationException("could not execute statement", converted);
+    }
+
+    private static BookAppointmentRequestDTO request() {
+        return BookAppointmentRequestDTO.builder()
+                .doctorId(301L)
+                .patientId(1L)
+                .startTime(DAY.atTime(10, 0))
+                .durationMinutes(30)
+                .build();
+    }
+}
@@ -0,0 +1,139 @@
+package com.fiap.hospital.appointment.application.adapters.service;
+
+import com.fiap.hospital.appointment.application.dto.BookAppointmentRequestDTO;
+import com.fiap.hospital.appointment.application.exception.SlotUnavailableException;
+import com.fiap.hospital.appointment.domain.entities.Appointment;
+import com.fiap.hospital.appointment.domain.enums.AppointmentStatus;
+import com.fiap.hospital.appointment.domain.ports.persistence.DoctorScheduleRepositoryPort;
+import com.fiap.hospital.appointment.infrastructure.adapters.locking.BookingContentionException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class AppointmentServiceAdapterTest {
+
+    private static final LocalDate DAY = LocalDate.now().plusDays(7);
+
+    @Autowired
+    private AppointmentServiceAdapter appointmentService;
+
+    @Autowired
+    private DoctorScheduleRepositoryPort scheduleRepository;
+
+    @Test
+    void testBook_OverlappingSlotIsRejectedAndAdjacentSlotIsNot() {
+        Appointment booked = appointmentService.book(request(101L, 1L, DAY.atTime(9, 0), 30));
+
+        SlotUnavailableException overlap = assertThrows(SlotUnavailableException.class,
+                () -> appointmentService.book(request(101L, 2L, DAY.atTime(9, 15), 30)));
+        Appointment adjacent = appointmentService.book(request(101L, 2L, DAY.atTime(9, 30), 30));
+        Appointment otherDoctor = appointmentService.book(request(102L, 2L, DAY.atTime(9, 0), 30));
+
+        assertTrue(overlap.getMessage().contains("already booked"));
+        assertEquals(DAY.atTime(9, 30), booked.getEndTime());
+        assertEquals(List.of(booked.getId(), adjacent.getId()),
+                appointmentService.findScheduled(101L, DAY).stream().map(Appointment::getId).toList());
+        assertEquals(AppointmentStatus.SCHEDULED, otherDoctor.getStatus());
+    }
+
+    @Test
+    void testCancel_FreesTheSlot() {
+        Appointment booked = appointmentService.book(request(103L, 1L, DAY.atTime(10, 0), null));
+        assertEquals(DAY.atTime(10, 30), booked.getEndTime());
+
+        Appointment cancelled = appointmentService.cancel(booked.getId());
+        Appointment rebooked = appointmentService.book(request(103L, 2L, DAY.atTime(10, 0), null));
+
+        assertEquals(AppointmentStatus.CANCELLED, cancelled.getStatus());
+        assertEquals(AppointmentStatus.CANCELLED, appointmentService.cancel(booked.getId()).getStatus());
+        assertEquals(List.of(rebooked.getId()),
+                appointmentService.findScheduled(103L, DAY).stream().map(Appointment::getId).toList());
+        assertEquals(1, scheduleRepository.findByDoctorIdAndDay(103L, DAY).orElseThrow().getBookedSlots());
+    }
+
+    @Test
+    void testBook_ManyThreadsHammeringOneDoctorNeverDoubleBook() throws Exception {
+        long doctorId = 104L;
+        int threads = 32;
+        List<LocalDateTime> slots = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            slots.add(DAY.atTime(8, 0).plusMinutes(30L * i));
+        }
+        AtomicInteger booked = new AtomicInteger();
+        AtomicInteger unavailable = new AtomicInteger();
+        AtomicInteger contended = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                long patientId = t;
+                results.add(executor.submit(() -> {
+                    List<LocalDateTime> wanted = new ArrayList<>(slots);
+                    Collections.shuffle(wanted);
+                    start.await();
+                    for (LocalDateTime slot : wanted) {
+                        // Shifted starts overlap neighbouring slots, which must be rejected as well
+                        LocalDateTime startTime = patientId % 2 == 0 ? slot : slot.plusMinutes(15);
+                        while (true) {
+                            try {
+                                appointmentService.book(request(doctorId, patientId, startTime, 30));
+                                booked.incrementAndGet();
+                                break;
+                            } catch (SlotUnavailableException e) {
+                                unavailable.incrementAndGet();
+                                break;
+                            } catch (BookingContentionException e) {
+                                contended.incrementAndGet();
+                            }
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> result : results) {
+                result.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        List<Appointment> scheduled = appointmentService.findScheduled(doctorId, DAY);
+        for (int i = 1; i < scheduled.size(); i++) {
+            assertFalse(scheduled.get(i).getStartTime().isBefore(scheduled.get(i - 1).getEndTime()),
+                    "Overlapping appointments " + scheduled.get(i - 1) + " and " + scheduled.get(i));
+        }
+        assertEquals(booked.get(), scheduled.size());
+        assertEquals(threads * slots.size(), booked.get() + unavailable.get());
+        assertTrue(scheduled.size() >= slots.size() / 2, "Only " + scheduled.size() + " slots booked");
+        assertEquals(scheduled.size(), scheduleRepository.findByDoctorIdAndDay(doctorId, DAY).orElseThrow().getBookedSlots());
+    }
+
+    private static BookAppointmentRequestDTO request(Long doctorId, Long patientId, LocalDateTime startTime,
+                                                     Integer durationMinutes) {
+        return BookAppointmentRequestDTO.builder()
+                .doctorId(doctorId)
+                .patientId(patientId)
+                .startTime(startTime)
+                .durationMinutes(durationMinutes)
+                .build();
+    }
+}
@@ -0,0 +1,106 @@
+package com.fiap.hospital.appointment.application.adapters.service;
+
+import com.fiap.hospital.appointment.application.dto.AvailableSlotDTO;
+import com.fiap.hospital.appointment.application.dto.BookAppointmentRequestDTO;
+import com.fiap.hospital.appointment.application.dto.RegisterDoctorRequestDTO;
+import com.fiap.hospital.appointment.application.exception.DoctorAlreadyExistsException;
+import com.fiap.hospital.appointment.domain.entities.Appointment;
+import com.fiap.hospital.appointment.domain.enums.AppointmentStatus;
+import com.fiap.hospital.appointment.domain.ports.persistence.AppointmentRepositoryPort;
+import com.fiap.hospital.appointment.infrastructure.adapters.availability.AvailabilityIndexManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class AvailabilityServiceAdapterTest {
+
+    private static final LocalDate DAY = LocalDate.now().plusDays(2);
+
+    @Autowired
+    private AvailabilityServiceAdapter availabilityService;
+
+    @Autowired
+    private DoctorServiceAdapter doctorService;
+
+    @Autowired
+    private AppointmentServiceAdapter appointmentService;
+
+    @Autowired
+    private AppointmentRepositoryPort appointmentRepository;
+
+    @Autowired
+    private AvailabilityIndexManager indexManager;
+
+    @Test
+    void testFindAvailable_FollowsBookingsAndCancellations() {
+        doctorService.register(doctor(201L, "Ana Cardio", "Pediatric Cardiology"));
+        doctorService.register(doctor(202L, "Bruno Cardio", "pediatric cardiology"));
+
+        Appointment first = appointmentService.book(booking(201L, DAY.atTime(8, 0)));
+        appointmentService.book(booking(202L, DAY.atTime(8, 0)));
+        appointmentService.book(booking(202L, DAY.atTime(8, 30)));
+
+        List<AvailableSlotDTO> slots = search("pediatric cardiology");
+        assertEquals(List.of(201L, 202L), slots.stream().map(AvailableSlotDTO::getDoctorId).toList());
+        assertEquals(DAY.atTime(8, 30), slots.get(0).getStartTime());
+        assertEquals(DAY.atTime(9, 0), slots.get(1).getStartTime());
+        assertEquals("Ana Cardio", slots.get(0).getDoctorName());
+
+        appointmentService.cancel(first.getId());
+        assertEquals(DAY.atTime(8, 0), search("pediatric cardiology").get(0).getStartTime());
+        assertEquals(0, indexManager.rebuild());
+    }
+
+    @Test
+    void testRebuild_RepairsBookingsTheIndexDidNotSee() {
+        doctorService.register(doctor(203L, "Carla Derma", "Pediatric Dermatology"));
+        // Written directly, as another instance would, so no event reaches this instance's index
+        appointmentRepository.save(Appointment.builder()
+                .doctorId(203L)
+                .patientId(1L)
+                .startTime(DAY.atTime(8, 0))
+                .endTime(DAY.atTime(8, 30))
+                .status(AppointmentStatus.SCHEDULED)
+                .build());
+        assertEquals(DAY.atTime(8, 0), search("pediatric dermatology").get(0).getStartTime());
+
+        assertEquals(1, indexManager.rebuild());
+        assertEquals(DAY.atTime(8, 30), search("pediatric dermatology").get(0).getStartTime());
+        assertEquals(0, indexManager.rebuild());
+    }
+
+    @Test
+    void testRegister_DuplicateDoctorIsRejected() {
+        doctorService.register(doctor(204L, "Davi Neuro", "Neurology"));
+
+        assertThrows(DoctorAlreadyExistsException.class,
+                () -> doctorService.register(doctor(204L, "Davi Neuro", "Neurology")));
+        assertEquals(List.of(204L), doctorService.findBySpecialty(" NEUROLOGY").stream().map(d -> d.getId()).toList());
+    }
+
+    private List<AvailableSlotDTO> search(String specialty) {
+        return availabilityService.findAvailable(specialty, DAY.atStartOfDay(), DAY.plusDays(1).atStartOfDay(), 10);
+    }
+
+    private static RegisterDoctorRequestDTO doctor(Long id, String name, String specialty) {
+        return RegisterDoctorRequestDTO.builder().id(id).name(name).specialty(specialty).build();
+    }
+
+    private static BookAppointmentRequestDTO booking(Long doctorId, LocalDateTime startTime) {
+        return BookAppointmentRequestDTO.builder()
+                .doctorId(doctorId)
+                .patientId(1L)
+                .startTime(startTime)
+                .durationMinutes(30)
+                .build();
+    }
+}
@@ -0,0 +1,115 @@
+package com.fiap.hospital.appointment.infrastructure.adapters.availability;
+
+import com.fiap.hospital.appointment.domain.entities.BookedPeriod;
+import com.fiap.hospital.appointment.domain.entities.Doctor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AvailabilityIndexTest {
+
+    private static final LocalDate DAY = LocalDate.of(2030, 3, 11);
+
+    private AvailabilityIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new AvailabilityIndex(LocalTime.of(8, 0), LocalTime.of(12, 0), Duration.ofMinutes(30), 3);
+        index.replace(index.build(DAY, List.of(
+                doctor(1L, "Ana", "Cardiology"),
+                doctor(2L, "Bruno", "cardiology"),
+                doctor(3L, "Carla", "dermatology")), List.of(
+                new BookedPeriod(1L, DAY.atTime(8, 0), DAY.atTime(9, 0)),
+                new BookedPeriod(2L, DAY.atTime(8, 0), DAY.atTime(8, 30)))));
+    }
+
+    @Test
+    void testFindFirstAvailable_EarliestFreeSlotPerDoctor() {
+        List<AvailabilityIndex.AvailableSlot> slots = index.findFirstAvailable(" CARDIOLOGY ", DAY.atTime(7, 0),
+                DAY.plusDays(1).atStartOfDay(), 10);
+
+        assertEquals(List.of(2L, 1L), slots.stream().map(AvailabilityIndex.AvailableSlot::doctorId).toList());
+        assertEquals(DAY.atTime(8, 30), slots.get(0).startTime());
+        assertEquals(DAY.atTime(9, 0), slots.get(0).endTime());
+        assertEquals(DAY.atTime(9, 0), slots.get(1).startTime());
+        assertEquals(1, index.findFirstAvailable("cardiology", DAY.atTime(7, 0), DAY.atTime(12, 0), 1).size());
+        assertTrue(index.findFirstAvailable("neurology", DAY.atTime(7, 0), DAY.atTime(12, 0), 10).isEmpty());
+    }
+
+    @Test
+    void testFindFirstAvailable_StartsAtTheNextSlotBoundaryAndSpansDays() {
+        index.markBooked(3L, DAY.atTime(8, 0), DAY.atTime(12, 0));
+
+        assertTrue(index.findFirstAvailable("dermatology", DAY.atTime(7, 0), DAY.atTime(12, 0), 1).isEmpty());
+        assertEquals(DAY.plusDays(1).atTime(8, 0),
+                index.findFirstAvailable("dermatology", DAY.atTime(8, 10), DAY.plusDays(3).atStartOfDay(), 1).get(0).startTime());
+        assertEquals(DAY.atTime(9, 30),
+                index.findFirstAvailable("cardiology", DAY.atTime(9, 10), DAY.atTime(12, 0), 1).get(0).startTime());
+        assertTrue(index.findFirstAvailable("dermatology", DAY.plusDays(3).atStartOfDay(), DAY.plusDays(9).atStartOfDay(), 1)
+                .isEmpty());
+    }
+
+    @Test
+    void testMarkFree_KeepsSlotsSharedWithAnotherAppointment() {
+        index.markBooked(3L, DAY.atTime(8, 0), DAY.atTime(8, 15));
+        index.markBooked(3L, DAY.atTime(8, 15), DAY.atTime(8, 30));
+
+        index.markFree(3L, DAY.atTime(8, 0), DAY.atTime(8, 15),
+                List.of(new BookedPeriod(3L, DAY.atTime(8, 15), DAY.atTime(8, 30))));
+        assertEquals(DAY.atTime(8, 30), firstDermatologySlot());
+
+        index.markFree(3L, DAY.atTime(8, 15), DAY.atTime(8, 30), List.of());
+        assertEquals(DAY.atTime(8, 0), firstDermatologySlot());
+    }
+
+    @Test
+    void testMarkBooked_OutsideWorkingHoursAndHorizonIsIgnored() {
+        index.markBooked(3L, DAY.atTime(6, 0), DAY.atTime(7, 30));
+        index.markBooked(3L, DAY.atTime(12, 0), DAY.plusDays(1).atStartOfDay());
+        index.markBooked(3L, DAY.plusDays(5).atTime(8, 0), DAY.plusDays(5).atTime(9, 0));
+
+        assertEquals(DAY.atTime(8, 0), firstDermatologySlot());
+        assertEquals(0, index.countDifferences(index.current(), index.build(DAY, List.of(
+                doctor(1L, "Ana", "Cardiology"),
+                doctor(2L, "Bruno", "cardiology"),
+                doctor(3L, "Carla", "dermatology")), List.of(
+                new BookedPeriod(1L, DAY.atTime(8, 0), DAY.atTime(9, 0)),
+                new BookedPeriod(2L, DAY.atTime(8, 0), DAY.atTime(8, 30))))));
+    }
+
+    @Test
+    void testAddDoctor_StartsWithEverySlotFreeAndKeepsExistingOnes() {
+        index.addDoctor(4L, "Davi", "Dermatology");
+        index.addDoctor(1L, "Ana", "cardiology");
+
+        assertEquals(List.of(3L, 4L), index.findFirstAvailable("dermatology", DAY.atTime(8, 0), DAY.atTime(12, 0), 10)
+                .stream().map(AvailabilityIndex.AvailableSlot::doctorId).toList());
+        assertEquals(DAY.atTime(9, 0),
+                index.findFirstAvailable("cardiology", DAY.atTime(8, 0), DAY.atTime(12, 0), 10).get(1).startTime());
+    }
+
+    @Test
+    void testCountDifferences_CountsDriftedSlots() {
+        AvailabilityIndex.Snapshot expected = index.build(DAY, List.of(doctor(3L, "Carla", "dermatology")),
+                List.of(new BookedPeriod(3L, DAY.atTime(8, 0), DAY.atTime(9, 0))));
+        AvailabilityIndex.Snapshot actual = index.build(DAY, List.of(doctor(3L, "Carla", "dermatology")),
+                List.of(new BookedPeriod(3L, DAY.atTime(8, 30), DAY.atTime(9, 30))));
+
+        assertEquals(2, index.countDifferences(expected, actual));
+    }
+
+    private LocalDateTime firstDermatologySlot() {
+        return index.findFirstAvailable("dermatology", DAY.atTime(8, 0), DAY.atTime(12, 0), 1).get(0).startTime();
+    }
+
+    private static Doctor doctor(Long id, String name, String specialty) {
+        return Doctor.builder().id(id).name(name).specialty(specialty).build();
+    }
+}
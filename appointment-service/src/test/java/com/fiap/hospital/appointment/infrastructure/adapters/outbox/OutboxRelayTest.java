@@ -0,0 +1,150 @@
+package com.fiap.hospital.appointment.infrastructure.adapters.outbox;
+
+import com.fiap.hospital.appointment.application.adapters.service.AppointmentServiceAdapter;
+import com.fiap.hospital.appointment.application.dto.BookAppointmentRequestDTO;
+import com.fiap.hospital.appointment.application.exception.SlotUnavailableException;
+import com.fiap.hospital.appointment.domain.entities.Appointment;
+import com.fiap.hospital.appointment.domain.entities.OutboxEvent;
+import com.fiap.hospital.appointment.domain.events.AppointmentBookedEvent;
+import com.fiap.hospital.appointment.domain.events.AppointmentCancelledEvent;
+import com.fiap.hospital.appointment.domain.ports.messaging.EventPublisherPort;
+import com.fiap.hospital.appointment.domain.ports.persistence.OutboxEventRepositoryPort;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class OutboxRelayTest {
+
+    private static final LocalDate DAY = LocalDate.now().plusDays(9);
+
+    @Autowired
+    private AppointmentServiceAdapter appointmentService;
+
+    @Autowired
+    private OutboxEventRepositoryPort outboxRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void testBook_WritesTheEventInTheBookingTransaction() {
+        Appointment booked = appointmentService.book(request(301L, DAY.atTime(9, 0)));
+        long written = outboxRepository.count();
+
+        assertThrows(SlotUnavailableException.class, () -> appointmentService.book(request(301L, DAY.atTime(9, 0))));
+
+        assertEquals(written, outboxRepository.count());
+        OutboxEvent event = eventsOf(booked.getId()).get(0);
+        assertEquals(AppointmentBookedEvent.TYPE, event.getEventType());
+        assertEquals(36, event.getEventId().length());
+        assertTrue(event.getPayload().contains("\"appointmentId\":" + booked.getId()));
+        assertTrue(event.getPayload().contains("\"startTime\":\"" + DAY.atTime(9, 0)));
+    }
+
+    @Test
+    void testRelay_PublishesEventsOfAnAppointmentInOrderAndDeletesConfirmed() {
+        Appointment appointment = appointmentService.book(request(302L, DAY.atTime(10, 0)));
+        appointmentService.cancel(appointment.getId());
+        RecordingPublisher publisher = new RecordingPublisher(event -> true);
+        OutboxRelay relay = relay(publisher);
+
+        drain(relay);
+
+        List<List<String>> batches = publisher.batchesOf(appointment.getId());
+        assertEquals(List.of(List.of(AppointmentBookedEvent.TYPE), List.of(AppointmentCancelledEvent.TYPE)), batches);
+        assertEquals(0, outboxRepository.count());
+    }
+
+    @Test
+    void testRelay_UnconfirmedEventIsRetriedBeforeLaterEventsOfItsAppointment() {
+        Appointment appointment = appointmentService.book(request(303L, DAY.atTime(11, 0)));
+        appointmentService.cancel(appointment.getId());
+        AtomicBoolean rejected = new AtomicBoolean();
+        RecordingPublisher publisher = new RecordingPublisher(event -> !event.getAggregateId().equals(appointment.getId())
+                || rejected.getAndSet(true));
+        OutboxRelay relay = relay(publisher);
+
+        OutboxRelay.BatchResult first = relay.relayBatch();
+        assertEquals(1, first.failed());
+        assertTrue(first.deferred() >= 1);
+        assertEquals(List.of(AppointmentBookedEvent.TYPE, AppointmentCancelledEvent.TYPE),
+                eventsOf(appointment.getId()).stream().map(OutboxEvent::getEventType).toList());
+
+        drain(relay);
+
+        assertEquals(List.of(List.of(AppointmentBookedEvent.TYPE), List.of(AppointmentBookedEvent.TYPE),
+                List.of(AppointmentCancelledEvent.TYPE)), publisher.batchesOf(appointment.getId()));
+        assertTrue(eventsOf(appointment.getId()).isEmpty());
+    }
+
+    private OutboxRelay relay(EventPublisherPort publisher) {
+        return new OutboxRelay(outboxRepository, publisher, transactionManager, false, 100,
+                Duration.ofMillis(20), Duration.ofSeconds(1));
+    }
+
+    private static void drain(OutboxRelay relay) {
+        OutboxRelay.BatchResult result;
+        do {
+            result = relay.relayBatch();
+        } while (result.fetched() > 0);
+    }
+
+    private List<OutboxEvent> eventsOf(Long appointmentId) {
+        return outboxRepository.findAll().stream()
+                .filter(event -> event.getAggregateId().equals(appointmentId))
+                .sorted((a, b) -> Long.compare(a.getId(), b.getId()))
+                .toList();
+    }
+
+    private static BookAppointmentRequestDTO request(Long doctorId, LocalDateTime startTime) {
+        return BookAppointmentRequestDTO.builder()
+                .doctorId(doctorId)
+                .patientId(1L)
+                .startTime(startTime)
+                .durationMinutes(30)
+                .build();
+    }
+
+    private static class RecordingPublisher implements EventPublisherPort {
+        private final Predicate<OutboxEvent> confirms;
+        private final List<List<OutboxEvent>> batches = new ArrayList<>();
+
+        RecordingPublisher(Predicate<OutboxEvent> confirms) {
+            this.confirms = confirms;
+        }
+
+        @Override
+        public Set<Long> publish(List<OutboxEvent> events) {
+            batches.add(List.copyOf(events));
+            Set<Long> confirmed = new HashSet<>();
+            events.stream().filter(confirms).forEach(event -> confirmed.add(event.getId()));
+            return confirmed;
+        }
+
+        List<List<String>> batchesOf(Long appointmentId) {
+            return batches.stream()
+                    .map(batch -> batch.stream()
+                            .filter(event -> event.getAggregateId().equals(appointmentId))
+                            .map(OutboxEvent::getEventType)
+                            .toList())
+                    .filter(types -> !types.isEmpty())
+                    .toList();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.fiap.hospital.auth.client;
+
+import com.fiap.hospital.auth.client.config.AuthClientProperties;
+import io.grpc.ManagedChannel;
+import io.grpc.netty.shaded.io.grpc.netty.NettyChannelBuilder;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A small, fixed set of long-lived channels to the auth-service shared by the whole process.
+ * Calls are spread round-robin so a single HTTP/2 connection's stream limit does not cap throughput.
+ */
+@Slf4j
+public class AuthChannelPool implements AutoCloseable {
+
+    private final List<ManagedChannel> channels;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public AuthChannelPool(List<ManagedChannel> channels) {
+        if (channels.isEmpty()) {
+            throw new IllegalArgumentException("At least one channel is required");
+        }
+        this.channels = List.copyOf(channels);
+    }
+
+    public static AuthChannelPool create(AuthClientProperties properties) {
+        List<ManagedChannel> channels = new ArrayList<>();
+        for (int i = 0; i < Math.max(1, properties.getChannels()); i++) {
+            NettyChannelBuilder builder = NettyChannelBuilder.forAddress(properties.getHost(), properties.getPort())
+                    .keepAliveTime(properties.getKeepAliveTime().toMillis(), TimeUnit.MILLISECONDS)
+                    .keepAliveWithoutCalls(true);
+            if (properties.isPlaintext()) {
+                builder.usePlaintext();
+            }
+            channels.add(builder.build());
+        }
+        log.info("Created {} channel(s) to auth-service at {}:{}", channels.size(), properties.getHost(),
+                properties.getPort());
+        return new AuthChannelPool(channels);
+    }
+
+    public ManagedChannel next() {
+        return channels.get(Math.floorMod(next.getAndIncrement(), channels.size()));
+    }
+
+    @Override
+    public void close() {
+        channels.forEach(ManagedChannel::shutdown);
+        for (ManagedChannel channel : channels) {
+            try {
+                if (!channel.awaitTermination(5, TimeUnit.SECONDS)) {
+                    channel.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                channel.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
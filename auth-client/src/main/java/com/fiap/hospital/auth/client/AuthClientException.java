@@ -0,0 +1,8 @@
+package com.fiap.hospital.auth.client;
+
+public class AuthClientException extends RuntimeException {
+
+    public AuthClientException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
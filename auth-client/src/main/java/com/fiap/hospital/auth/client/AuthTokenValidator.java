@@ -0,0 +1,172 @@
+package com.fiap.hospital.auth.client;
+
+import com.fiap.hospital.auth.client.config.AuthClientProperties;
+import com.fiap.hospital.auth.proto.AuthServiceGrpc;
+import com.fiap.hospital.auth.proto.TokenValidationRequest;
+import com.fiap.hospital.auth.proto.TokenValidationResponse;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import io.grpc.Status;
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validates tokens against the auth-service.
+ * <p>
+ * Results are cached by token digest until the token's {@code exp} (capped by the configured TTL), and
+ * concurrent lookups of the same token share one in-flight call. Calls that fail with {@code UNAVAILABLE}
+ * or {@code DEADLINE_EXCEEDED} are retried with exponential backoff and full jitter.
+ */
+@Slf4j
+public class AuthTokenValidator implements AutoCloseable {
+
+    private static final Set<Status.Code> RETRYABLE = EnumSet.of(Status.Code.UNAVAILABLE, Status.Code.DEADLINE_EXCEEDED);
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    });
+
+    private final AuthChannelPool channels;
+    private final AuthClientProperties properties;
+    private final AsyncCache<String, TokenValidationResult> results;
+    private final ScheduledExecutorService retryScheduler;
+
+    public AuthTokenValidator(AuthChannelPool channels, AuthClientProperties properties) {
+        this.channels = channels;
+        this.properties = properties;
+        AuthClientProperties.Cache cache = properties.getCache();
+        this.results = Caffeine.newBuilder()
+                .maximumSize(cache.getMaximumSize())
+                .expireAfter(new ResultExpiry(cache.isEnabled() ? cache.getTtl() : Duration.ZERO))
+                .recordStats()
+                .buildAsync();
+        this.retryScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "auth-client-retry");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public CompletableFuture<TokenValidationResult> validateAsync(String token) {
+        String key = digest(token);
+        CompletableFuture<TokenValidationResult> lookup = results.get(key, (ignored, executor) -> {
+            CompletableFuture<TokenValidationResult> result = new CompletableFuture<>();
+            call(token, 1, result);
+            return result;
+        });
+        // The cache drops failed lookups and applies the zero expiry of invalid results only after the lookup
+        // completes, so the next caller could still get them; drop them before any caller sees the outcome
+        return lookup.whenComplete((result, failure) -> {
+            if (failure != null || !result.valid()) {
+                results.asMap().remove(key, lookup);
+            }
+        });
+    }
+
+    /**
+     * @throws AuthClientException if the auth-service could not be reached after all retries
+     */
+    public TokenValidationResult validate(String token) {
+        try {
+            return validateAsync(token).join();
+        } catch (CompletionException e) {
+            throw new AuthClientException("Token validation failed: " + Status.fromThrowable(e.getCause()), e.getCause());
+        }
+    }
+
+    public CacheStats cacheStats() {
+        return results.synchronous().stats();
+    }
+
+    private void call(String token, int attempt, CompletableFuture<TokenValidationResult> result) {
+        ListenableFuture<TokenValidationResponse> response = AuthServiceGrpc.newFutureStub(channels.next())
+                .withDeadlineAfter(properties.getDeadline().toMillis(), TimeUnit.MILLISECONDS)
+                .validateTokenAndGetRole(TokenValidationRequest.newBuilder().setToken(token).build());
+
+        Futures.addCallback(response, new FutureCallback<>() {
+            @Override
+            public void onSuccess(TokenValidationResponse value) {
+                result.complete(TokenValidationResult.from(value, TokenClaims.decode(token)));
+            }
+
+            @Override
+            public void onFailure(Throwable t) {
+                Status status = Status.fromThrowable(t);
+                if (attempt < properties.getRetry().getMaxAttempts() && RETRYABLE.contains(status.getCode())) {
+                    long delay = backoffMillis(attempt);
+                    log.debug("Token validation attempt {} failed with {}, retrying in {} ms", attempt,
+                            status.getCode(), delay);
+                    retryScheduler.schedule(() -> call(token, attempt + 1, result), delay, TimeUnit.MILLISECONDS);
+                } else {
+                    result.completeExceptionally(t);
+                }
+            }
+        }, MoreExecutors.directExecutor());
+    }
+
+    private long backoffMillis(int attempt) {
+        AuthClientProperties.Retry retry = properties.getRetry();
+        long exponential = retry.getInitialBackoff().toMillis() << Math.min(attempt - 1, 20);
+        long cap = Math.min(retry.getMaxBackoff().toMillis(), exponential);
+        return ThreadLocalRandom.current().nextLong(cap + 1);
+    }
+
+    private static String digest(String token) {
+        byte[] hash = SHA_256.get().digest(token.getBytes(StandardCharsets.UTF_8));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+    }
+
+    @Override
+    public void close() {
+        retryScheduler.shutdownNow();
+    }
+
+    private record ResultExpiry(Duration ttl) implements Expiry<String, TokenValidationResult> {
+
+        @Override
+        public long expireAfterCreate(String key, TokenValidationResult value, long currentTime) {
+            if (!value.valid()) {
+                return 0;
+            }
+            long ttlNanos = ttl.toNanos();
+            if (value.expiresAtMillis() <= 0) {
+                return ttlNanos;
+            }
+            long remainingNanos = TimeUnit.MILLISECONDS.toNanos(value.expiresAtMillis() - System.currentTimeMillis());
+            return Math.max(0, Math.min(ttlNanos, remainingNanos));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, TokenValidationResult value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, TokenValidationResult value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
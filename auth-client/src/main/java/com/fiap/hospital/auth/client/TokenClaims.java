@@ -0,0 +1,47 @@
+package com.fiap.hospital.auth.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Base64;
+
+/**
+ * Reads {@code sub}, {@code uid} and {@code exp} from a JWT payload without checking its signature.
+ * Only used to label and bound the lifetime of results the auth-service has already validated.
+ */
+record TokenClaims(String subject, Long userId, long expiresAtMillis) {
+
+    private static final ObjectReader READER = new ObjectMapper().readerFor(JsonNode.class);
+    private static final BigDecimal MILLIS_PER_SECOND = BigDecimal.valueOf(1000);
+    private static final TokenClaims UNKNOWN = new TokenClaims(null, null, 0);
+
+    static TokenClaims decode(String token) {
+        int firstDot = token.indexOf('.');
+        int secondDot = firstDot < 0 ? -1 : token.indexOf('.', firstDot + 1);
+        if (secondDot < 0) {
+            return UNKNOWN;
+        }
+
+        JsonNode payload;
+        try {
+            payload = READER.readTree(Base64.getUrlDecoder().decode(token.substring(firstDot + 1, secondDot)));
+        } catch (IllegalArgumentException | IOException e) {
+            return UNKNOWN;
+        }
+        if (payload == null || !payload.isObject()) {
+            return UNKNOWN;
+        }
+
+        JsonNode subject = payload.get("sub");
+        JsonNode userId = payload.get("uid");
+        JsonNode expiration = payload.get("exp");
+        // NumericDate allows fractional seconds and exponents, so read it exactly before truncating to millis
+        return new TokenClaims(subject != null && subject.isTextual() ? subject.asText() : null,
+                userId != null && userId.canConvertToExactIntegral() && userId.canConvertToLong() ? userId.longValue() : null,
+                expiration != null && expiration.isNumber()
+                        ? expiration.decimalValue().multiply(MILLIS_PER_SECOND).longValue() : 0);
+    }
+}
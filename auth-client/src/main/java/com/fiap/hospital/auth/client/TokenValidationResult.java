@@ -0,0 +1,16 @@
+package com.fiap.hospital.auth.client;
+
+import com.fiap.hospital.auth.proto.TokenValidationResponse;
+import com.fiap.hospital.auth.proto.UserRole;
+
+/**
+ * @param userId id of the user in the auth-service, or {@code null} for tokens issued before it was embedded
+ */
+public record TokenValidationResult(boolean valid, String username, Long userId, UserRole role, String errorMessage,
+                                    long expiresAtMillis) {
+
+    static TokenValidationResult from(TokenValidationResponse response, TokenClaims claims) {
+        return new TokenValidationResult(response.getIsValid(), claims.subject(), claims.userId(), response.getRole(),
+                response.getErrorMessage(), claims.expiresAtMillis());
+    }
+}
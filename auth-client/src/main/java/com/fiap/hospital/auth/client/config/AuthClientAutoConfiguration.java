@@ -0,0 +1,53 @@
+package com.fiap.hospital.auth.client.config;
+
+import com.fiap.hospital.auth.client.AuthChannelPool;
+import com.fiap.hospital.auth.client.AuthTokenValidator;
+import com.fiap.hospital.auth.client.security.AuthTokenFilter;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+@AutoConfiguration
+@EnableConfigurationProperties(AuthClientProperties.class)
+public class AuthClientAutoConfiguration {
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnMissingBean
+    public AuthChannelPool authChannelPool(AuthClientProperties properties) {
+        return AuthChannelPool.create(properties);
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnMissingBean
+    public AuthTokenValidator authTokenValidator(AuthChannelPool authChannelPool, AuthClientProperties properties) {
+        return new AuthTokenValidator(authChannelPool, properties);
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    @ConditionalOnClass(SecurityContextHolder.class)
+    @ConditionalOnProperty(prefix = "hospital.auth.client.filter", name = "enabled", matchIfMissing = true)
+    static class FilterConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public AuthTokenFilter authTokenFilter(AuthTokenValidator authTokenValidator) {
+            return new AuthTokenFilter(authTokenValidator);
+        }
+
+        // The filter belongs in the Spring Security chain; keep Boot from also registering it with the container.
+        @Bean
+        public FilterRegistrationBean<AuthTokenFilter> authTokenFilterRegistration(AuthTokenFilter authTokenFilter) {
+            FilterRegistrationBean<AuthTokenFilter> registration = new FilterRegistrationBean<>(authTokenFilter);
+            registration.setEnabled(false);
+            return registration;
+        }
+    }
+}
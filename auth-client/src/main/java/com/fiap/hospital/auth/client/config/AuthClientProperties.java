@@ -0,0 +1,48 @@
+package com.fiap.hospital.auth.client.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "hospital.auth.client")
+public class AuthClientProperties {
+
+    private String host = "localhost";
+    private int port = 9090;
+    private boolean plaintext = true;
+
+    /** Number of channels to spread calls over; each channel multiplexes calls over one HTTP/2 connection. */
+    private int channels = 2;
+
+    /** Deadline applied to every validation call. */
+    private Duration deadline = Duration.ofMillis(500);
+
+    private Duration keepAliveTime = Duration.ofSeconds(30);
+
+    private Retry retry = new Retry();
+    private Cache cache = new Cache();
+    private Filter filter = new Filter();
+
+    @Data
+    public static class Retry {
+        /** Total attempts per validation, including the first one. */
+        private int maxAttempts = 3;
+        private Duration initialBackoff = Duration.ofMillis(50);
+        private Duration maxBackoff = Duration.ofSeconds(1);
+    }
+
+    @Data
+    public static class Cache {
+        private boolean enabled = true;
+        private long maximumSize = 10_000;
+        /** Upper bound for a cached result; entries never outlive the token's exp claim. */
+        private Duration ttl = Duration.ofMinutes(1);
+    }
+
+    @Data
+    public static class Filter {
+        private boolean enabled = true;
+    }
+}
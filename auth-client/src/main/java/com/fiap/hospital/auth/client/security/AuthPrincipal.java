@@ -0,0 +1,30 @@
+package com.fiap.hospital.auth.client.security;
+
+import com.fiap.hospital.auth.client.TokenValidationResult;
+import com.fiap.hospital.auth.proto.UserRole;
+import org.springframework.security.core.AuthenticatedPrincipal;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * User authenticated by {@link AuthTokenFilter}. {@code id} is the id of the user in the auth-service, or
+ * {@code null} for tokens issued before it was embedded.
+ */
+public record AuthPrincipal(Long id, String username, UserRole role) implements AuthenticatedPrincipal {
+
+    public static AuthPrincipal from(TokenValidationResult result) {
+        return new AuthPrincipal(result.userId(), result.username(), result.role());
+    }
+
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
+    }
+
+    @Override
+    public String getName() {
+        return username;
+    }
+}
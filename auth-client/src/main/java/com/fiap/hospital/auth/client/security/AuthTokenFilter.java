@@ -0,0 +1,53 @@
+package com.fiap.hospital.auth.client.security;
+
+import com.fiap.hospital.auth.client.AuthClientException;
+import com.fiap.hospital.auth.client.AuthTokenValidator;
+import com.fiap.hospital.auth.client.TokenValidationResult;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Authenticates bearer requests through the auth-service. Add it to the service's security chain, e.g.
+ * {@code http.addFilterBefore(authTokenFilter, UsernamePasswordAuthenticationFilter.class)}. The authenticated
+ * principal is an {@link AuthPrincipal}.
+ */
+public class AuthTokenFilter extends OncePerRequestFilter {
+
+    private final AuthTokenValidator validator;
+
+    public AuthTokenFilter(AuthTokenValidator validator) {
+        this.validator = validator;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+
+        final String authorizationHeader = request.getHeader("Authorization");
+
+        if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")
+                && SecurityContextHolder.getContext().getAuthentication() == null) {
+            try {
+                TokenValidationResult result = validator.validate(authorizationHeader.substring(7));
+                if (result.valid()) {
+                    AuthPrincipal principal = AuthPrincipal.from(result);
+                    UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                            principal, null, principal.getAuthorities());
+                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                }
+            } catch (AuthClientException e) {
+                logger.warn("Could not validate bearer token: " + e.getMessage());
+            }
+        }
+        chain.doFilter(request, response);
+    }
+}
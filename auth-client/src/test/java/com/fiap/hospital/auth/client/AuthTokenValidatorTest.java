@@ -0,0 +1,153 @@
+package com.fiap.hospital.auth.client;
+
+import com.fiap.hospital.auth.client.config.AuthClientProperties;
+import com.fiap.hospital.auth.proto.AuthServiceGrpc;
+import com.fiap.hospital.auth.proto.TokenValidationRequest;
+import com.fiap.hospital.auth.proto.TokenValidationResponse;
+import com.fiap.hospital.auth.proto.UserRole;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AuthTokenValidatorTest {
+
+    private final FakeAuthService authService = new FakeAuthService();
+    private Server server;
+    private AuthChannelPool channels;
+    private AuthTokenValidator validator;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        String name = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(name).addService(authService).build().start();
+        channels = new AuthChannelPool(List.of(InProcessChannelBuilder.forName(name).build()));
+
+        AuthClientProperties properties = new AuthClientProperties();
+        properties.setDeadline(Duration.ofSeconds(2));
+        properties.getRetry().setInitialBackoff(Duration.ofMillis(1));
+        validator = new AuthTokenValidator(channels, properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        validator.close();
+        channels.close();
+        server.shutdownNow();
+    }
+
+    @Test
+    void testValidate_CachesValidResults() {
+        String token = token("doctor", 3600);
+
+        assertTrue(validator.validate(token).valid());
+        TokenValidationResult second = validator.validate(token);
+
+        assertTrue(second.valid());
+        assertEquals("doctor", second.username());
+        assertEquals(7L, second.userId());
+        assertEquals(UserRole.DOCTOR, second.role());
+        assertEquals(1, authService.calls.get());
+    }
+
+    @Test
+    void testValidate_DoesNotCacheInvalidResults() {
+        authService.valid = false;
+        String token = token("doctor", 3600);
+
+        assertFalse(validator.validate(token).valid());
+        assertFalse(validator.validate(token).valid());
+
+        assertEquals(2, authService.calls.get());
+    }
+
+    @Test
+    void testValidateAsync_CoalescesConcurrentLookupsOfSameToken() throws Exception {
+        authService.release = new CountDownLatch(1);
+        String token = token("doctor", 3600);
+
+        List<CompletableFuture<TokenValidationResult>> futures = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            futures.add(validator.validateAsync(token));
+        }
+        authService.release.countDown();
+
+        for (CompletableFuture<TokenValidationResult> future : futures) {
+            assertTrue(future.get(5, TimeUnit.SECONDS).valid());
+        }
+        assertEquals(1, authService.calls.get());
+    }
+
+    @Test
+    void testValidate_RetriesUnavailableServer() {
+        authService.failuresBeforeSuccess.set(2);
+
+        assertTrue(validator.validate(token("doctor", 3600)).valid());
+        assertEquals(3, authService.calls.get());
+    }
+
+    @Test
+    void testValidate_GivesUpAfterMaxAttempts() {
+        authService.failuresBeforeSuccess.set(5);
+
+        assertThrows(AuthClientException.class, () -> validator.validate(token("doctor", 3600)));
+        assertEquals(3, authService.calls.get());
+    }
+
+    private static String token(String subject, long expiresInSeconds) {
+        long exp = System.currentTimeMillis() / 1000 + expiresInSeconds;
+        String payload = "{\"sub\":\"" + subject + "\",\"uid\":7,\"exp\":" + exp + "}";
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return encoder.encodeToString("{\"alg\":\"HS256\"}".getBytes(StandardCharsets.UTF_8)) + "."
+                + encoder.encodeToString(payload.getBytes(StandardCharsets.UTF_8)) + ".signature";
+    }
+
+    private static class FakeAuthService extends AuthServiceGrpc.AuthServiceImplBase {
+
+        private final AtomicInteger calls = new AtomicInteger();
+        private final AtomicInteger failuresBeforeSuccess = new AtomicInteger();
+        private volatile boolean valid = true;
+        private volatile CountDownLatch release;
+
+        @Override
+        public void validateTokenAndGetRole(TokenValidationRequest request,
+                StreamObserver<TokenValidationResponse> responseObserver) {
+            calls.incrementAndGet();
+            if (failuresBeforeSuccess.getAndUpdate(remaining -> Math.max(0, remaining - 1)) > 0) {
+                responseObserver.onError(Status.UNAVAILABLE.asRuntimeException());
+                return;
+            }
+            if (release != null) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            TokenValidationResponse.Builder response = TokenValidationResponse.newBuilder().setIsValid(valid);
+            if (valid) {
+                response.setRole(UserRole.DOCTOR);
+            } else {
+                response.setErrorMessage("Error validating token: invalid");
+            }
+            responseObserver.onNext(response.build());
+            responseObserver.onCompleted();
+        }
+    }
+}
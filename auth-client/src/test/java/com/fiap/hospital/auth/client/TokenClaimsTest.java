@@ -0,0 +1,32 @@
+package com.fiap.hospital.auth.client;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TokenClaimsTest {
+
+    @Test
+    void testDecode_ReadsEscapedSubjectAndNumericDateForms() {
+        assertEquals(new TokenClaims("dr \"house\"", 7L, 1_700_000_000_000L),
+                TokenClaims.decode(token("{\"sub\":\"dr \\\"house\\\"\",\"uid\":7,\"exp\":1700000000}")));
+        assertEquals(1_700_000_000_500L, TokenClaims.decode(token("{\"sub\":\"a\",\"exp\":1700000000.5}")).expiresAtMillis());
+        assertEquals(1_700_000_000_000L, TokenClaims.decode(token("{\"sub\":\"a\",\"exp\":1.7E9}")).expiresAtMillis());
+    }
+
+    @Test
+    void testDecode_UnreadablePayloadHasNoClaims() {
+        assertEquals(new TokenClaims(null, null, 0), TokenClaims.decode(token("not json")));
+        assertEquals(new TokenClaims(null, null, 0), TokenClaims.decode(token("{\"sub\":1,\"uid\":\"7\",\"exp\":\"soon\"}")));
+        assertEquals(new TokenClaims(null, null, 0), TokenClaims.decode("no-dots"));
+    }
+
+    private static String token(String payload) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return encoder.encodeToString("{\"alg\":\"none\"}".getBytes(StandardCharsets.UTF_8)) + "."
+                + encoder.encodeToString(payload.getBytes(StandardCharsets.UTF_8)) + ".sig";
+    }
+}
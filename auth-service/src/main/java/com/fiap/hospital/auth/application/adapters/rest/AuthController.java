@@ -2,7 +2,10 @@ package com.fiap.hospital.auth.application.adapters.rest;
 
 import com.fiap.hospital.auth.application.dto.LoginRequestDTO;
 import com.fiap.hospital.auth.application.dto.LoginResponseDTO;
+import com.fiap.hospital.auth.application.dto.LogoutRequestDTO;
+import com.fiap.hospital.auth.application.dto.RefreshTokenRequestDTO;
 import com.fiap.hospital.auth.application.dto.RegisterRequestDTO;
+import com.fiap.hospital.auth.application.dto.RevokeTokenRequestDTO;
 import com.fiap.hospital.auth.application.dto.UserResponseDTO;
 import com.fiap.hospital.auth.domain.entities.User;
 import com.fiap.hospital.auth.domain.ports.auth.AuthPort;
@@ -15,10 +18,12 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -28,6 +33,8 @@ import org.springframework.web.bind.annotation.RestController;
 @Tag(name = "Authentication", description = "Authentication endpoints for user login and registration")
 public class AuthController {
 
+    private static final String BEARER_PREFIX = "Bearer ";
+
     private final AuthPort authService;
 
     @PostMapping("/login")
@@ -58,6 +65,88 @@ public class AuthController {
         return ResponseEntity.ok(authService.login(loginRequest));
     }
     
+    @PostMapping("/refresh")
+    @Operation(
+        summary = "Refresh access token",
+        description = "Exchange a refresh token for a new access token and a new refresh token. Each refresh token can be used only once"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Tokens issued successfully",
+            content = @Content(schema = @Schema(implementation = LoginResponseDTO.class))
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Refresh token is invalid, expired or already used",
+            content = @Content(schema = @Schema(implementation = com.fiap.hospital.auth.application.exception.ApiError.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid request parameters",
+            content = @Content(schema = @Schema(implementation = com.fiap.hospital.auth.application.exception.ApiError.class))
+        )
+    })
+    public ResponseEntity<LoginResponseDTO> refresh(
+            @Parameter(description = "Refresh token", required = true)
+            @Valid @RequestBody RefreshTokenRequestDTO refreshRequest) {
+        return ResponseEntity.ok(authService.refresh(refreshRequest));
+    }
+
+    @PostMapping("/logout")
+    @Operation(
+        summary = "Logout",
+        description = "Revoke the access token used to call this endpoint and, when given, the refresh token family"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "204",
+            description = "Tokens revoked successfully"
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Missing, invalid or already revoked access token"
+        )
+    })
+    public ResponseEntity<Void> logout(
+            @Parameter(hidden = true) @RequestHeader(HttpHeaders.AUTHORIZATION) String authorization,
+            @Parameter(description = "Refresh token to revoke along with the access token")
+            @RequestBody(required = false) LogoutRequestDTO logoutRequest) {
+        authService.logout(authorization.substring(BEARER_PREFIX.length()), logoutRequest);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/admin/revoke")
+    @Operation(
+        summary = "Revoke tokens",
+        description = "Revoke an access token by its id (jti claim) and/or every refresh token of a user. Requires the ADMIN role"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "204",
+            description = "Tokens revoked successfully"
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Missing or invalid access token"
+        ),
+        @ApiResponse(
+            responseCode = "403",
+            description = "Caller is not an administrator"
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid request parameters",
+            content = @Content(schema = @Schema(implementation = com.fiap.hospital.auth.application.exception.ApiError.class))
+        )
+    })
+    public ResponseEntity<Void> revoke(
+            @Parameter(description = "Token id and/or username to revoke", required = true)
+            @Valid @RequestBody RevokeTokenRequestDTO revokeRequest) {
+        authService.revoke(revokeRequest);
+        return ResponseEntity.noContent().build();
+    }
+
     @PostMapping("/register")
     @Operation(
         summary = "Register user",
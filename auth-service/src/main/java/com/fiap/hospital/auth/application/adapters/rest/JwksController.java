@@ -0,0 +1,34 @@
+package com.fiap.hospital.auth.application.adapters.rest;
+
+import com.fiap.hospital.auth.infrastructure.adapters.security.JwtKeyProvider;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.Map;
+
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "Token keys", description = "Public keys for verifying tokens outside the auth-service")
+public class JwksController {
+
+    private final JwtKeyProvider keyProvider;
+
+    @GetMapping("/.well-known/jwks.json")
+    @Operation(
+        summary = "Public signing keys",
+        description = "Publish the public keys used to sign tokens as a JSON Web Key Set, so other services can verify tokens locally"
+    )
+    @ApiResponse(responseCode = "200", description = "JSON Web Key Set (empty when tokens are signed with HS256)")
+    public ResponseEntity<Map<String, Object>> jwks() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic())
+                .body(keyProvider.getJwks());
+    }
+}
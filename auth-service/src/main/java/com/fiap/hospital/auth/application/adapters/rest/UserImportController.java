@@ -0,0 +1,109 @@
+package com.fiap.hospital.auth.application.adapters.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fiap.hospital.auth.application.dto.ImportProgressDTO;
+import com.fiap.hospital.auth.application.dto.ImportRowErrorDTO;
+import com.fiap.hospital.auth.domain.enums.ImportFormat;
+import com.fiap.hospital.auth.domain.ports.auth.UserImportPort;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+@RestController
+@RequestMapping("/api/auth/admin/users")
+@RequiredArgsConstructor
+@Tag(name = "User import", description = "Bulk user onboarding")
+public class UserImportController {
+
+    private static final String NDJSON = "application/x-ndjson";
+
+    private final UserImportPort userImportService;
+    private final ObjectMapper objectMapper;
+
+    @PostMapping(value = "/import", consumes = { "text/csv", NDJSON })
+    @Operation(
+        summary = "Import users",
+        description = "Stream users as CSV (header username,password,name[,role]) or NDJSON register requests. "
+                + "The response is NDJSON, written while the import runs: one line per rejected row and a progress "
+                + "line per chunk, the last one with done=true. Requires the ADMIN role"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Import finished; rejected rows are reported in the response stream"
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Missing or invalid access token"
+        ),
+        @ApiResponse(
+            responseCode = "403",
+            description = "Caller is not an administrator"
+        ),
+        @ApiResponse(
+            responseCode = "409",
+            description = "Another import is already running"
+        )
+    })
+    public void importUsers(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        ImportFormat format = ImportFormat.fromContentType(request.getContentType());
+        Charset charset = request.getCharacterEncoding() != null
+                ? Charset.forName(request.getCharacterEncoding()) : StandardCharsets.UTF_8;
+        BufferedReader input = new BufferedReader(new InputStreamReader(request.getInputStream(), charset));
+        userImportService.importUsers(input, format, new NdjsonListener(response));
+    }
+
+    /**
+     * Writes and flushes each event as it happens. The response is only committed by the first event, so an
+     * import rejected up front still gets a regular error response.
+     */
+    private class NdjsonListener implements UserImportPort.Listener {
+
+        private final HttpServletResponse response;
+        private PrintWriter writer;
+
+        NdjsonListener(HttpServletResponse response) {
+            this.response = response;
+        }
+
+        @Override
+        public void onError(ImportRowErrorDTO error) {
+            write(error);
+        }
+
+        @Override
+        public void onProgress(ImportProgressDTO progress) {
+            write(progress);
+        }
+
+        private void write(Object event) {
+            try {
+                if (writer == null) {
+                    response.setContentType(NDJSON);
+                    response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+                    writer = response.getWriter();
+                }
+                writer.write(objectMapper.writeValueAsString(event));
+                writer.write('\n');
+                writer.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to write import progress", e);
+            }
+        }
+    }
+}
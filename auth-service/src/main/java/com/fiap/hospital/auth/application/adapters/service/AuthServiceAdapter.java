@@ -2,41 +2,131 @@ package com.fiap.hospital.auth.application.adapters.service;
 
 import com.fiap.hospital.auth.application.dto.LoginRequestDTO;
 import com.fiap.hospital.auth.application.dto.LoginResponseDTO;
+import com.fiap.hospital.auth.application.dto.LogoutRequestDTO;
+import com.fiap.hospital.auth.application.dto.RefreshTokenRequestDTO;
 import com.fiap.hospital.auth.application.dto.RegisterRequestDTO;
+import com.fiap.hospital.auth.application.dto.RevokeTokenRequestDTO;
 import com.fiap.hospital.auth.application.exception.UserAlreadyExistsException;
 import com.fiap.hospital.auth.domain.entities.User;
 import com.fiap.hospital.auth.domain.ports.auth.AuthPort;
 import com.fiap.hospital.auth.domain.ports.persistence.UserRepositoryPort;
+import com.fiap.hospital.auth.infrastructure.adapters.metrics.AuthMetrics;
+import com.fiap.hospital.auth.infrastructure.adapters.persistence.ConstraintViolations;
+import com.fiap.hospital.auth.infrastructure.adapters.persistence.DatabaseBusyException;
+import com.fiap.hospital.auth.infrastructure.adapters.persistence.DatabaseConcurrencyLimiter;
 import com.fiap.hospital.auth.infrastructure.adapters.security.JwtTokenAdapter;
+import com.fiap.hospital.auth.infrastructure.adapters.security.PasswordHashingBusyException;
+import com.fiap.hospital.auth.infrastructure.adapters.security.PasswordHashingExecutor;
+import com.fiap.hospital.auth.infrastructure.adapters.security.RefreshTokenAdapter;
+import com.fiap.hospital.auth.infrastructure.adapters.security.TokenRevocationList;
+import com.fiap.hospital.auth.infrastructure.adapters.security.TokenValidationCache;
+import com.fiap.hospital.auth.infrastructure.adapters.security.VerifiedToken;
+import com.fiap.hospital.auth.infrastructure.config.JwtConfiguration;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
-import java.time.LocalDateTime;
+import java.util.Date;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class AuthServiceAdapter implements AuthPort {
 
     private final UserRepositoryPort userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenAdapter jwtService;
+    private final TokenValidationCache tokenCache;
+    private final DatabaseConcurrencyLimiter databaseLimiter;
+    private final AuthMetrics metrics;
+    private final PasswordHashingExecutor hashingExecutor;
+    private final RefreshTokenAdapter refreshTokenAdapter;
+    private final JwtConfiguration jwtConfiguration;
+    private final TokenRevocationList revocationList;
 
     @Override
     public LoginResponseDTO login(LoginRequestDTO loginRequest) {
-        User user = userRepository.findByUsername(loginRequest.getUsername())
+        Timer.Sample sample = metrics.start();
+        try {
+            LoginResponseDTO response = authenticate(loginRequest);
+            metrics.recordLogin(sample, AuthMetrics.SUCCESS);
+            return response;
+        } catch (RuntimeException e) {
+            metrics.recordLogin(sample, AuthMetrics.FAILURE);
+            throw e;
+        }
+    }
+
+    private LoginResponseDTO authenticate(LoginRequestDTO loginRequest) {
+        User user = databaseLimiter.call(() -> userRepository.findByUsername(loginRequest.getUsername()))
                 .orElseThrow(() -> new UsernameNotFoundException("Invalid username or password"));
 
-        if (!passwordEncoder.matches(loginRequest.getPassword(), user.getPassword())) {
+        boolean matches = hashingExecutor.execute(() ->
+                metrics.timePasswordMatch(() -> passwordEncoder.matches(loginRequest.getPassword(), user.getPassword())));
+        if (!matches) {
             throw new BadCredentialsException("Invalid username or password");
         }
+        upgradePasswordEncoding(user, loginRequest.getPassword());
+
+        String refreshToken = databaseLimiter.call(() -> refreshTokenAdapter.issue(user));
+        return tokenResponse(user, refreshToken);
+    }
+
+    @Override
+    public LoginResponseDTO refresh(RefreshTokenRequestDTO refreshRequest) {
+        Timer.Sample sample = metrics.start();
+        try {
+            RefreshTokenAdapter.RotatedRefreshToken rotated =
+                    databaseLimiter.call(() -> refreshTokenAdapter.rotate(refreshRequest.getRefreshToken()));
+            LoginResponseDTO response = tokenResponse(rotated.user(), rotated.refreshToken());
+            metrics.recordRefresh(sample, AuthMetrics.SUCCESS);
+            return response;
+        } catch (RuntimeException e) {
+            metrics.recordRefresh(sample, AuthMetrics.FAILURE);
+            throw e;
+        }
+    }
+
+    @Override
+    public void logout(String accessToken, LogoutRequestDTO logoutRequest) {
+        VerifiedToken token = jwtService.verify(accessToken);
+        if (!databaseLimiter.call(() -> revocationList.revoke(token.tokenId(), token.username(), token.expiration()))) {
+            log.debug("Token of user {} has no id and expires on its own at {}", token.username(), token.expiration());
+        }
+        if (logoutRequest != null && logoutRequest.getRefreshToken() != null) {
+            databaseLimiter.call(() -> refreshTokenAdapter.revokeFamily(logoutRequest.getRefreshToken(), token.username()));
+        }
+    }
 
-        String token = jwtService.generateToken(user.getUsername());
+    /**
+     * Revokes a single access token by id and/or every refresh token of a user. The expiration of a token
+     * known only by id is unknown, so it is kept revoked for a full access token lifetime, which no
+     * already issued token can outlive.
+     */
+    @Override
+    public void revoke(RevokeTokenRequestDTO revokeRequest) {
+        if (revokeRequest.getTokenId() != null) {
+            Date expiresAt = new Date(System.currentTimeMillis()
+                    + jwtConfiguration.getAccessTokenExpiration().toMillis());
+            databaseLimiter.call(() ->
+                    revocationList.revoke(revokeRequest.getTokenId(), revokeRequest.getUsername(), expiresAt));
+        }
+        if (revokeRequest.getUsername() != null) {
+            int revoked = databaseLimiter.call(() -> refreshTokenAdapter.revokeAll(revokeRequest.getUsername()));
+            log.info("Revoked {} refresh token(s) of user {}", revoked, revokeRequest.getUsername());
+        }
+    }
 
+    private LoginResponseDTO tokenResponse(User user, String refreshToken) {
         return LoginResponseDTO.builder()
-                .token(token)
+                .token(jwtService.generateToken(user))
+                .refreshToken(refreshToken)
+                .expiresIn(jwtConfiguration.getAccessTokenExpiration().toSeconds())
                 .username(user.getUsername())
                 .role(user.getRole())
                 .name(user.getName())
@@ -45,19 +135,59 @@ public class AuthServiceAdapter implements AuthPort {
 
     @Override
     public User register(RegisterRequestDTO registerRequest) {
-        if (userRepository.findByUsername(registerRequest.getUsername()).isPresent()) {
-            throw new UserAlreadyExistsException("Username already exists: " + registerRequest.getUsername());
+        Timer.Sample sample = metrics.start();
+        try {
+            User saved = createUser(registerRequest);
+            metrics.recordRegister(sample, AuthMetrics.SUCCESS);
+            return saved;
+        } catch (RuntimeException e) {
+            metrics.recordRegister(sample, AuthMetrics.FAILURE);
+            throw e;
         }
+    }
 
+    /**
+     * Hashes the password before touching the database, so no connection is held while BCrypt runs, then
+     * inserts in a single statement and lets the unique constraint on {@code users.username} reject
+     * duplicates, which also covers two signups for the same username racing each other.
+     */
+    private User createUser(RegisterRequestDTO registerRequest) {
+        String encodedPassword = hashingExecutor.execute(() -> passwordEncoder.encode(registerRequest.getPassword()));
         User user = User.builder()
                 .username(registerRequest.getUsername())
-                .password(passwordEncoder.encode(registerRequest.getPassword()))
+                .password(encodedPassword)
                 .name(registerRequest.getName())
                 .role(registerRequest.getRole())
-                .createdAt(LocalDateTime.now())
-                .updatedAt(LocalDateTime.now())
                 .build();
 
-        return userRepository.save(user);
+        User saved;
+        try {
+            saved = databaseLimiter.call(() -> userRepository.save(user));
+        } catch (DataIntegrityViolationException e) {
+            if (ConstraintViolations.isUniqueViolation(e, User.USERNAME_CONSTRAINT)) {
+                throw new UserAlreadyExistsException("Username already exists: " + registerRequest.getUsername());
+            }
+            throw e;
+        }
+        tokenCache.invalidateUser(saved.getUsername());
+        return saved;
+    }
+
+    /**
+     * Re-hashes the password with the configured encoder when it was stored with another one or weaker
+     * parameters, while the plain password is at hand. A busy pool or database only postpones the upgrade
+     * to a later login.
+     */
+    private void upgradePasswordEncoding(User user, String rawPassword) {
+        if (!passwordEncoder.upgradeEncoding(user.getPassword())) {
+            return;
+        }
+        try {
+            user.setPassword(hashingExecutor.execute(() -> passwordEncoder.encode(rawPassword)));
+            databaseLimiter.call(() -> userRepository.save(user));
+            log.info("Upgraded password encoding for user {}", user.getUsername());
+        } catch (PasswordHashingBusyException | DatabaseBusyException e) {
+            log.debug("Skipped password encoding upgrade for user {}: {}", user.getUsername(), e.getMessage());
+        }
     }
 } 
\ No newline at end of file
@@ -0,0 +1,172 @@
+package com.fiap.hospital.auth.application.adapters.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fiap.hospital.auth.application.dto.RegisterRequestDTO;
+import com.fiap.hospital.auth.domain.enums.ImportFormat;
+import com.fiap.hospital.auth.domain.enums.UserRole;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Reads import rows lazily, one chunk at a time, so an upload of any size is never held in memory.
+ * <p>
+ * CSV input starts with a header naming the {@code username}, {@code password} and {@code name} columns and,
+ * optionally, {@code role}, in any order. Fields may be quoted, with {@code ""} for a literal quote, but cannot
+ * span lines. NDJSON input has one register request object per line. Rows without a role import as PATIENT.
+ */
+class UserImportReader {
+
+    private static final List<String> REQUIRED_COLUMNS = List.of("username", "password", "name");
+
+    private final BufferedReader reader;
+    private final ImportFormat format;
+    private final ObjectMapper objectMapper;
+    private Map<String, Integer> columns;
+    private long lineNumber;
+    private boolean finished;
+
+    UserImportReader(Reader input, ImportFormat format, ObjectMapper objectMapper) {
+        this.reader = input instanceof BufferedReader buffered ? buffered : new BufferedReader(input);
+        this.format = format;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * @return up to {@code size} rows, empty once the input is exhausted
+     */
+    List<Row> nextChunk(int size) {
+        List<Row> rows = new ArrayList<>(size);
+        while (rows.size() < size && !finished) {
+            String line = readLine();
+            if (line == null) {
+                finished = true;
+            } else if (!line.isBlank()) {
+                Row row = format == ImportFormat.CSV ? parseCsv(line) : parseJson(line);
+                if (row != null) {
+                    rows.add(row);
+                }
+            }
+        }
+        return rows;
+    }
+
+    private Row parseCsv(String line) {
+        List<String> fields = splitCsv(line);
+        if (columns == null) {
+            return readHeader(fields);
+        }
+        if (fields.size() != columns.size()) {
+            return Row.failed(lineNumber, null, "Expected " + columns.size() + " columns but found " + fields.size());
+        }
+
+        String username = field(fields, "username");
+        String role = field(fields, "role");
+        RegisterRequestDTO request = RegisterRequestDTO.builder()
+                .username(username)
+                .password(field(fields, "password"))
+                .name(field(fields, "name"))
+                .build();
+        try {
+            request.setRole(role == null || role.isBlank() ? UserRole.PATIENT
+                    : UserRole.valueOf(role.trim().toUpperCase(Locale.ROOT)));
+        } catch (IllegalArgumentException e) {
+            return Row.failed(lineNumber, username, "Unknown role: " + role);
+        }
+        return new Row(lineNumber, request, null);
+    }
+
+    private Row readHeader(List<String> fields) {
+        Map<String, Integer> header = new HashMap<>();
+        for (int i = 0; i < fields.size(); i++) {
+            header.put(fields.get(i).replace("\uFEFF", "").trim().toLowerCase(Locale.ROOT), i);
+        }
+        if (!header.keySet().containsAll(REQUIRED_COLUMNS)) {
+            finished = true;
+            return Row.failed(lineNumber, null, "CSV header must contain the columns " + REQUIRED_COLUMNS);
+        }
+        columns = header;
+        return null;
+    }
+
+    private String field(List<String> fields, String column) {
+        Integer index = columns.get(column);
+        return index == null ? null : fields.get(index);
+    }
+
+    private Row parseJson(String line) {
+        RegisterRequestDTO request;
+        try {
+            request = objectMapper.readValue(line, RegisterRequestDTO.class);
+        } catch (JsonProcessingException e) {
+            return Row.failed(lineNumber, null, "Malformed JSON: " + e.getOriginalMessage());
+        }
+        if (request == null) {
+            return Row.failed(lineNumber, null, "Expected a JSON object");
+        }
+        if (request.getRole() == null) {
+            request.setRole(UserRole.PATIENT);
+        }
+        return new Row(lineNumber, request, null);
+    }
+
+    private static List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private String readLine() {
+        try {
+            String line = reader.readLine();
+            lineNumber++;
+            return line;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read import input", e);
+        }
+    }
+
+    /**
+     * A parsed row, or the reason it could not be parsed.
+     */
+    record Row(long line, RegisterRequestDTO request, String error) {
+
+        static Row failed(long line, String username, String error) {
+            return new Row(line, RegisterRequestDTO.builder().username(username).build(), error);
+        }
+
+        String username() {
+            return request.getUsername();
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package com.fiap.hospital.auth.application.adapters.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fiap.hospital.auth.application.dto.ImportProgressDTO;
+import com.fiap.hospital.auth.application.dto.ImportRowErrorDTO;
+import com.fiap.hospital.auth.application.dto.RegisterRequestDTO;
+import com.fiap.hospital.auth.application.exception.ImportInProgressException;
+import com.fiap.hospital.auth.domain.entities.User;
+import com.fiap.hospital.auth.domain.enums.ImportFormat;
+import com.fiap.hospital.auth.domain.ports.auth.UserImportPort;
+import com.fiap.hospital.auth.domain.ports.persistence.UserRepositoryPort;
+import com.fiap.hospital.auth.infrastructure.adapters.persistence.ConstraintViolations;
+import com.fiap.hospital.auth.infrastructure.adapters.persistence.DatabaseConcurrencyLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Imports users in chunks: rows are validated and checked for duplicates, their passwords hashed in parallel
+ * and the chunk inserted with a single {@code insertAll}, which Hibernate sends as JDBC batches. The users are
+ * new, so inserting them leaves the users cache serving logins untouched.
+ * <p>
+ * Hashing runs on its own pool, sized below the CPU count by default, so an import leaves room for the
+ * {@link com.fiap.hospital.auth.infrastructure.adapters.security.PasswordHashingExecutor} serving logins.
+ * Only one import runs at a time.
+ */
+@Service
+@Slf4j
+public class UserImportServiceAdapter implements UserImportPort, MeterBinder, DisposableBean {
+
+    private final UserRepositoryPort userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final DatabaseConcurrencyLimiter databaseLimiter;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+    private final ThreadPoolExecutor hashingPool;
+    private final Semaphore running = new Semaphore(1);
+
+    public UserImportServiceAdapter(UserRepositoryPort userRepository,
+                                    PasswordEncoder passwordEncoder,
+                                    DatabaseConcurrencyLimiter databaseLimiter,
+                                    Validator validator,
+                                    ObjectMapper objectMapper,
+                                    @Value("${auth.import.chunk-size:500}") int chunkSize,
+                                    @Value("${auth.import.hashing-threads:0}") int hashingThreads) {
+        this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.databaseLimiter = databaseLimiter;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+        int poolSize = hashingThreads > 0 ? hashingThreads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger counter = new AtomicInteger();
+        // A chunk is submitted at once and awaited before the next one, so the queue never holds more than a chunk.
+        this.hashingPool = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(chunkSize),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "user-import-hashing-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        log.info("User import in chunks of {}, hashing on {} threads", chunkSize, poolSize);
+    }
+
+    /**
+     * @throws ImportInProgressException if another import is running, before anything is read or reported
+     */
+    @Override
+    public ImportProgressDTO importUsers(Reader input, ImportFormat format, Listener listener) {
+        if (!running.tryAcquire()) {
+            throw new ImportInProgressException("Another user import is already running");
+        }
+        try {
+            long startedAt = System.nanoTime();
+            Progress progress = new Progress();
+            Set<String> seen = new HashSet<>();
+            UserImportReader reader = new UserImportReader(input, format, objectMapper);
+            for (List<UserImportReader.Row> chunk = reader.nextChunk(chunkSize); !chunk.isEmpty();
+                 chunk = reader.nextChunk(chunkSize)) {
+                importChunk(chunk, seen, progress, listener);
+                listener.onProgress(progress.snapshot(false));
+            }
+            ImportProgressDTO summary = progress.snapshot(true);
+            listener.onProgress(summary);
+            log.info("Imported {} of {} user(s) in {} ms, {} rejected", summary.getCreated(), summary.getProcessed(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt), summary.getFailed());
+            return summary;
+        } finally {
+            running.release();
+        }
+    }
+
+    private void importChunk(List<UserImportReader.Row> chunk, Set<String> seen, Progress progress, Listener listener) {
+        progress.processed += chunk.size();
+        List<UserImportReader.Row> accepted = new ArrayList<>(chunk.size());
+        for (UserImportReader.Row row : chunk) {
+            String error = row.error() != null ? row.error() : validate(row.request());
+            if (error == null && !seen.add(row.username())) {
+                error = "Duplicate username in import";
+            }
+            if (error != null) {
+                progress.fail(listener, row.line(), row.username(), error);
+            } else {
+                accepted.add(row);
+            }
+        }
+        if (accepted.isEmpty()) {
+            return;
+        }
+
+        Set<String> existing = databaseLimiter.call(() -> userRepository.findByUsernameIn(
+                        accepted.stream().map(UserImportReader.Row::username).toList()))
+                .stream()
+                .map(User::getUsername)
+                .collect(Collectors.toSet());
+        List<UserImportReader.Row> rows = new ArrayList<>(accepted.size());
+        for (UserImportReader.Row row : accepted) {
+            if (existing.contains(row.username())) {
+                progress.fail(listener, row.line(), row.username(), "Username already exists");
+            } else {
+                rows.add(row);
+            }
+        }
+        if (!rows.isEmpty()) {
+            insert(rows, hash(rows), progress, listener);
+        }
+    }
+
+    private String validate(RegisterRequestDTO request) {
+        Set<ConstraintViolation<RegisterRequestDTO>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private List<User> hash(List<UserImportReader.Row> rows) {
+        List<Future<String>> hashes = rows.stream()
+                .map(row -> hashingPool.submit(() -> passwordEncoder.encode(row.request().getPassword())))
+                .toList();
+        List<User> users = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            RegisterRequestDTO request = rows.get(i).request();
+            users.add(User.builder()
+                    .username(request.getUsername())
+                    .password(await(hashes.get(i)))
+                    .name(request.getName())
+                    .role(request.getRole())
+                    .build());
+        }
+        return users;
+    }
+
+    private static String await(Future<String> hash) {
+        try {
+            return hash.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing imported passwords", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Inserts the chunk in one transaction. A user registered through the API since the existence check fails
+     * the whole chunk, which is then retried row by row so only the conflicting rows are rejected.
+     */
+    private void insert(List<UserImportReader.Row> rows, List<User> users, Progress progress, Listener listener) {
+        try {
+            databaseLimiter.call(() -> userRepository.insertAll(users));
+            progress.created += users.size();
+            return;
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Chunk insert failed, retrying {} row(s) one by one: {}", users.size(), e.getMessage());
+        }
+
+        for (int i = 0; i < users.size(); i++) {
+            User user = users.get(i);
+            user.setId(null);
+            try {
+                databaseLimiter.call(() -> userRepository.save(user));
+                progress.created++;
+            } catch (DataIntegrityViolationException e) {
+                progress.fail(listener, rows.get(i).line(), user.getUsername(),
+                        ConstraintViolations.isUniqueViolation(e, User.USERNAME_CONSTRAINT) ? "Username already exists" : "Database error");
+            }
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        new ExecutorServiceMetrics(hashingPool, "user-import-hashing", Tags.empty()).bindTo(registry);
+    }
+
+    @Override
+    public void destroy() {
+        hashingPool.shutdownNow();
+    }
+
+    private static class Progress {
+        private long processed;
+        private long created;
+        private long failed;
+
+        void fail(Listener listener, long line, String username, String error) {
+            failed++;
+            listener.onError(new ImportRowErrorDTO(line, username, error));
+        }
+
+        ImportProgressDTO snapshot(boolean done) {
+            return new ImportProgressDTO(processed, created, failed, done);
+        }
+    }
+}
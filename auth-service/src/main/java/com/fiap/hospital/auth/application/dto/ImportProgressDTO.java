@@ -0,0 +1,17 @@
+package com.fiap.hospital.auth.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportProgressDTO {
+    private long processed;
+    private long created;
+    private long failed;
+    private boolean done;
+}
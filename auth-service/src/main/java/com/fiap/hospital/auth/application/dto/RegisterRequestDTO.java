@@ -1,6 +1,8 @@
 package com.fiap.hospital.auth.application.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fiap.hospital.auth.domain.enums.UserRole;
+import jakarta.validation.constraints.AssertTrue;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
@@ -29,4 +31,10 @@ public class RegisterRequestDTO {
     private String name;
 
     private UserRole role = UserRole.PATIENT;
-} 
\ No newline at end of file
+
+    @JsonIgnore
+    @AssertTrue(message = "role: ADMIN accounts cannot be self-registered")
+    public boolean isSelfRegistrableRole() {
+        return role != UserRole.ADMIN;
+    }
+}
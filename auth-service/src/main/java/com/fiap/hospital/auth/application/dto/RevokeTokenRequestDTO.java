@@ -0,0 +1,28 @@
+package com.fiap.hospital.auth.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RevokeTokenRequestDTO {
+
+    @Size(max = 36, message = "Token id must be at most 36 characters")
+    private String tokenId;
+
+    @Size(max = 50, message = "Username must be at most 50 characters")
+    private String username;
+
+    @JsonIgnore
+    @AssertTrue(message = "tokenId or username is required")
+    public boolean isTargetPresent() {
+        return tokenId != null || username != null;
+    }
+}
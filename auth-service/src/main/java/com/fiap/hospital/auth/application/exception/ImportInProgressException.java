@@ -0,0 +1,8 @@
+package com.fiap.hospital.auth.application.exception;
+
+public class ImportInProgressException extends RuntimeException {
+
+    public ImportInProgressException(String message) {
+        super(message);
+    }
+}
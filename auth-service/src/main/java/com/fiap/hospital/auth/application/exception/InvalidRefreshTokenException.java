@@ -0,0 +1,8 @@
+package com.fiap.hospital.auth.application.exception;
+
+public class InvalidRefreshTokenException extends RuntimeException {
+
+    public InvalidRefreshTokenException(String message) {
+        super(message);
+    }
+}
@@ -3,5 +3,6 @@ package com.fiap.hospital.auth.domain.enums;
 public enum UserRole {
     DOCTOR,
     NURSE,
-    PATIENT
+    PATIENT,
+    ADMIN
 } 
\ No newline at end of file
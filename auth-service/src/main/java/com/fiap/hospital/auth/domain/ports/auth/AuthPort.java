@@ -2,10 +2,16 @@ package com.fiap.hospital.auth.domain.ports.auth;
 
 import com.fiap.hospital.auth.application.dto.LoginRequestDTO;
 import com.fiap.hospital.auth.application.dto.LoginResponseDTO;
+import com.fiap.hospital.auth.application.dto.LogoutRequestDTO;
+import com.fiap.hospital.auth.application.dto.RefreshTokenRequestDTO;
 import com.fiap.hospital.auth.application.dto.RegisterRequestDTO;
+import com.fiap.hospital.auth.application.dto.RevokeTokenRequestDTO;
 import com.fiap.hospital.auth.domain.entities.User;
 
 public interface AuthPort {
     LoginResponseDTO login(LoginRequestDTO loginRequest);
     User register(RegisterRequestDTO registerRequest);
+    LoginResponseDTO refresh(RefreshTokenRequestDTO refreshRequest);
+    void logout(String accessToken, LogoutRequestDTO logoutRequest);
+    void revoke(RevokeTokenRequestDTO revokeRequest);
 } 
\ No newline at end of file
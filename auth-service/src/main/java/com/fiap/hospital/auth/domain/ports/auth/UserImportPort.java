@@ -0,0 +1,22 @@
+package com.fiap.hospital.auth.domain.ports.auth;
+
+import com.fiap.hospital.auth.application.dto.ImportProgressDTO;
+import com.fiap.hospital.auth.application.dto.ImportRowErrorDTO;
+import com.fiap.hospital.auth.domain.enums.ImportFormat;
+
+import java.io.Reader;
+
+public interface UserImportPort {
+
+    /**
+     * Imports users row by row from {@code input}, reporting each rejected row and the progress after each
+     * chunk to {@code listener} as it goes.
+     */
+    ImportProgressDTO importUsers(Reader input, ImportFormat format, Listener listener);
+
+    interface Listener {
+        void onError(ImportRowErrorDTO error);
+
+        void onProgress(ImportProgressDTO progress);
+    }
+}
@@ -0,0 +1,17 @@
+package com.fiap.hospital.auth.domain.ports.persistence;
+
+import com.fiap.hospital.auth.domain.entities.User;
+
+import java.util.List;
+
+/**
+ * Inserts users that do not exist yet, bypassing the users cache: nothing can be cached for a username that
+ * was never stored, so unlike {@link UserRepositoryPort#saveAll} this does not clear the cache.
+ */
+public interface UserBatchInsertRepository {
+
+    /**
+     * Persists new users in one transaction, sent by Hibernate as JDBC batches.
+     */
+    List<User> insertAll(List<User> users);
+}
@@ -0,0 +1,25 @@
+package com.fiap.hospital.auth.domain.ports.persistence;
+
+import com.fiap.hospital.auth.domain.entities.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Picked up by Spring Data as the implementation of the {@link UserBatchInsertRepository} fragment, which it
+ * only looks for in the fragment's package.
+ */
+public class UserBatchInsertRepositoryImpl implements UserBatchInsertRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public List<User> insertAll(List<User> users) {
+        users.forEach(entityManager::persist);
+        return users;
+    }
+}
@@ -1,13 +1,89 @@
 package com.fiap.hospital.auth.domain.ports.persistence;
 
 import com.fiap.hospital.auth.domain.entities.User;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
+/**
+ * Users, cached by username. Saving a user replaces its entry and deleting it evicts it; writes of several
+ * users, or by id, clear the whole cache since their usernames are not known up front. New users are inserted
+ * in bulk through {@link #insertAll}, which leaves the cache alone.
+ */
 @Repository
-public interface UserRepositoryPort extends JpaRepository<User, Long> {
+public interface UserRepositoryPort extends JpaRepository<User, Long>, UserBatchInsertRepository {
+
+    String USERS_CACHE = "users";
+
+    @Cacheable(cacheNames = USERS_CACHE, key = "#p0", unless = "#result == null")
     Optional<User> findByUsername(String username);
+
     boolean existsByUsername(String username);
-} 
\ No newline at end of file
+
+    List<User> findByUsernameIn(Collection<String> usernames);
+
+    @Override
+    @CachePut(cacheNames = USERS_CACHE, key = "#result.username")
+    <S extends User> S save(S user);
+
+    @Override
+    @CachePut(cacheNames = USERS_CACHE, key = "#result.username")
+    <S extends User> S saveAndFlush(S user);
+
+    @Override
+    @CacheEvict(cacheNames = USERS_CACHE, allEntries = true)
+    <S extends User> List<S> saveAll(Iterable<S> users);
+
+    @Override
+    @CacheEvict(cacheNames = USERS_CACHE, allEntries = true)
+    <S extends User> List<S> saveAllAndFlush(Iterable<S> users);
+
+    @Override
+    @CacheEvict(cacheNames = USERS_CACHE, key = "#p0.username")
+    void delete(User user);
+
+    @Override
+    @CacheEvict(cacheNames = USERS_CACHE, allEntries = true)
+    void deleteById(Long id);
+
+    @Override
+    @CacheEvict(cacheNames = USERS_CACHE, allEntries = true)
+    void deleteAllById(Iterable<? extends Long> ids);
+
+    @Override
+    @CacheEvict(cacheNames = USERS_CACHE, allEntries = true)
+    void deleteAll(Iterable<? extends User> users);
+
+    @Override
+    @CacheEvict(cacheNames = USERS_CACHE, allEntries = true)
+    void deleteAll();
+
+    @Override
+    @CacheEvict(cacheNames = USERS_CACHE, allEntries = true)
+    void deleteAllInBatch(Iterable<User> users);
+
+    @Override
+    @CacheEvict(cacheNames = USERS_CACHE, allEntries = true)
+    void deleteAllByIdInBatch(Iterable<Long> ids);
+
+    @Override
+    @CacheEvict(cacheNames = USERS_CACHE, allEntries = true)
+    void deleteAllInBatch();
+
+    /**
+     * Users holding a refresh token that is still usable, most recently updated first.
+     */
+    @Query("SELECT u FROM User u WHERE u.id IN (SELECT t.user.id FROM RefreshToken t "
+            + "WHERE t.revokedAt IS NULL AND t.expiresAt > :now) ORDER BY u.updatedAt DESC")
+    List<User> findActiveUsers(@Param("now") LocalDateTime now, Pageable pageable);
+}
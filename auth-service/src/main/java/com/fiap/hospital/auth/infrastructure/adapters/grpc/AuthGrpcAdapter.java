@@ -2,81 +2,272 @@ package com.fiap.hospital.auth.infrastructure.adapters.grpc;
 
 import com.fiap.hospital.auth.domain.entities.User;
 import com.fiap.hospital.auth.domain.ports.persistence.UserRepositoryPort;
+import com.fiap.hospital.auth.infrastructure.adapters.metrics.AuthMetrics;
+import com.fiap.hospital.auth.infrastructure.adapters.persistence.DatabaseConcurrencyLimiter;
 import com.fiap.hospital.auth.infrastructure.adapters.security.JwtTokenAdapter;
+import com.fiap.hospital.auth.infrastructure.adapters.security.RevokedTokenException;
+import com.fiap.hospital.auth.infrastructure.adapters.security.TokenRevocationList;
+import com.fiap.hospital.auth.infrastructure.adapters.security.TokenValidationCache;
+import com.fiap.hospital.auth.infrastructure.adapters.security.VerifiedToken;
 import com.fiap.hospital.auth.proto.AuthServiceGrpc;
+import com.fiap.hospital.auth.proto.BatchTokenValidationRequest;
+import com.fiap.hospital.auth.proto.BatchTokenValidationResponse;
+import com.fiap.hospital.auth.proto.StreamTokenValidationRequest;
+import com.fiap.hospital.auth.proto.StreamTokenValidationResponse;
 import com.fiap.hospital.auth.proto.TokenValidationRequest;
 import com.fiap.hospital.auth.proto.TokenValidationResponse;
 import com.fiap.hospital.auth.proto.UserRole;
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
 import io.grpc.stub.StreamObserver;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @Service
 @Slf4j
 public class AuthGrpcAdapter extends AuthServiceGrpc.AuthServiceImplBase {
 
+    private static final String UNARY_RPC = "ValidateTokenAndGetRole";
+    private static final String BATCH_RPC = "ValidateTokens";
+    private static final String STREAM_RPC = "ValidateTokenStream";
+
     private final JwtTokenAdapter jwtService;
     private final UserRepositoryPort userRepository;
+    private final TokenValidationCache tokenCache;
+    private final TokenRevocationList revocationList;
+    private final DatabaseConcurrencyLimiter databaseLimiter;
+    private final ValidationLogger validationLogger;
+    private final AuthMetrics metrics;
+    private final int maxBatchSize;
 
-    public AuthGrpcAdapter(JwtTokenAdapter jwtService, UserRepositoryPort userRepository) {
+    public AuthGrpcAdapter(JwtTokenAdapter jwtService, UserRepositoryPort userRepository,
+            TokenValidationCache tokenCache, TokenRevocationList revocationList,
+            DatabaseConcurrencyLimiter databaseLimiter,
+            ValidationLogger validationLogger, AuthMetrics metrics,
+            @Value("${grpc.server.max-batch-size:1000}") int maxBatchSize) {
         this.jwtService = jwtService;
         this.userRepository = userRepository;
+        this.tokenCache = tokenCache;
+        this.revocationList = revocationList;
+        this.databaseLimiter = databaseLimiter;
+        this.validationLogger = validationLogger;
+        this.metrics = metrics;
+        this.maxBatchSize = maxBatchSize;
     }
 
     @Override
     public void validateTokenAndGetRole(TokenValidationRequest request,
             StreamObserver<TokenValidationResponse> responseObserver) {
-        String token = request.getToken();
-        log.debug("Received token validation request for token: {}", token);
-        TokenValidationResponse.Builder responseBuilder = TokenValidationResponse.newBuilder();
+        Timer.Sample sample = metrics.start();
+        TokenValidationResponse response = validate(request.getToken(), UNARY_RPC);
+        metrics.recordValidation(sample, UNARY_RPC);
+
+        responseObserver.onNext(response);
+        responseObserver.onCompleted();
+    }
+
+    @Override
+    public void validateTokens(BatchTokenValidationRequest request,
+            StreamObserver<BatchTokenValidationResponse> responseObserver) {
+        List<String> tokens = request.getTokensList();
+        log.debug("Received batch token validation request with {} tokens", tokens.size());
 
+        if (tokens.size() > maxBatchSize) {
+            responseObserver.onError(Status.INVALID_ARGUMENT
+                    .withDescription("Batch of " + tokens.size() + " tokens exceeds the limit of " + maxBatchSize)
+                    .asRuntimeException());
+            return;
+        }
+
+        Timer.Sample sample = metrics.start();
+        TokenValidationResponse[] results = new TokenValidationResponse[tokens.size()];
+        Map<Integer, VerifiedToken> pendingLookups = new HashMap<>();
+
+        for (int i = 0; i < tokens.size(); i++) {
+            String token = tokens.get(i);
+            try {
+                Optional<TokenValidationCache.Entry> cached = tokenCache.get(token);
+                if (cached.isPresent()) {
+                    ensureNotRevoked(cached.get().tokenId());
+                    results[i] = validResponse(BATCH_RPC, cached.get().username(), cached.get().role().name(), "cache");
+                    continue;
+                }
+
+                VerifiedToken verifiedToken = jwtService.verify(token);
+                ensureNotRevoked(verifiedToken.tokenId());
+                if (verifiedToken.hasEmbeddedRole()) {
+                    tokenCache.put(token, verifiedToken.tokenId(), verifiedToken.username(), verifiedToken.role(),
+                            verifiedToken.expiration().getTime());
+                    results[i] = validResponse(BATCH_RPC, verifiedToken.username(), verifiedToken.role().name(), "claims");
+                } else {
+                    pendingLookups.put(i, verifiedToken);
+                }
+            } catch (Exception e) {
+                results[i] = errorResponse(BATCH_RPC, e);
+            }
+        }
+
+        if (!pendingLookups.isEmpty()) {
+            resolveUsers(tokens, pendingLookups, results);
+        }
+        metrics.recordValidation(sample, BATCH_RPC);
+
+        responseObserver.onNext(BatchTokenValidationResponse.newBuilder()
+                .addAllResults(Arrays.asList(results))
+                .build());
+        responseObserver.onCompleted();
+    }
+
+    private void resolveUsers(List<String> tokens, Map<Integer, VerifiedToken> pendingLookups,
+            TokenValidationResponse[] results) {
+        Map<String, User> usersByUsername;
         try {
-            String username = jwtService.extractUsername(token);
-            log.debug("Extracted username from token: {}", username);
-
-            if (jwtService.validateToken(token, username)) {
-                log.debug("Token is valid, looking up user: {}", username);
-                User user = userRepository.findByUsername(username)
-                        .orElseThrow(() -> {
-                            log.error("User not found: {}", username);
-                            return new RuntimeException("User not found: " + username);
-                        });
-                
-                log.debug("Found user with role: {}", user.getRole());
-                UserRole role = convertToGrpcRole(user.getRole().name());
-                log.debug("Converted role to gRPC role: {}", role);
-
-                responseBuilder
-                        .setIsValid(true)
-                        .setRole(role);
-                log.debug("Built response with isValid=true and role={}", role);
+            Set<String> usernames = pendingLookups.values().stream()
+                    .map(VerifiedToken::username)
+                    .collect(Collectors.toSet());
+            usersByUsername = databaseLimiter.call(() -> userRepository.findByUsernameIn(usernames)).stream()
+                    .collect(Collectors.toMap(User::getUsername, Function.identity()));
+        } catch (Exception e) {
+            pendingLookups.keySet().forEach(index -> results[index] = errorResponse(BATCH_RPC, e));
+            return;
+        }
+
+        pendingLookups.forEach((index, verifiedToken) -> {
+            User user = usersByUsername.get(verifiedToken.username());
+            if (user == null) {
+                results[index] = errorResponse(BATCH_RPC, userNotFound(verifiedToken.username()));
             } else {
-                log.warn("Token validation failed for username: {}", username);
-                responseBuilder
-                        .setIsValid(false)
-                        .setErrorMessage("Invalid token");
+                tokenCache.put(tokens.get(index), verifiedToken.tokenId(), user.getUsername(), user.getRole(),
+                        verifiedToken.expiration().getTime());
+                results[index] = validResponse(BATCH_RPC, user.getUsername(), user.getRole().name(), "database");
             }
+        });
+    }
+
+    @Override
+    public StreamObserver<StreamTokenValidationRequest> validateTokenStream(
+            StreamObserver<StreamTokenValidationResponse> responseObserver) {
+        ServerCallStreamObserver<StreamTokenValidationResponse> serverObserver =
+                (ServerCallStreamObserver<StreamTokenValidationResponse>) responseObserver;
+        serverObserver.disableAutoRequest();
+
+        // Only pull the next request once the previous response fits in the outbound buffer,
+        // so a slow consumer backs up into HTTP/2 flow control instead of server memory.
+        AtomicBoolean wasReady = new AtomicBoolean(false);
+        serverObserver.setOnReadyHandler(() -> {
+            if (serverObserver.isReady() && wasReady.compareAndSet(false, true)) {
+                serverObserver.request(1);
+            }
+        });
+
+        return new StreamObserver<>() {
+            @Override
+            public void onNext(StreamTokenValidationRequest request) {
+                Timer.Sample sample = metrics.start();
+                TokenValidationResponse result = validate(request.getToken(), STREAM_RPC);
+                metrics.recordValidation(sample, STREAM_RPC);
+
+                serverObserver.onNext(StreamTokenValidationResponse.newBuilder()
+                        .setCorrelationId(request.getCorrelationId())
+                        .setResult(result)
+                        .build());
+
+                if (serverObserver.isReady()) {
+                    serverObserver.request(1);
+                } else {
+                    wasReady.set(false);
+                }
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                log.debug("Token validation stream closed by client: {}", Status.fromThrowable(t));
+            }
+
+            @Override
+            public void onCompleted() {
+                serverObserver.onCompleted();
+            }
+        };
+    }
+
+    private TokenValidationResponse validate(String token, String rpc) {
+        try {
+            Optional<TokenValidationCache.Entry> cached = tokenCache.get(token);
+            if (cached.isPresent()) {
+                ensureNotRevoked(cached.get().tokenId());
+                return validResponse(rpc, cached.get().username(), cached.get().role().name(), "cache");
+            }
+
+            VerifiedToken verifiedToken = jwtService.verify(token);
+            ensureNotRevoked(verifiedToken.tokenId());
+            String username = verifiedToken.username();
+            if (verifiedToken.hasEmbeddedRole()) {
+                tokenCache.put(token, verifiedToken.tokenId(), username, verifiedToken.role(),
+                        verifiedToken.expiration().getTime());
+                return validResponse(rpc, username, verifiedToken.role().name(), "claims");
+            }
+
+            User user = databaseLimiter.call(() -> userRepository.findByUsername(username))
+                    .orElseThrow(() -> userNotFound(username));
+
+            tokenCache.put(token, verifiedToken.tokenId(), username, user.getRole(),
+                    verifiedToken.expiration().getTime());
+            return validResponse(rpc, username, user.getRole().name(), "database");
         } catch (Exception e) {
-            log.error("Error validating token", e);
-            responseBuilder
-                    .setIsValid(false)
-                    .setErrorMessage("Error validating token: " + e.getMessage());
+            return errorResponse(rpc, e);
         }
+    }
 
-        TokenValidationResponse response = responseBuilder.build();
-        log.debug("Sending response: isValid={}, role={}, errorMessage={}", 
-                response.getIsValid(), response.getRole(), response.getErrorMessage());
-        responseObserver.onNext(response);
-        responseObserver.onCompleted();
+    private TokenValidationResponse validResponse(String rpc, String username, String role, String source) {
+        metrics.countOutcome(rpc, ValidationOutcome.VALID);
+        validationLogger.valid(rpc, username, role, source);
+        return TokenValidationResponse.newBuilder()
+                .setIsValid(true)
+                .setRole(convertToGrpcRole(role))
+                .build();
+    }
+
+    private TokenValidationResponse errorResponse(String rpc, Exception e) {
+        ValidationOutcome outcome = ValidationOutcome.of(e);
+        metrics.countOutcome(rpc, outcome);
+        validationLogger.rejected(rpc, outcome, e);
+        return TokenValidationResponse.newBuilder()
+                .setIsValid(false)
+                .setErrorMessage("Error validating token: " + e.getMessage())
+                .build();
+    }
+
+    private void ensureNotRevoked(String tokenId) {
+        if (revocationList.isRevoked(tokenId)) {
+            throw new RevokedTokenException("Token has been revoked");
+        }
+    }
+
+    private static UsernameNotFoundException userNotFound(String username) {
+        return new UsernameNotFoundException("User not found: " + username);
     }
 
     private UserRole convertToGrpcRole(String role) {
-        log.debug("Converting role: {}", role);
         try {
             return switch (role.toUpperCase()) {
                 case "DOCTOR" -> UserRole.DOCTOR;
                 case "NURSE" -> UserRole.NURSE;
                 case "PATIENT" -> UserRole.PATIENT;
+                case "ADMIN" -> UserRole.ADMIN;
                 default -> {
                     log.warn("Unknown role received: {}", role);
                     yield UserRole.UNKNOWN;
@@ -87,4 +278,4 @@ public class AuthGrpcAdapter extends AuthServiceGrpc.AuthServiceImplBase {
             return UserRole.UNKNOWN;
         }
     }
-}
\ No newline at end of file
+}
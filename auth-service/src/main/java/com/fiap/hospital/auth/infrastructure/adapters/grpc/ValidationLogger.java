@@ -0,0 +1,90 @@
+package com.fiap.hospital.auth.infrastructure.adapters.grpc;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Logs the outcome of each token validation as a single key=value line, without the token itself.
+ * Successful validations are logged at DEBUG for a sample of requests only. Failures are logged at INFO,
+ * capped per outcome and per second, and the number of suppressed lines is reported with the next one.
+ * Only unexpected errors carry a stack trace.
+ */
+@Component
+@Slf4j
+public class ValidationLogger {
+
+    private final double successSampleRate;
+    private final int failuresPerSecond;
+    private final LongSupplier clock;
+    private final Map<ValidationOutcome, FailureWindow> failureWindows = new EnumMap<>(ValidationOutcome.class);
+
+    @Autowired
+    public ValidationLogger(@Value("${grpc.validation.log.success-sample-rate:0.01}") double successSampleRate,
+                            @Value("${grpc.validation.log.failures-per-second:10}") int failuresPerSecond) {
+        this(successSampleRate, failuresPerSecond, System::currentTimeMillis);
+    }
+
+    ValidationLogger(double successSampleRate, int failuresPerSecond, LongSupplier clock) {
+        this.successSampleRate = successSampleRate;
+        this.failuresPerSecond = failuresPerSecond;
+        this.clock = clock;
+        for (ValidationOutcome outcome : ValidationOutcome.values()) {
+            failureWindows.put(outcome, new FailureWindow());
+        }
+    }
+
+    public void valid(String rpc, String username, String role, String source) {
+        if (log.isDebugEnabled() && ThreadLocalRandom.current().nextDouble() < successSampleRate) {
+            log.debug("token_validation outcome=VALID rpc={} user={} role={} source={}", rpc, username, role, source);
+        }
+    }
+
+    public void rejected(String rpc, ValidationOutcome outcome, Exception e) {
+        if (outcome.isExpected() ? !log.isInfoEnabled() : !log.isWarnEnabled()) {
+            return;
+        }
+        long suppressed = failureWindows.get(outcome).tryAcquire(clock.getAsLong() / 1000);
+        if (suppressed < 0) {
+            return;
+        }
+
+        if (outcome.isExpected()) {
+            log.info("token_validation outcome={} rpc={} reason={} suppressed={}",
+                    outcome, rpc, e.getClass().getSimpleName(), suppressed);
+        } else {
+            log.warn("token_validation outcome={} rpc={} reason={} suppressed={}",
+                    outcome, rpc, e.getClass().getSimpleName(), suppressed, e);
+        }
+    }
+
+    private final class FailureWindow {
+
+        private final AtomicLong second = new AtomicLong(-1);
+        private final AtomicInteger emitted = new AtomicInteger();
+        private final AtomicLong suppressed = new AtomicLong();
+
+        /**
+         * @return the number of lines suppressed since the last one was logged, or -1 if this one must be dropped
+         */
+        long tryAcquire(long currentSecond) {
+            long windowSecond = second.get();
+            if (windowSecond != currentSecond && second.compareAndSet(windowSecond, currentSecond)) {
+                emitted.set(0);
+            }
+            if (emitted.incrementAndGet() > failuresPerSecond) {
+                suppressed.incrementAndGet();
+                return -1;
+            }
+            return suppressed.getAndSet(0);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.fiap.hospital.auth.infrastructure.adapters.grpc;
+
+import com.fiap.hospital.auth.infrastructure.adapters.security.RevokedTokenException;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.security.SignatureException;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+public enum ValidationOutcome {
+    VALID,
+    EXPIRED,
+    REVOKED,
+    BAD_SIGNATURE,
+    MALFORMED,
+    UNKNOWN_USER,
+    ERROR;
+
+    public static ValidationOutcome of(Exception e) {
+        if (e instanceof ExpiredJwtException) {
+            return EXPIRED;
+        }
+        if (e instanceof RevokedTokenException) {
+            return REVOKED;
+        }
+        if (e instanceof SignatureException) {
+            return BAD_SIGNATURE;
+        }
+        if (e instanceof JwtException || e instanceof IllegalArgumentException) {
+            return MALFORMED;
+        }
+        if (e instanceof UsernameNotFoundException) {
+            return UNKNOWN_USER;
+        }
+        return ERROR;
+    }
+
+    /**
+     * Whether the failure is caused by the token or its user rather than by the service, so it needs no stack trace.
+     */
+    public boolean isExpected() {
+        return this != ERROR;
+    }
+}
@@ -0,0 +1,101 @@
+package com.fiap.hospital.auth.infrastructure.adapters.metrics;
+
+import com.fiap.hospital.auth.infrastructure.adapters.grpc.ValidationOutcome;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Timers and counters for the authentication paths. Timers publish percentile histograms so latency
+ * percentiles can be aggregated across instances in Prometheus.
+ */
+@Component
+public class AuthMetrics {
+
+    public static final String SUCCESS = "success";
+    public static final String FAILURE = "failure";
+
+    private final MeterRegistry registry;
+    private final Map<String, Timer> validationTimers = new ConcurrentHashMap<>();
+    private final Map<String, Map<ValidationOutcome, Counter>> outcomeCounters = new ConcurrentHashMap<>();
+    private final Map<String, Timer> outcomeTimers = new ConcurrentHashMap<>();
+    private final Map<String, Counter> filterUserLookups = new ConcurrentHashMap<>();
+    private final Timer passwordMatchTimer;
+
+    public AuthMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        this.passwordMatchTimer = Timer.builder("auth.password.match")
+                .description("Time spent checking a password against its hash")
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    public Timer.Sample start() {
+        return Timer.start(registry);
+    }
+
+    public void recordValidation(Timer.Sample sample, String rpc) {
+        sample.stop(validationTimers.computeIfAbsent(rpc, key -> Timer.builder("auth.token.validation")
+                .description("Time to validate a token, or a whole batch for ValidateTokens")
+                .tag("rpc", key)
+                .publishPercentileHistogram()
+                .register(registry)));
+    }
+
+    public void countOutcome(String rpc, ValidationOutcome outcome) {
+        outcomeCounters.computeIfAbsent(rpc, this::registerOutcomeCounters).get(outcome).increment();
+    }
+
+    public void recordLogin(Timer.Sample sample, String outcome) {
+        sample.stop(outcomeTimer("auth.login", "Time to authenticate a user and issue a token", outcome));
+    }
+
+    public void recordRefresh(Timer.Sample sample, String outcome) {
+        sample.stop(outcomeTimer("auth.refresh", "Time to rotate a refresh token and issue an access token", outcome));
+    }
+
+    public void recordRegister(Timer.Sample sample, String outcome) {
+        sample.stop(outcomeTimer("auth.register", "Time to register a user", outcome));
+    }
+
+    public void recordFilter(Timer.Sample sample, String outcome) {
+        sample.stop(outcomeTimer("auth.filter", "Time spent in JwtAuthenticationFilter per request", outcome));
+    }
+
+    public void countFilterUserLookup(String reason) {
+        filterUserLookups.computeIfAbsent(reason, key -> Counter.builder("auth.filter.user.lookups")
+                .description("Users loaded from the database by JwtAuthenticationFilter")
+                .tag("reason", key)
+                .register(registry)).increment();
+    }
+
+    public <T> T timePasswordMatch(Supplier<T> passwordMatch) {
+        return passwordMatchTimer.record(passwordMatch);
+    }
+
+    private Timer outcomeTimer(String name, String description, String outcome) {
+        return outcomeTimers.computeIfAbsent(name + ":" + outcome, key -> Timer.builder(name)
+                .description(description)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(registry));
+    }
+
+    private Map<ValidationOutcome, Counter> registerOutcomeCounters(String rpc) {
+        Map<ValidationOutcome, Counter> counters = new EnumMap<>(ValidationOutcome.class);
+        for (ValidationOutcome outcome : ValidationOutcome.values()) {
+            counters.put(outcome, Counter.builder("auth.token.validation.outcomes")
+                    .description("Token validations by outcome")
+                    .tag("rpc", rpc)
+                    .tag("outcome", outcome.name().toLowerCase())
+                    .register(registry));
+        }
+        return counters;
+    }
+}
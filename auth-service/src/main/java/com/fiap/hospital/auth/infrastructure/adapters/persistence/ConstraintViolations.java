@@ -0,0 +1,33 @@
+package com.fiap.hospital.auth.infrastructure.adapters.persistence;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Locale;
+
+/**
+ * Tells which constraint a failed write violated, from the SQLState and the constraint name the dialect
+ * extracted rather than from the wording of the driver's message.
+ */
+public final class ConstraintViolations {
+
+    private static final String UNIQUE_VIOLATION = "23505";
+
+    private ConstraintViolations() {
+    }
+
+    /**
+     * Whether the write broke the unique constraint named {@code constraint}. Some databases report the name
+     * qualified with the schema or the backing index, so it only has to appear in the reported name.
+     */
+    public static boolean isUniqueViolation(DataIntegrityViolationException e, String constraint) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                String name = violation.getConstraintName();
+                return UNIQUE_VIOLATION.equals(violation.getSQLState()) && name != null
+                        && name.toLowerCase(Locale.ROOT).contains(constraint.toLowerCase(Locale.ROOT));
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,8 @@
+package com.fiap.hospital.auth.infrastructure.adapters.persistence;
+
+public class DatabaseBusyException extends RuntimeException {
+
+    public DatabaseBusyException(String message) {
+        super(message);
+    }
+}
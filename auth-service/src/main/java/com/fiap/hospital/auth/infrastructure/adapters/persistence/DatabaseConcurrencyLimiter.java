@@ -0,0 +1,67 @@
+package com.fiap.hospital.auth.infrastructure.adapters.persistence;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Bounds concurrent database work to the size of the connection pool. With virtual threads the number of
+ * in-flight requests is no longer capped by a thread pool, so this is what keeps them from piling up on Hikari.
+ */
+@Component
+@Slf4j
+public class DatabaseConcurrencyLimiter implements MeterBinder {
+
+    private final Semaphore permits;
+    private final Duration acquireTimeout;
+
+    public DatabaseConcurrencyLimiter(@Value("${spring.datasource.hikari.maximum-pool-size:10}") int maxConcurrency,
+                                      @Value("${auth.database.acquire-timeout:2s}") Duration acquireTimeout) {
+        this.permits = new Semaphore(maxConcurrency, true);
+        this.acquireTimeout = acquireTimeout;
+        log.info("Database concurrency limited to {} (acquire timeout {})", maxConcurrency, acquireTimeout);
+    }
+
+    /**
+     * @throws DatabaseBusyException if no permit becomes available within the acquire timeout
+     */
+    public <T> T call(Supplier<T> databaseCall) {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DatabaseBusyException("Interrupted while waiting for a database permit");
+        }
+        if (!acquired) {
+            throw new DatabaseBusyException("Database is busy, try again later");
+        }
+        try {
+            return databaseCall.get();
+        } finally {
+            permits.release();
+        }
+    }
+
+    public int availablePermits() {
+        return permits.availablePermits();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("auth.database.permits.available", permits, Semaphore::availablePermits)
+                .description("Database permits not currently held by a request")
+                .register(registry);
+        Gauge.builder("auth.database.permits.waiting", permits, Semaphore::getQueueLength)
+                .description("Requests waiting for a database permit")
+                .register(registry);
+    }
+}
@@ -0,0 +1,53 @@
+package com.fiap.hospital.auth.infrastructure.adapters.persistence;
+
+import com.fiap.hospital.auth.domain.entities.User;
+import com.fiap.hospital.auth.domain.ports.persistence.UserRepositoryPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Optionally fills the user cache on startup with the users that have an active session, so a freshly
+ * started instance does not send every first validation and login to the database.
+ */
+@Component
+@Slf4j
+public class UserCacheWarmer {
+
+    private final UserRepositoryPort userRepository;
+    private final CacheManager cacheManager;
+    private final boolean enabled;
+    private final int size;
+
+    public UserCacheWarmer(UserRepositoryPort userRepository, CacheManager cacheManager,
+                           @Value("${auth.user-cache.warmup.enabled:false}") boolean enabled,
+                           @Value("${auth.user-cache.warmup.size:1000}") int size) {
+        this.userRepository = userRepository;
+        this.cacheManager = cacheManager;
+        this.enabled = enabled;
+        this.size = size;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        Cache cache = cacheManager.getCache(UserRepositoryPort.USERS_CACHE);
+        if (!enabled || cache == null) {
+            return;
+        }
+        try {
+            List<User> users = userRepository.findActiveUsers(LocalDateTime.now(), PageRequest.of(0, size));
+            users.forEach(user -> cache.put(user.getUsername(), user));
+            log.info("Warmed up user cache with {} active user(s)", users.size());
+        } catch (RuntimeException e) {
+            log.warn("User cache warmup failed, users will be loaded on demand: {}", e.getMessage());
+        }
+    }
+}
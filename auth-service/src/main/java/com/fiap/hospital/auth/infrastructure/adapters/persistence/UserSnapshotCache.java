@@ -0,0 +1,44 @@
+package com.fiap.hospital.auth.infrastructure.adapters.persistence;
+
+import com.fiap.hospital.auth.domain.entities.User;
+import com.fiap.hospital.auth.domain.enums.UserRole;
+import com.github.benmanes.caffeine.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.time.LocalDateTime;
+
+/**
+ * Caffeine cache of users that keeps an immutable copy of each one and hands out a new {@link User} on
+ * every hit. Callers can change the user they got, like re-hashing its password, without the change
+ * reaching the cache before it is saved.
+ */
+public class UserSnapshotCache extends CaffeineCache {
+
+    public UserSnapshotCache(String name, Cache<Object, Object> cache, boolean allowNullValues) {
+        super(name, cache, allowNullValues);
+    }
+
+    @Override
+    protected Object toStoreValue(Object userValue) {
+        return super.toStoreValue(userValue instanceof User user ? Snapshot.of(user) : userValue);
+    }
+
+    @Override
+    protected Object fromStoreValue(Object storeValue) {
+        Object value = super.fromStoreValue(storeValue);
+        return value instanceof Snapshot snapshot ? snapshot.toUser() : value;
+    }
+
+    private record Snapshot(Long id, String name, String username, String password, UserRole role,
+                            LocalDateTime createdAt, LocalDateTime updatedAt) {
+
+        static Snapshot of(User user) {
+            return new Snapshot(user.getId(), user.getName(), user.getUsername(), user.getPassword(), user.getRole(),
+                    user.getCreatedAt(), user.getUpdatedAt());
+        }
+
+        User toUser() {
+            return new User(id, name, username, password, role, createdAt, updatedAt);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.fiap.hospital.auth.infrastructure.adapters.security;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * PBKDF2 (HMAC-SHA256) hashes written as {@code iterations$hash}. {@link Pbkdf2PasswordEncoder} does not store
+ * the iteration count, so without it raising the count would break every stored hash instead of upgrading it.
+ * Hashes without the count were written before it was stored, with the configured count.
+ */
+final class IteratedPbkdf2PasswordEncoder implements PasswordEncoder {
+
+    private final int saltLength;
+    private final int iterations;
+    private final Map<Integer, Pbkdf2PasswordEncoder> encoders = new ConcurrentHashMap<>();
+
+    IteratedPbkdf2PasswordEncoder(int saltLength, int iterations) {
+        this.saltLength = saltLength;
+        this.iterations = iterations;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return iterations + "$" + encoder(iterations).encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        int separator = encodedPassword.indexOf('$');
+        if (separator < 0) {
+            return encoder(iterations).matches(rawPassword, encodedPassword);
+        }
+        int hashIterations = iterationsOf(encodedPassword, separator);
+        return hashIterations > 0
+                && encoder(hashIterations).matches(rawPassword, encodedPassword.substring(separator + 1));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        int separator = encodedPassword == null ? -1 : encodedPassword.indexOf('$');
+        return separator < 0 || iterationsOf(encodedPassword, separator) < iterations;
+    }
+
+    private Pbkdf2PasswordEncoder encoder(int hashIterations) {
+        return encoders.computeIfAbsent(hashIterations, count -> new Pbkdf2PasswordEncoder("", saltLength, count,
+                Pbkdf2PasswordEncoder.SecretKeyFactoryAlgorithm.PBKDF2WithHmacSHA256));
+    }
+
+    private static int iterationsOf(String encodedPassword, int separator) {
+        try {
+            return Integer.parseInt(encodedPassword.substring(0, separator));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package com.fiap.hospital.auth.infrastructure.adapters.security;
+
+import com.fiap.hospital.auth.infrastructure.config.JwtConfiguration;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyStore;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.cert.Certificate;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Holds the keys used to sign and verify tokens.
+ * <p>
+ * In the default HS256 mode tokens are signed with the shared {@code jwt.secret}. With RS256 or ES256 the
+ * active {@code jwt.signing.key-alias} of the key store signs, and every compatible key in the key store
+ * is published in the JWKS and accepted for verification, so a key can be rotated by adding the new one,
+ * switching the alias and removing the old one once its tokens have expired. HS256 tokens are then rejected
+ * unless {@code jwt.signing.accept-hmac} is enabled for the migration.
+ * <p>
+ * Each published key carries its own algorithm: the configured one for the active key, the curve's for an
+ * EC key and, for another RSA key, the one given in {@code jwt.signing.key-algorithms}. An RSA key missing
+ * from it is published without {@code alg}. A token must use the algorithm recorded for its key.
+ */
+@Component
+@Slf4j
+public class JwtKeyProvider {
+
+    private final SignatureAlgorithm algorithm;
+    private final SecretKey hmacKey;
+    private final boolean acceptHmac;
+    private final Key signingKey;
+    private final String activeKeyId;
+    private final Map<String, PublishedKey> publicKeys;
+
+    public JwtKeyProvider(JwtConfiguration jwtConfiguration) {
+        this.algorithm = SignatureAlgorithm.forName(jwtConfiguration.getSigningAlgorithm());
+        this.hmacKey = buildHmacKey(jwtConfiguration.getSecret());
+
+        if (algorithm.isHmac()) {
+            this.acceptHmac = true;
+            this.signingKey = hmacKey;
+            this.activeKeyId = null;
+            this.publicKeys = Collections.emptyMap();
+        } else if (algorithm.isRsa() || algorithm.isEllipticCurve()) {
+            KeyStore keyStore = loadKeyStore(jwtConfiguration);
+            this.acceptHmac = jwtConfiguration.isAcceptHmac();
+            this.activeKeyId = jwtConfiguration.getKeyAlias();
+            this.signingKey = loadPrivateKey(keyStore, activeKeyId, jwtConfiguration.getKeyStorePassword());
+            this.publicKeys = loadPublicKeys(keyStore, jwtConfiguration.getKeyAlgorithms());
+            log.info("Signing tokens with {} key '{}', publishing {} public key(s)", algorithm.getValue(),
+                    activeKeyId, publicKeys.size());
+            if (acceptHmac) {
+                log.warn("Still accepting HS256 tokens signed with jwt.secret; disable jwt.signing.accept-hmac once "
+                        + "the tokens issued before switching to {} have expired", algorithm.getValue());
+            }
+        } else {
+            throw new IllegalStateException("Unsupported JWT signing algorithm: " + algorithm.getValue());
+        }
+    }
+
+    private static SecretKey buildHmacKey(String secret) {
+        byte[] keyBytes;
+        if (secret.length() < 32) {
+            StringBuilder paddedSecret = new StringBuilder(secret);
+            while (paddedSecret.length() < 32) {
+                paddedSecret.append("0");
+            }
+            keyBytes = paddedSecret.toString().getBytes(StandardCharsets.UTF_8);
+        } else {
+            keyBytes = secret.substring(0, 32).getBytes(StandardCharsets.UTF_8);
+        }
+        return Keys.hmacShaKeyFor(keyBytes);
+    }
+
+    public SignatureAlgorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    public Key getSigningKey() {
+        return signingKey;
+    }
+
+    public String getActiveKeyId() {
+        return activeKeyId;
+    }
+
+    public Key getVerificationKey(JwsHeader<?> header) {
+        SignatureAlgorithm tokenAlgorithm = SignatureAlgorithm.forName(header.getAlgorithm());
+        if (tokenAlgorithm.isHmac()) {
+            if (!acceptHmac) {
+                throw new UnsupportedJwtException("HMAC-signed tokens are not accepted");
+            }
+            return hmacKey;
+        }
+
+        String keyId = header.getKeyId();
+        PublishedKey publishedKey = keyId == null ? null : publicKeys.get(keyId);
+        if (publishedKey == null) {
+            throw new UnsupportedJwtException("Unknown signing key id: " + keyId);
+        }
+        if (publishedKey.algorithm() != null && publishedKey.algorithm() != tokenAlgorithm) {
+            throw new UnsupportedJwtException("Key " + keyId + " signs with " + publishedKey.algorithm().getValue()
+                    + ", not " + tokenAlgorithm.getValue());
+        }
+        return publishedKey.key();
+    }
+
+    public Map<String, Object> getJwks() {
+        List<Map<String, Object>> keys = new ArrayList<>();
+        publicKeys.forEach((keyId, publishedKey) -> keys.add(toJwk(keyId, publishedKey)));
+        return Map.of("keys", keys);
+    }
+
+    private Map<String, Object> toJwk(String keyId, PublishedKey publishedKey) {
+        Map<String, Object> jwk = new LinkedHashMap<>();
+        if (publishedKey.key() instanceof RSAPublicKey rsaKey) {
+            jwk.put("kty", "RSA");
+            jwk.put("kid", keyId);
+            jwk.put("use", "sig");
+            if (publishedKey.algorithm() != null) {
+                jwk.put("alg", publishedKey.algorithm().getValue());
+            }
+            jwk.put("n", base64Url(rsaKey.getModulus(), 0));
+            jwk.put("e", base64Url(rsaKey.getPublicExponent(), 0));
+        } else if (publishedKey.key() instanceof ECPublicKey ecKey) {
+            int fieldSize = ecKey.getParams().getCurve().getField().getFieldSize();
+            int coordinateLength = (fieldSize + 7) / 8;
+            jwk.put("kty", "EC");
+            jwk.put("kid", keyId);
+            jwk.put("use", "sig");
+            jwk.put("alg", publishedKey.algorithm().getValue());
+            jwk.put("crv", "P-" + fieldSize);
+            jwk.put("x", base64Url(ecKey.getW().getAffineX(), coordinateLength));
+            jwk.put("y", base64Url(ecKey.getW().getAffineY(), coordinateLength));
+        }
+        return jwk;
+    }
+
+    private static String base64Url(BigInteger value, int length) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length > 1 && bytes[0] == 0) {
+            byte[] unsigned = new byte[bytes.length - 1];
+            System.arraycopy(bytes, 1, unsigned, 0, unsigned.length);
+            bytes = unsigned;
+        }
+        if (bytes.length < length) {
+            byte[] padded = new byte[length];
+            System.arraycopy(bytes, 0, padded, length - bytes.length, bytes.length);
+            bytes = padded;
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private static KeyStore loadKeyStore(JwtConfiguration jwtConfiguration) {
+        Resource resource = new DefaultResourceLoader().getResource(jwtConfiguration.getKeyStore());
+        try (InputStream inputStream = resource.getInputStream()) {
+            KeyStore keyStore = KeyStore.getInstance(jwtConfiguration.getKeyStoreType());
+            keyStore.load(inputStream, jwtConfiguration.getKeyStorePassword().toCharArray());
+            return keyStore;
+        } catch (IOException | GeneralSecurityException e) {
+            throw new IllegalStateException("Unable to load JWT key store " + jwtConfiguration.getKeyStore(), e);
+        }
+    }
+
+    private static PrivateKey loadPrivateKey(KeyStore keyStore, String alias, String password) {
+        try {
+            Key key = keyStore.getKey(alias, password.toCharArray());
+            if (!(key instanceof PrivateKey privateKey)) {
+                throw new IllegalStateException("Key store has no private key for alias '" + alias + "'");
+            }
+            return privateKey;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Unable to read private key '" + alias + "'", e);
+        }
+    }
+
+    private Map<String, PublishedKey> loadPublicKeys(KeyStore keyStore, Map<String, String> keyAlgorithms) {
+        Map<String, PublishedKey> keys = new LinkedHashMap<>();
+        try {
+            for (String alias : Collections.list(keyStore.aliases())) {
+                Certificate certificate = keyStore.getCertificate(alias);
+                if (certificate != null && isCompatible(certificate.getPublicKey())) {
+                    PublicKey publicKey = certificate.getPublicKey();
+                    keys.put(alias, new PublishedKey(publicKey, keyAlgorithm(alias, publicKey, keyAlgorithms)));
+                }
+            }
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Unable to read public keys from key store", e);
+        }
+        return Collections.unmodifiableMap(keys);
+    }
+
+    private SignatureAlgorithm keyAlgorithm(String alias, PublicKey publicKey, Map<String, String> keyAlgorithms) {
+        if (alias.equals(activeKeyId)) {
+            return algorithm;
+        }
+        if (publicKey instanceof ECPublicKey ecKey) {
+            return switch (ecKey.getParams().getCurve().getField().getFieldSize()) {
+                case 256 -> SignatureAlgorithm.ES256;
+                case 384 -> SignatureAlgorithm.ES384;
+                case 521 -> SignatureAlgorithm.ES512;
+                default -> throw new IllegalStateException("Unsupported curve for key '" + alias + "'");
+            };
+        }
+        String configured = keyAlgorithms.get(alias);
+        if (configured == null) {
+            return null;
+        }
+        SignatureAlgorithm keyAlgorithm = SignatureAlgorithm.forName(configured);
+        if (!keyAlgorithm.isRsa()) {
+            throw new IllegalStateException("Key '" + alias + "' is an RSA key, not " + configured);
+        }
+        return keyAlgorithm;
+    }
+
+    private boolean isCompatible(PublicKey publicKey) {
+        return algorithm.isRsa() ? publicKey instanceof RSAPublicKey : publicKey instanceof ECPublicKey;
+    }
+
+    private record PublishedKey(PublicKey key, SignatureAlgorithm algorithm) {
+    }
+}
@@ -0,0 +1,25 @@
+package com.fiap.hospital.auth.infrastructure.adapters.security;
+
+import com.fiap.hospital.auth.domain.enums.UserRole;
+import org.springframework.security.core.AuthenticatedPrincipal;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Collection;
+import java.util.List;
+
+public record JwtPrincipal(Long id, String username, UserRole role) implements AuthenticatedPrincipal {
+
+    public static JwtPrincipal from(VerifiedToken token) {
+        return new JwtPrincipal(token.userId(), token.username(), token.role());
+    }
+
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
+    }
+
+    @Override
+    public String getName() {
+        return username;
+    }
+}
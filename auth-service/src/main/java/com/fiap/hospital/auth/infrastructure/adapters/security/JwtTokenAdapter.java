@@ -1,56 +1,100 @@
 package com.fiap.hospital.auth.infrastructure.adapters.security;
 
+import com.fiap.hospital.auth.domain.entities.User;
+import com.fiap.hospital.auth.domain.enums.UserRole;
 import com.fiap.hospital.auth.infrastructure.config.JwtConfiguration;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.security.Keys;
-import org.springframework.beans.factory.annotation.Autowired;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
 import org.springframework.stereotype.Service;
 
-import javax.crypto.SecretKey;
-import java.nio.charset.StandardCharsets;
+import java.security.Key;
 import java.util.Date;
+import java.util.UUID;
 import java.util.function.Function;
 
 @Service
 public class JwtTokenAdapter {
 
-    @Autowired
-    private JwtConfiguration jwtConfiguration;
-    
-    private SecretKey signingKey;
-    
-    private synchronized SecretKey getSigningKey() {
-        if (signingKey == null) {
-            String secret = jwtConfiguration.getSecret();
-            byte[] keyBytes;
-            if (secret.length() < 32) {
-                StringBuilder paddedSecret = new StringBuilder(secret);
-                while (paddedSecret.length() < 32) {
-                    paddedSecret.append("0");
-                }
-                keyBytes = paddedSecret.toString().getBytes(StandardCharsets.UTF_8);
-            } else {
-                keyBytes = secret.substring(0, 32).getBytes(StandardCharsets.UTF_8);
-            }
-            signingKey = Keys.hmacShaKeyFor(keyBytes);
-        }
-        return signingKey;
+    static final String VERSION_CLAIM = "ver";
+    static final String ROLE_CLAIM = "role";
+    static final String USER_ID_CLAIM = "uid";
+    static final int LEGACY_TOKEN_VERSION = 1;
+    static final int TOKEN_VERSION = 2;
+
+    private final JwtConfiguration jwtConfiguration;
+    private final JwtKeyProvider keyProvider;
+    private final JwtParser parser;
+
+    public JwtTokenAdapter(JwtConfiguration jwtConfiguration, JwtKeyProvider keyProvider) {
+        this.jwtConfiguration = jwtConfiguration;
+        this.keyProvider = keyProvider;
+        this.parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        return keyProvider.getVerificationKey(header);
+                    }
+                })
+                .build();
     }
 
-    public String generateToken(String username) {
-        return Jwts.builder()
-                .setSubject(username)
-                .setIssuedAt(new Date(System.currentTimeMillis()))
-                .setExpiration(new Date(System.currentTimeMillis() + jwtConfiguration.getExpiration() * 1000))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+    public String generateToken(User user) {
+        long now = System.currentTimeMillis();
+        JwtBuilder builder = Jwts.builder();
+        if (keyProvider.getActiveKeyId() != null) {
+            builder.setHeaderParam(JwsHeader.KEY_ID, keyProvider.getActiveKeyId());
+        }
+        return builder
+                .setId(UUID.randomUUID().toString())
+                .setSubject(user.getUsername())
+                .claim(VERSION_CLAIM, TOKEN_VERSION)
+                .claim(USER_ID_CLAIM, user.getId())
+                .claim(ROLE_CLAIM, user.getRole().name())
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + jwtConfiguration.getAccessTokenExpiration().toMillis()))
+                .signWith(keyProvider.getSigningKey(), keyProvider.getAlgorithm())
                 .compact();
     }
 
+    /**
+     * Parses the token once, checking signature and expiration, and returns the claims callers need.
+     * Subject-only tokens issued before {@link #TOKEN_VERSION} are still accepted until they expire.
+     *
+     * @throws io.jsonwebtoken.JwtException if the token is malformed, expired or its signature does not match
+     * @throws IllegalArgumentException if the token is null or empty
+     */
+    public VerifiedToken verify(String token) {
+        Claims claims = extractAllClaims(token);
+        Number version = claims.get(VERSION_CLAIM, Number.class);
+        if (version == null) {
+            return new VerifiedToken(LEGACY_TOKEN_VERSION, claims.getId(), claims.getSubject(), null, null,
+                    claims.getExpiration());
+        }
+
+        Number userId = claims.get(USER_ID_CLAIM, Number.class);
+        String role = claims.get(ROLE_CLAIM, String.class);
+        if (userId == null || role == null) {
+            throw new MalformedJwtException("Token version " + version + " is missing the uid or role claim");
+        }
+        return new VerifiedToken(version.intValue(), claims.getId(), claims.getSubject(), userId.longValue(),
+                parseRole(role), claims.getExpiration());
+    }
+
+    private static UserRole parseRole(String role) {
+        try {
+            return UserRole.valueOf(role);
+        } catch (IllegalArgumentException e) {
+            throw new MalformedJwtException("Unknown role claim: " + role);
+        }
+    }
+
     public Boolean validateToken(String token, String username) {
-        final String tokenUsername = extractUsername(token);
-        return (tokenUsername.equals(username) && !isTokenExpired(token));
+        return verify(token).username().equals(username);
     }
 
     public String extractUsername(String token) {
@@ -67,14 +111,6 @@ public class JwtTokenAdapter {
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-    }
-
-    private Boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+        return parser.parseClaimsJws(token).getBody();
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,62 @@
+package com.fiap.hospital.auth.infrastructure.adapters.security;
+
+import com.fiap.hospital.auth.infrastructure.config.PasswordEncoderConfiguration;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Builds the {@link DelegatingPasswordEncoder} for {@code users.password}. New hashes are written as
+ * {@code {id}hash} with the configured encoder, while hashes from before the prefix existed are plain BCrypt
+ * and still verify. Any hash not written by the configured encoder with its current parameters reports
+ * {@code upgradeEncoding}, so it is re-encoded on the next successful login: bcrypt and argon2 hashes carry
+ * their parameters, and PBKDF2 hashes carry their iteration count through
+ * {@link IteratedPbkdf2PasswordEncoder}.
+ */
+public final class PasswordEncoderFactory {
+
+    public static final String BCRYPT = "bcrypt";
+    public static final String ARGON2 = "argon2";
+    public static final String PBKDF2 = "pbkdf2";
+
+    private static final int SALT_LENGTH = 16;
+    private static final int HASH_LENGTH = 32;
+
+    private PasswordEncoderFactory() {
+    }
+
+    public static PasswordEncoder create(PasswordEncoderConfiguration configuration) {
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        BCryptPasswordEncoder bcrypt = bcrypt(configuration);
+        encoders.put(BCRYPT, bcrypt);
+        encoders.put(ARGON2, argon2(configuration));
+        encoders.put(PBKDF2, pbkdf2(configuration));
+
+        String idForEncode = configuration.getEncoder();
+        if (!encoders.containsKey(idForEncode)) {
+            throw new IllegalStateException("Unsupported password encoder: " + idForEncode
+                    + " (expected one of " + encoders.keySet() + ")");
+        }
+
+        DelegatingPasswordEncoder delegatingEncoder = new DelegatingPasswordEncoder(idForEncode, encoders);
+        delegatingEncoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return delegatingEncoder;
+    }
+
+    public static BCryptPasswordEncoder bcrypt(PasswordEncoderConfiguration configuration) {
+        return new BCryptPasswordEncoder(configuration.getBcryptStrength());
+    }
+
+    public static Argon2PasswordEncoder argon2(PasswordEncoderConfiguration configuration) {
+        return new Argon2PasswordEncoder(SALT_LENGTH, HASH_LENGTH, configuration.getArgon2Parallelism(),
+                configuration.getArgon2MemoryKib(), configuration.getArgon2Iterations());
+    }
+
+    public static PasswordEncoder pbkdf2(PasswordEncoderConfiguration configuration) {
+        return new IteratedPbkdf2PasswordEncoder(SALT_LENGTH, configuration.getPbkdf2Iterations());
+    }
+}
@@ -0,0 +1,8 @@
+package com.fiap.hospital.auth.infrastructure.adapters.security;
+
+public class PasswordHashingBusyException extends RuntimeException {
+
+    public PasswordHashingBusyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,108 @@
+package com.fiap.hospital.auth.infrastructure.adapters.security;
+
+import com.fiap.hospital.auth.application.exception.InvalidRefreshTokenException;
+import com.fiap.hospital.auth.domain.entities.RefreshToken;
+import com.fiap.hospital.auth.domain.entities.User;
+import com.fiap.hospital.auth.domain.ports.persistence.RefreshTokenRepositoryPort;
+import com.fiap.hospital.auth.infrastructure.config.JwtConfiguration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+@Service
+@Slf4j
+public class RefreshTokenAdapter {
+
+    private static final int TOKEN_BYTES = 32;
+
+    private final RefreshTokenRepositoryPort refreshTokenRepository;
+    private final JwtConfiguration jwtConfiguration;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    public RefreshTokenAdapter(RefreshTokenRepositoryPort refreshTokenRepository, JwtConfiguration jwtConfiguration) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.jwtConfiguration = jwtConfiguration;
+    }
+
+    @Transactional
+    public String issue(User user) {
+        return create(user, UUID.randomUUID().toString());
+    }
+
+    /**
+     * Revokes the presented token and issues its successor. Presenting a token that was already rotated
+     * revokes every token of its family, logging out both the legitimate client and whoever copied it.
+     *
+     * @throws InvalidRefreshTokenException if the token is unknown, expired or already used
+     */
+    @Transactional(noRollbackFor = InvalidRefreshTokenException.class)
+    public RotatedRefreshToken rotate(String presentedToken) {
+        RefreshToken current = refreshTokenRepository.findByTokenHash(hash(presentedToken))
+                .orElseThrow(() -> new InvalidRefreshTokenException("Invalid refresh token"));
+        LocalDateTime now = LocalDateTime.now();
+
+        if (current.getRevokedAt() == null && current.getExpiresAt().isBefore(now)) {
+            throw new InvalidRefreshTokenException("Refresh token has expired");
+        }
+        if (current.getRevokedAt() != null || refreshTokenRepository.revokeIfActive(current.getId(), now) == 0) {
+            int revoked = refreshTokenRepository.revokeFamily(current.getFamilyId(), now);
+            log.warn("Refresh token reuse detected for user {}, revoked {} token(s) of its family",
+                    current.getUser().getUsername(), revoked);
+            throw new InvalidRefreshTokenException("Refresh token has already been used");
+        }
+
+        User user = current.getUser();
+        return new RotatedRefreshToken(user, create(user, current.getFamilyId()));
+    }
+
+    /**
+     * Revokes the family of the presented token if it belongs to the given user. Unknown tokens are ignored,
+     * so logging out twice is not an error.
+     */
+    @Transactional
+    public int revokeFamily(String presentedToken, String username) {
+        return refreshTokenRepository.findByTokenHash(hash(presentedToken))
+                .filter(token -> token.getUser().getUsername().equals(username))
+                .map(token -> refreshTokenRepository.revokeFamily(token.getFamilyId(), LocalDateTime.now()))
+                .orElse(0);
+    }
+
+    @Transactional
+    public int revokeAll(String username) {
+        return refreshTokenRepository.revokeAllForUser(username, LocalDateTime.now());
+    }
+
+    private String create(User user, String familyId) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        refreshTokenRepository.save(RefreshToken.builder()
+                .user(user)
+                .tokenHash(hash(token))
+                .familyId(familyId)
+                .expiresAt(LocalDateTime.now().plus(jwtConfiguration.getRefreshTokenExpiration()))
+                .build());
+        return token;
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    public record RotatedRefreshToken(User user, String refreshToken) {
+    }
+}
@@ -0,0 +1,10 @@
+package com.fiap.hospital.auth.infrastructure.adapters.security;
+
+import io.jsonwebtoken.JwtException;
+
+public class RevokedTokenException extends JwtException {
+
+    public RevokedTokenException(String message) {
+        super(message);
+    }
+}
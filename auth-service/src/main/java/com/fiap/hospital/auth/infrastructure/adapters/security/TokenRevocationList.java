@@ -0,0 +1,172 @@
+package com.fiap.hospital.auth.infrastructure.adapters.security;
+
+import com.fiap.hospital.auth.domain.entities.RevokedToken;
+import com.fiap.hospital.auth.domain.ports.persistence.RevokedTokenRepositoryPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory view of the {@code revoked_tokens} table, so checking a token costs no database round trip.
+ * <p>
+ * A bloom filter answers the common case, a token that was never revoked, with a few bit lookups; only a
+ * positive answer is confirmed against the exact set of revoked ids. Revocations made by this instance are
+ * visible immediately, those made by other instances after the next refresh, which only reads the rows
+ * revoked since the previous one. Entries are dropped, and the filter rebuilt, once their token has expired.
+ */
+@Component
+@Slf4j
+public class TokenRevocationList implements MeterBinder {
+
+    private static final LocalDateTime BEGINNING = LocalDateTime.of(2000, 1, 1, 0, 0);
+
+    private final RevokedTokenRepositoryPort revokedTokenRepository;
+    private final long expectedEntries;
+    private final double falsePositiveRate;
+    private final Duration refreshLookback;
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+    private final Object writeLock = new Object();
+
+    private volatile BloomFilter filter;
+    private volatile LocalDateTime refreshedAt = BEGINNING;
+    private Counter revokedHits;
+    private Counter falsePositives;
+
+    public TokenRevocationList(RevokedTokenRepositoryPort revokedTokenRepository,
+                               @Value("${auth.revocation.expected-entries:100000}") long expectedEntries,
+                               @Value("${auth.revocation.false-positive-rate:0.01}") double falsePositiveRate,
+                               @Value("${auth.revocation.refresh-lookback:1m}") Duration refreshLookback) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.expectedEntries = expectedEntries;
+        this.falsePositiveRate = falsePositiveRate;
+        this.refreshLookback = refreshLookback;
+        this.filter = BloomFilter.create(expectedEntries, falsePositiveRate);
+    }
+
+    @PostConstruct
+    void load() {
+        refresh();
+        log.info("Loaded {} revoked token(s) (bloom filter of {} bits, {} hashes)", revoked.size(),
+                filter.bitCount(), filter.hashCount());
+    }
+
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null || !filter.mightContain(tokenId)) {
+            return false;
+        }
+        if (revoked.containsKey(tokenId)) {
+            increment(revokedHits);
+            return true;
+        }
+        increment(falsePositives);
+        return false;
+    }
+
+    /**
+     * Persists the revocation and applies it locally. Tokens without an id predate revocation support and
+     * are left to expire.
+     *
+     * @return whether the token could be revoked
+     */
+    public boolean revoke(String tokenId, String username, Date expiresAt) {
+        if (tokenId == null) {
+            return false;
+        }
+        revokedTokenRepository.save(RevokedToken.builder()
+                .tokenId(tokenId)
+                .username(username)
+                .expiresAt(toLocalDateTime(expiresAt.getTime()))
+                .revokedAt(LocalDateTime.now())
+                .build());
+        add(tokenId, expiresAt.getTime());
+        log.debug("Revoked token {} of user {}", tokenId, username);
+        return true;
+    }
+
+    /**
+     * Picks up tokens revoked by other instances. The lookback re-reads rows whose transaction was still
+     * open during the previous refresh or whose instance clock is slightly behind; reading one twice is harmless.
+     */
+    @Scheduled(fixedDelayString = "${auth.revocation.refresh-interval:PT5S}",
+            initialDelayString = "${auth.revocation.refresh-interval:PT5S}")
+    public void refresh() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        List<RevokedToken> tokens = revokedTokenRepository.findByRevokedAtGreaterThanEqualAndExpiresAtAfter(
+                refreshedAt.minus(refreshLookback), startedAt);
+        tokens.forEach(token -> add(token.getTokenId(), toEpochMillis(token.getExpiresAt())));
+        refreshedAt = startedAt;
+    }
+
+    /**
+     * Forgets expired tokens, which the signature check rejects anyway, and rebuilds the filter without them
+     * so its false positive rate does not keep growing.
+     */
+    @Scheduled(fixedDelayString = "${auth.revocation.purge-interval:PT10M}",
+            initialDelayString = "${auth.revocation.purge-interval:PT10M}")
+    public void purge() {
+        long now = System.currentTimeMillis();
+        synchronized (writeLock) {
+            revoked.values().removeIf(expiresAt -> expiresAt < now);
+            BloomFilter rebuilt = BloomFilter.create(Math.max(expectedEntries, 2L * revoked.size()), falsePositiveRate);
+            revoked.keySet().forEach(rebuilt::put);
+            filter = rebuilt;
+        }
+        int deleted = revokedTokenRepository.deleteExpired(LocalDateTime.now());
+        log.debug("Purged expired revocations, {} row(s) deleted, {} entries left", deleted, revoked.size());
+    }
+
+    public int size() {
+        return revoked.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("auth.revocation.entries", revoked, Map::size)
+                .description("Revoked tokens that have not expired yet")
+                .register(registry);
+        revokedHits = Counter.builder("auth.revocation.checks")
+                .description("Tokens that passed the bloom filter, by whether they were actually revoked")
+                .tag("result", "revoked")
+                .register(registry);
+        falsePositives = Counter.builder("auth.revocation.checks")
+                .description("Tokens that passed the bloom filter, by whether they were actually revoked")
+                .tag("result", "false_positive")
+                .register(registry);
+    }
+
+    private void add(String tokenId, long expiresAtMillis) {
+        // Under the same lock as the rebuild, so an id cannot be put in a filter that is about to be replaced.
+        synchronized (writeLock) {
+            revoked.put(tokenId, expiresAtMillis);
+            filter.put(tokenId);
+        }
+    }
+
+    private static void increment(Counter counter) {
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(new Date(epochMillis).toInstant(), ZoneId.systemDefault());
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,128 @@
+package com.fiap.hospital.auth.infrastructure.adapters.security;
+
+import com.fiap.hospital.auth.domain.enums.UserRole;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * Bounded cache of successful token validations, keyed by the SHA-256 digest of the token.
+ * An entry never outlives the token's {@code exp} claim, whatever the configured TTL is. It keeps the token id
+ * so a hit can still be checked against the revocation list.
+ */
+@Component
+@Slf4j
+public class TokenValidationCache implements MeterBinder {
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    });
+
+    private final boolean enabled;
+    private final Ticker ticker;
+    private final Cache<String, Entry> cache;
+
+    @Autowired
+    public TokenValidationCache(@Value("${jwt.cache.enabled:true}") boolean enabled,
+                                @Value("${jwt.cache.maximum-size:10000}") long maximumSize,
+                                @Value("${jwt.cache.ttl:5m}") Duration ttl) {
+        this(enabled, maximumSize, ttl, Ticker.systemTicker());
+    }
+
+    TokenValidationCache(boolean enabled, long maximumSize, Duration ttl, Ticker ticker) {
+        this.enabled = enabled;
+        this.ticker = ticker;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new TokenExpiry(ttl.toNanos()))
+                .ticker(ticker)
+                .recordStats()
+                .build();
+        log.info("Token validation cache {} (maximumSize={}, ttl={})", enabled ? "enabled" : "disabled", maximumSize, ttl);
+    }
+
+    public Optional<Entry> get(String token) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(cache.getIfPresent(digest(token)));
+    }
+
+    public void put(String token, String tokenId, String username, UserRole role, long expiresAtMillis) {
+        if (!enabled) {
+            return;
+        }
+        long remainingNanos = Duration.ofMillis(expiresAtMillis - System.currentTimeMillis()).toNanos();
+        if (remainingNanos <= 0) {
+            return;
+        }
+        cache.put(digest(token), new Entry(tokenId, username, role, ticker.read() + remainingNanos));
+    }
+
+    public void invalidateUser(String username) {
+        cache.asMap().values().removeIf(entry -> entry.username().equals(username));
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "token-validation");
+    }
+
+    private static String digest(String token) {
+        byte[] hash = SHA_256.get().digest(token.getBytes(StandardCharsets.UTF_8));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+    }
+
+    public record Entry(String tokenId, String username, UserRole role, long expiresAtNanos) {
+    }
+
+    private record TokenExpiry(long ttlNanos) implements Expiry<String, Entry> {
+
+        @Override
+        public long expireAfterCreate(String key, Entry value, long currentTime) {
+            return Math.max(0, Math.min(ttlNanos, value.expiresAtNanos() - currentTime));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Entry value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Entry value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.fiap.hospital.auth.infrastructure.adapters.security;
+
+import com.fiap.hospital.auth.domain.enums.UserRole;
+
+import java.util.Date;
+
+/**
+ * Claims of a token whose signature and expiration have been checked.
+ * Version 1 tokens only carry the subject, so {@code tokenId}, {@code userId} and {@code role} are null for them.
+ */
+public record VerifiedToken(int version, String tokenId, String username, Long userId, UserRole role,
+        Date expiration) {
+
+    public boolean hasEmbeddedRole() {
+        return role != null;
+    }
+}
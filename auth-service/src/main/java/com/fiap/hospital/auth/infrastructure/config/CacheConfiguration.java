@@ -0,0 +1,56 @@
+package com.fiap.hospital.auth.infrastructure.config;
+
+import com.fiap.hospital.auth.domain.ports.persistence.UserRepositoryPort;
+import com.fiap.hospital.auth.infrastructure.adapters.persistence.UserSnapshotCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.support.NoOpCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Read-through cache of users by username in front of {@link UserRepositoryPort}. Saves through the
+ * repository replace the cached entry; changes made directly in the database are picked up once the
+ * entry expires, so the TTL bounds how long another instance can see a stale role or password.
+ * <p>
+ * Entries are copies of the users, see {@link UserSnapshotCache}, and writes inside a transaction reach the
+ * cache only once it commits.
+ */
+@Configuration
+@EnableCaching
+@Slf4j
+public class CacheConfiguration {
+
+    @Bean
+    public CacheManager cacheManager(@Value("${auth.user-cache.enabled:true}") boolean enabled,
+                                     @Value("${auth.user-cache.maximum-size:10000}") long maximumSize,
+                                     @Value("${auth.user-cache.ttl:5m}") Duration ttl) {
+        if (!enabled) {
+            log.info("User cache disabled");
+            return new NoOpCacheManager();
+        }
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager() {
+            @Override
+            protected Cache adaptCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+                return new TransactionAwareCacheDecorator(new UserSnapshotCache(name, cache, isAllowNullValues()));
+            }
+        };
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats());
+        cacheManager.setCacheNames(List.of(UserRepositoryPort.USERS_CACHE));
+        cacheManager.setAllowNullValues(false);
+        log.info("User cache enabled (maximumSize={}, ttl={})", maximumSize, ttl);
+        return cacheManager;
+    }
+}
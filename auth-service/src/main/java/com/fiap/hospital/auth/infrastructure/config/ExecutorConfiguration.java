@@ -0,0 +1,53 @@
+package com.fiap.hospital.auth.infrastructure.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executor for gRPC calls. With {@code spring.threads.virtual.enabled=true} on a Java 21+ runtime each call
+ * runs on its own virtual thread, and Spring Boot switches Tomcat to virtual threads with the same flag.
+ * Otherwise calls run on a cached platform-thread pool, which is what gRPC uses by default.
+ */
+@Configuration
+@Slf4j
+public class ExecutorConfiguration {
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService grpcExecutor(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        if (virtualThreads) {
+            ExecutorService virtualExecutor = newVirtualThreadPerTaskExecutor();
+            if (virtualExecutor != null) {
+                log.info("gRPC calls will run on virtual threads");
+                return virtualExecutor;
+            }
+            log.warn("Virtual threads requested but Java {} does not support them, using platform threads",
+                    Runtime.version().feature());
+        }
+        return Executors.newCachedThreadPool(namedThreadFactory("grpc-executor-"));
+    }
+
+    // Looked up reflectively so the service still compiles and runs on Java 17.
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    private static ThreadFactory namedThreadFactory(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -2,15 +2,25 @@ package com.fiap.hospital.auth.infrastructure.config;
 
 import com.fiap.hospital.auth.infrastructure.adapters.grpc.AuthGrpcAdapter;
 import io.grpc.Server;
-import io.grpc.ServerBuilder;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import io.grpc.netty.shaded.io.netty.channel.EventLoopGroup;
+import io.grpc.netty.shaded.io.netty.channel.ServerChannel;
+import io.grpc.netty.shaded.io.netty.channel.epoll.Epoll;
+import io.grpc.netty.shaded.io.netty.channel.epoll.EpollEventLoopGroup;
+import io.grpc.netty.shaded.io.netty.channel.epoll.EpollServerSocketChannel;
+import io.grpc.netty.shaded.io.netty.channel.nio.NioEventLoopGroup;
+import io.grpc.netty.shaded.io.netty.channel.socket.nio.NioServerSocketChannel;
 import io.grpc.protobuf.services.ProtoReflectionService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.grpc.MetricCollectingServerInterceptor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
-import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 
 @Configuration
 @RequiredArgsConstructor
@@ -18,31 +28,49 @@ import java.io.IOException;
 public class GrpcServerConfiguration {
 
     private final AuthGrpcAdapter authGrpcService;
-
-    @Value("${grpc.server.port:9090}")
-    private int grpcPort;
+    private final ExecutorService grpcExecutor;
+    private final GrpcServerProperties properties;
+    private final MeterRegistry meterRegistry;
 
     @Bean
-    public Server grpcServer() {
-        Server server = ServerBuilder.forPort(grpcPort)
-                .addService(authGrpcService)
-                .addService(ProtoReflectionService.newInstance())
-                .build();
+    public GrpcServerLifecycle grpcServer() {
+        boolean epoll = properties.isNativeTransport() && Epoll.isAvailable();
+        if (properties.isNativeTransport() && !epoll) {
+            log.info("Native epoll transport not available, using NIO: {}", Epoll.unavailabilityCause().toString());
+        }
 
-        try {
-            server.start();
-            log.info("gRPC server started on port {}", grpcPort);
+        EventLoopGroup bossGroup = epoll
+                ? new EpollEventLoopGroup(properties.getBossThreads())
+                : new NioEventLoopGroup(properties.getBossThreads());
+        EventLoopGroup workerGroup = epoll
+                ? new EpollEventLoopGroup(properties.getWorkerThreads())
+                : new NioEventLoopGroup(properties.getWorkerThreads());
+        Class<? extends ServerChannel> channelType = epoll ? EpollServerSocketChannel.class : NioServerSocketChannel.class;
 
+        MetricCollectingServerInterceptor metricsInterceptor = new MetricCollectingServerInterceptor(meterRegistry);
+        metricsInterceptor.preregisterService(authGrpcService);
 
-            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
-                log.info("Shutting down gRPC server");
-                server.shutdown();
-                log.info("gRPC server shut down successfully");
-            }));
-        } catch (IOException e) {
-            log.error("Failed to start gRPC server", e);
-        }
+        Server server = NettyServerBuilder.forPort(properties.getPort())
+                .channelType(channelType)
+                .bossEventLoopGroup(bossGroup)
+                .workerEventLoopGroup(workerGroup)
+                .executor(grpcExecutor)
+                .maxConcurrentCallsPerConnection(properties.getMaxConcurrentCallsPerConnection())
+                .flowControlWindow((int) properties.getFlowControlWindow().toBytes())
+                .keepAliveTime(properties.getKeepAliveTime().toMillis(), TimeUnit.MILLISECONDS)
+                .keepAliveTimeout(properties.getKeepAliveTimeout().toMillis(), TimeUnit.MILLISECONDS)
+                .permitKeepAliveTime(properties.getPermitKeepAliveTime().toMillis(), TimeUnit.MILLISECONDS)
+                .permitKeepAliveWithoutCalls(true)
+                .maxConnectionAge(properties.getMaxConnectionAge().toMillis(), TimeUnit.MILLISECONDS)
+                .maxConnectionAgeGrace(properties.getMaxConnectionAgeGrace().toMillis(), TimeUnit.MILLISECONDS)
+                .intercept(metricsInterceptor)
+                .addService(authGrpcService)
+                .addService(ProtoReflectionService.newInstance())
+                .build();
 
-        return server;
+        log.info("gRPC server configured with {} transport (maxConcurrentCallsPerConnection={}, maxConnectionAge={})",
+                epoll ? "epoll" : "NIO", properties.getMaxConcurrentCallsPerConnection(), properties.getMaxConnectionAge());
+        return new GrpcServerLifecycle(server, properties.getPort(), properties.getShutdownGracePeriod(),
+                List.of(bossGroup, workerGroup));
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,74 @@
+package com.fiap.hospital.auth.infrastructure.config;
+
+import io.grpc.Server;
+import io.grpc.netty.shaded.io.netty.channel.EventLoopGroup;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Starts the gRPC server with the application context and drains it on shutdown: new calls are refused,
+ * in-flight calls get up to the grace period to finish and only then are the remaining ones cancelled.
+ * Stopping happens before the datasource and the gRPC executor are destroyed, so draining calls can still
+ * reach the database.
+ */
+@Slf4j
+public class GrpcServerLifecycle implements SmartLifecycle {
+
+    private final Server server;
+    private final int port;
+    private final Duration gracePeriod;
+    private final List<EventLoopGroup> eventLoopGroups;
+    private volatile boolean running;
+
+    public GrpcServerLifecycle(Server server, int port, Duration gracePeriod, List<EventLoopGroup> eventLoopGroups) {
+        this.server = server;
+        this.port = port;
+        this.gracePeriod = gracePeriod;
+        this.eventLoopGroups = eventLoopGroups;
+    }
+
+    @Override
+    public void start() {
+        try {
+            server.start();
+            running = true;
+            log.info("gRPC server started on port {}", port);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to start gRPC server on port " + port, e);
+        }
+    }
+
+    @Override
+    public void stop() {
+        log.info("Shutting down gRPC server, waiting up to {} for in-flight calls", gracePeriod);
+        server.shutdown();
+        try {
+            if (!server.awaitTermination(gracePeriod.toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("gRPC server did not drain within {}, cancelling remaining calls", gracePeriod);
+                server.shutdownNow();
+                server.awaitTermination(5, TimeUnit.SECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            server.shutdownNow();
+        } finally {
+            eventLoopGroups.forEach(EventLoopGroup::shutdownGracefully);
+            running = false;
+        }
+        log.info("gRPC server shut down successfully");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    public Server getServer() {
+        return server;
+    }
+}
@@ -0,0 +1,96 @@
+package com.fiap.hospital.auth.infrastructure.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Component
+public class GrpcServerProperties {
+
+    @Value("${grpc.server.port:9090}")
+    private int port;
+
+    @Value("${grpc.server.boss-threads:1}")
+    private int bossThreads;
+
+    // 0 keeps Netty's default of twice the number of available processors
+    @Value("${grpc.server.worker-threads:0}")
+    private int workerThreads;
+
+    @Value("${grpc.server.native-transport:true}")
+    private boolean nativeTransport;
+
+    @Value("${grpc.server.max-concurrent-calls-per-connection:1000}")
+    private int maxConcurrentCallsPerConnection;
+
+    @Value("${grpc.server.flow-control-window:1MB}")
+    private DataSize flowControlWindow;
+
+    @Value("${grpc.server.keep-alive-time:30s}")
+    private Duration keepAliveTime;
+
+    @Value("${grpc.server.keep-alive-timeout:10s}")
+    private Duration keepAliveTimeout;
+
+    @Value("${grpc.server.permit-keep-alive-time:10s}")
+    private Duration permitKeepAliveTime;
+
+    @Value("${grpc.server.max-connection-age:30m}")
+    private Duration maxConnectionAge;
+
+    @Value("${grpc.server.max-connection-age-grace:30s}")
+    private Duration maxConnectionAgeGrace;
+
+    @Value("${grpc.server.shutdown-grace-period:30s}")
+    private Duration shutdownGracePeriod;
+
+    public int getPort() {
+        return port;
+    }
+
+    public int getBossThreads() {
+        return bossThreads;
+    }
+
+    public int getWorkerThreads() {
+        return workerThreads;
+    }
+
+    public boolean isNativeTransport() {
+        return nativeTransport;
+    }
+
+    public int getMaxConcurrentCallsPerConnection() {
+        return maxConcurrentCallsPerConnection;
+    }
+
+    public DataSize getFlowControlWindow() {
+        return flowControlWindow;
+    }
+
+    public Duration getKeepAliveTime() {
+        return keepAliveTime;
+    }
+
+    public Duration getKeepAliveTimeout() {
+        return keepAliveTimeout;
+    }
+
+    public Duration getPermitKeepAliveTime() {
+        return permitKeepAliveTime;
+    }
+
+    public Duration getMaxConnectionAge() {
+        return maxConnectionAge;
+    }
+
+    public Duration getMaxConnectionAgeGrace() {
+        return maxConnectionAgeGrace;
+    }
+
+    public Duration getShutdownGracePeriod() {
+        return shutdownGracePeriod;
+    }
+}
@@ -3,20 +3,98 @@ package com.fiap.hospital.auth.infrastructure.config;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
 @Configuration
 public class JwtConfiguration {
 
     @Value("${jwt.secret}")
     private String secret;
 
-    @Value("${jwt.expiration}")
-    private Long expiration;
+    @Value("${jwt.access-token-expiration-minutes:15}")
+    private long accessTokenExpirationMinutes;
+
+    @Value("${jwt.refresh-token-expiration-days:30}")
+    private long refreshTokenExpirationDays;
+
+    @Value("${jwt.signing.algorithm:HS256}")
+    private String signingAlgorithm;
+
+    @Value("${jwt.signing.key-store:}")
+    private String keyStore;
+
+    @Value("${jwt.signing.key-store-password:}")
+    private String keyStorePassword;
+
+    @Value("${jwt.signing.key-store-type:PKCS12}")
+    private String keyStoreType;
+
+    @Value("${jwt.signing.key-alias:}")
+    private String keyAlias;
+
+    @Value("${jwt.signing.accept-hmac:false}")
+    private boolean acceptHmac;
+
+    @Value("${jwt.signing.key-algorithms:}")
+    private String keyAlgorithms;
 
     public String getSecret() {
         return secret;
     }
 
-    public Long getExpiration() {
-        return expiration;
+    public Duration getAccessTokenExpiration() {
+        return Duration.ofMinutes(accessTokenExpirationMinutes);
+    }
+
+    public Duration getRefreshTokenExpiration() {
+        return Duration.ofDays(refreshTokenExpirationDays);
+    }
+
+    public String getSigningAlgorithm() {
+        return signingAlgorithm;
+    }
+
+    public String getKeyStore() {
+        return keyStore;
+    }
+
+    public String getKeyStorePassword() {
+        return keyStorePassword;
+    }
+
+    public String getKeyStoreType() {
+        return keyStoreType;
+    }
+
+    public String getKeyAlias() {
+        return keyAlias;
+    }
+
+    /**
+     * Whether HS256 tokens are still accepted with an asymmetric {@code jwt.signing.algorithm}. Only meant for
+     * the migration window: anyone holding {@code jwt.secret} can mint such tokens.
+     */
+    public boolean isAcceptHmac() {
+        return acceptHmac;
+    }
+
+    /**
+     * Algorithms of the retired keys, by alias, as {@code alias=ALG} pairs separated by commas.
+     */
+    public Map<String, String> getKeyAlgorithms() {
+        Map<String, String> algorithms = new HashMap<>();
+        if (keyAlgorithms == null || keyAlgorithms.isBlank()) {
+            return algorithms;
+        }
+        for (String entry : keyAlgorithms.split(",")) {
+            int separator = entry.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalStateException("Invalid jwt.signing.key-algorithms entry: " + entry.trim());
+            }
+            algorithms.put(entry.substring(0, separator).trim(), entry.substring(separator + 1).trim());
+        }
+        return algorithms;
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,50 @@
+package com.fiap.hospital.auth.infrastructure.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class PasswordEncoderConfiguration {
+
+    @Value("${auth.password.encoder:bcrypt}")
+    private String encoder;
+
+    @Value("${auth.password.bcrypt-strength:10}")
+    private int bcryptStrength;
+
+    @Value("${auth.password.argon2.memory-kib:19456}")
+    private int argon2MemoryKib;
+
+    @Value("${auth.password.argon2.iterations:2}")
+    private int argon2Iterations;
+
+    @Value("${auth.password.argon2.parallelism:1}")
+    private int argon2Parallelism;
+
+    @Value("${auth.password.pbkdf2.iterations:600000}")
+    private int pbkdf2Iterations;
+
+    public String getEncoder() {
+        return encoder;
+    }
+
+    public int getBcryptStrength() {
+        return bcryptStrength;
+    }
+
+    public int getArgon2MemoryKib() {
+        return argon2MemoryKib;
+    }
+
+    public int getArgon2Iterations() {
+        return argon2Iterations;
+    }
+
+    public int getArgon2Parallelism() {
+        return argon2Parallelism;
+    }
+
+    public int getPbkdf2Iterations() {
+        return pbkdf2Iterations;
+    }
+}
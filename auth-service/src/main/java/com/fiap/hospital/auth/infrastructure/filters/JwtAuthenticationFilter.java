@@ -1,12 +1,23 @@
 package com.fiap.hospital.auth.infrastructure.filters;
 
+import com.fiap.hospital.auth.infrastructure.adapters.metrics.AuthMetrics;
+import com.fiap.hospital.auth.infrastructure.adapters.security.JwtPrincipal;
 import com.fiap.hospital.auth.infrastructure.adapters.security.JwtTokenAdapter;
+import com.fiap.hospital.auth.infrastructure.adapters.security.RevokedTokenException;
+import com.fiap.hospital.auth.infrastructure.adapters.security.TokenRevocationList;
+import com.fiap.hospital.auth.infrastructure.adapters.security.VerifiedToken;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -15,7 +26,13 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.List;
 
+/**
+ * Authenticates bearer tokens from their claims alone. The {@code User} is only loaded for legacy tokens,
+ * which carry no role, and on the paths listed in {@code auth.filter.user-lookup-paths}, which need the
+ * current role rather than the one the token was issued with.
+ */
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
@@ -25,31 +42,74 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @Autowired
     private UserDetailsService userDetailsService;
 
+    @Autowired
+    private TokenRevocationList revocationList;
+
+    @Autowired
+    private AuthMetrics metrics;
+
+    private List<RequestMatcher> userLookupPaths = List.of();
+
+    @Value("${auth.filter.user-lookup-paths:/api/auth/admin/**}")
+    public void setUserLookupPaths(List<String> patterns) {
+        this.userLookupPaths = patterns.stream()
+                .<RequestMatcher>map(AntPathRequestMatcher::antMatcher)
+                .toList();
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
             throws ServletException, IOException {
 
+        Timer.Sample sample = metrics.start();
         final String authorizationHeader = request.getHeader("Authorization");
 
-        String username = null;
-        String jwt = null;
+        VerifiedToken token = null;
 
         if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
-            jwt = authorizationHeader.substring(7);
-            username = jwtService.extractUsername(jwt);
+            try {
+                VerifiedToken verified = jwtService.verify(authorizationHeader.substring(7));
+                if (revocationList.isRevoked(verified.tokenId())) {
+                    throw new RevokedTokenException("Token has been revoked");
+                }
+                token = verified;
+            } catch (JwtException | IllegalArgumentException e) {
+                logger.debug("Rejected bearer token: " + e.getMessage());
+            }
         }
+        if (token != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            try {
+                authenticate(request, token);
+            } catch (UsernameNotFoundException e) {
+                logger.debug("Rejected bearer token of a deleted user: " + e.getMessage());
+                token = null;
+            }
+        }
+        String outcome = authorizationHeader == null ? "anonymous" : token == null ? "rejected" : "authenticated";
+        metrics.recordFilter(sample, outcome);
+        chain.doFilter(request, response);
+    }
 
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
+    private void authenticate(HttpServletRequest request, VerifiedToken token) {
+        UsernamePasswordAuthenticationToken authentication;
+        if (token.hasEmbeddedRole() && !requiresUserLookup(request)) {
+            JwtPrincipal principal = JwtPrincipal.from(token);
+            authentication = new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+        } else {
+            metrics.countFilterUserLookup(token.hasEmbeddedRole() ? "path" : "legacy_token");
+            UserDetails userDetails = userDetailsService.loadUserByUsername(token.username());
+            authentication = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+        }
+        authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
 
-            if (jwtService.validateToken(jwt, username)) {
-                UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken = new UsernamePasswordAuthenticationToken(
-                        userDetails, null, userDetails.getAuthorities());
-                usernamePasswordAuthenticationToken
-                        .setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                SecurityContextHolder.getContext().setAuthentication(usernamePasswordAuthenticationToken);
+    private boolean requiresUserLookup(HttpServletRequest request) {
+        for (RequestMatcher matcher : userLookupPaths) {
+            if (matcher.matches(request)) {
+                return true;
             }
         }
-        chain.doFilter(request, response);
+        return false;
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,2 @@
+-- Hibernate reserves 50 ids per call to the sequence (allocationSize = 50 on User.id)
+ALTER SEQUENCE users_id_seq INCREMENT BY 50;
@@ -0,0 +1,93 @@
+package com.fiap.hospital.auth.application.adapters.service;
+
+import com.fiap.hospital.auth.application.dto.RegisterRequestDTO;
+import com.fiap.hospital.auth.application.exception.UserAlreadyExistsException;
+import com.fiap.hospital.auth.domain.entities.User;
+import com.fiap.hospital.auth.domain.enums.UserRole;
+import com.fiap.hospital.auth.domain.ports.persistence.UserRepositoryPort;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class AuthServiceAdapterTest {
+
+    @Autowired
+    private AuthServiceAdapter authService;
+
+    @Autowired
+    private UserRepositoryPort userRepository;
+
+    @Test
+    void testRegister_DuplicateUsernameIsRejectedByConstraint() {
+        User registered = authService.register(request("register_duplicate"));
+
+        UserAlreadyExistsException duplicate = assertThrows(UserAlreadyExistsException.class,
+                () -> authService.register(request("register_duplicate")));
+
+        assertEquals("Username already exists: register_duplicate", duplicate.getMessage());
+        assertNotNull(registered.getCreatedAt());
+        assertTrue(userRepository.findByUsername("register_duplicate").isPresent());
+    }
+
+    @Test
+    void testRegister_OtherUsernameViolationIsNotReportedAsDuplicate() {
+        String tooLong = "register_" + "x".repeat(60);
+
+        assertThrows(DataIntegrityViolationException.class, () -> authService.register(request(tooLong)));
+    }
+
+    @Test
+    void testRegister_ConcurrentSignupsForSameUsernameCreateOneUser() throws Exception {
+        int attempts = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(attempts);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<User>> results = new ArrayList<>();
+            for (int i = 0; i < attempts; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return authService.register(request("register_race"));
+                }));
+            }
+            start.countDown();
+
+            int created = 0;
+            int rejected = 0;
+            for (Future<User> result : results) {
+                try {
+                    result.get();
+                    created++;
+                } catch (Exception e) {
+                    assertInstanceOf(UserAlreadyExistsException.class, e.getCause());
+                    rejected++;
+                }
+            }
+            assertEquals(1, created);
+            assertEquals(attempts - 1, rejected);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static RegisterRequestDTO request(String username) {
+        return RegisterRequestDTO.builder()
+                .username(username)
+                .password("password123")
+                .name("Register Test")
+                .role(UserRole.PATIENT)
+                .build();
+    }
+}
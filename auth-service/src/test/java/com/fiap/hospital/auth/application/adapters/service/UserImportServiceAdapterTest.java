@@ -0,0 +1,190 @@
+package com.fiap.hospital.auth.application.adapters.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fiap.hospital.auth.application.dto.ImportProgressDTO;
+import com.fiap.hospital.auth.application.dto.ImportRowErrorDTO;
+import com.fiap.hospital.auth.application.exception.ImportInProgressException;
+import com.fiap.hospital.auth.domain.entities.User;
+import com.fiap.hospital.auth.domain.enums.ImportFormat;
+import com.fiap.hospital.auth.domain.enums.UserRole;
+import com.fiap.hospital.auth.domain.ports.auth.UserImportPort;
+import com.fiap.hospital.auth.domain.ports.persistence.UserRepositoryPort;
+import com.fiap.hospital.auth.infrastructure.adapters.persistence.DatabaseConcurrencyLimiter;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class UserImportServiceAdapterTest {
+
+    @Autowired
+    private UserImportServiceAdapter importService;
+
+    @Autowired
+    private UserRepositoryPort userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private DatabaseConcurrencyLimiter databaseLimiter;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void testImportCsv_CreatesValidRowsAndReportsRejectedOnes() {
+        userRepository.save(User.builder()
+                .username("import_existing")
+                .password(passwordEncoder.encode("password123"))
+                .name("Existing User")
+                .role(UserRole.PATIENT)
+                .build());
+        String csv = """
+                name,username,password,role
+                "Silva, Ana",import_csv_doctor,password123,doctor
+                Bruno Souza,import_csv_patient,password123,
+                Duplicate,import_csv_patient,password123,PATIENT
+                Existing,import_existing,password123,PATIENT
+                Short,import_csv_short,123,PATIENT
+                Admin,import_csv_admin,password123,ADMIN
+                Unknown,import_csv_unknown,password123,JANITOR
+                Missing,import_csv_missing
+                """;
+        RecordingListener listener = new RecordingListener();
+
+        ImportProgressDTO summary = importService.importUsers(new StringReader(csv), ImportFormat.CSV, listener);
+
+        assertEquals(new ImportProgressDTO(8, 2, 6, true), summary);
+        assertEquals(summary, listener.progress.get(listener.progress.size() - 1));
+        // Rows failing validation are reported before those found in the database, so compare by line
+        Map<Long, String> errors = listener.errors.stream()
+                .collect(Collectors.toMap(ImportRowErrorDTO::getLine, ImportRowErrorDTO::getError));
+        assertEquals(Map.of(
+                4L, "Duplicate username in import",
+                5L, "Username already exists",
+                6L, "Password must be at least 6 characters",
+                7L, "role: ADMIN accounts cannot be self-registered",
+                8L, "Unknown role: JANITOR",
+                9L, "Expected 4 columns but found 2"), errors);
+
+        User doctor = userRepository.findByUsername("import_csv_doctor").orElseThrow();
+        assertEquals("Silva, Ana", doctor.getName());
+        assertEquals(UserRole.DOCTOR, doctor.getRole());
+        assertTrue(passwordEncoder.matches("password123", doctor.getPassword()));
+        assertEquals(UserRole.PATIENT, userRepository.findByUsername("import_csv_patient").orElseThrow().getRole());
+    }
+
+    @Test
+    void testImportNdjson_ReportsMalformedLines() {
+        String ndjson = """
+                {"username":"import_json_nurse","password":"password123","name":"Carla Lima","role":"NURSE"}
+                {"username":"import_json_broken",
+
+                {"username":"import_json_patient","password":"password123","name":"Davi Rocha"}
+                """;
+        RecordingListener listener = new RecordingListener();
+
+        ImportProgressDTO summary = importService.importUsers(new StringReader(ndjson), ImportFormat.NDJSON, listener);
+
+        assertEquals(new ImportProgressDTO(3, 2, 1, true), summary);
+        assertEquals(1, listener.errors.size());
+        assertEquals(2, listener.errors.get(0).getLine());
+        assertTrue(listener.errors.get(0).getError().startsWith("Malformed JSON"));
+        assertEquals(UserRole.NURSE, userRepository.findByUsername("import_json_nurse").orElseThrow().getRole());
+        assertEquals(UserRole.PATIENT, userRepository.findByUsername("import_json_patient").orElseThrow().getRole());
+    }
+
+    @Test
+    void testImportCsv_RowsAreInsertedInChunks() throws Exception {
+        UserImportServiceAdapter smallChunks = new UserImportServiceAdapter(userRepository, passwordEncoder,
+                databaseLimiter, validator, objectMapper, 2, 2);
+        List<String> usernames = List.of("import_chunk_1", "import_chunk_2", "import_chunk_3",
+                "import_chunk_4", "import_chunk_5");
+        StringBuilder csv = new StringBuilder("username,password,name\n");
+        usernames.forEach(username -> csv.append(username).append(",password123,Chunk User\n"));
+        RecordingListener listener = new RecordingListener();
+
+        try {
+            ImportProgressDTO summary = smallChunks.importUsers(new StringReader(csv.toString()), ImportFormat.CSV, listener);
+
+            assertEquals(new ImportProgressDTO(5, 5, 0, true), summary);
+            assertEquals(List.of(2L, 4L, 5L, 5L), listener.progress.stream().map(ImportProgressDTO::getProcessed).toList());
+            assertEquals(5, userRepository.findByUsernameIn(usernames).size());
+        } finally {
+            smallChunks.destroy();
+        }
+    }
+
+    @Test
+    void testImport_SecondConcurrentImportIsRejected() throws Exception {
+        CountDownLatch importing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<ImportProgressDTO> first = executor.submit(() -> importService.importUsers(
+                    new StringReader("username,password,name\nimport_blocking,password123,Blocking User\n"),
+                    ImportFormat.CSV,
+                    new RecordingListener() {
+                        @Override
+                        public void onProgress(ImportProgressDTO progress) {
+                            importing.countDown();
+                            await(release);
+                        }
+                    }));
+            assertTrue(importing.await(10, TimeUnit.SECONDS));
+
+            assertThrows(ImportInProgressException.class, () -> importService.importUsers(
+                    new StringReader(""), ImportFormat.CSV, new RecordingListener()));
+
+            release.countDown();
+            assertEquals(1, first.get(10, TimeUnit.SECONDS).getCreated());
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class RecordingListener implements UserImportPort.Listener {
+        final List<ImportRowErrorDTO> errors = new ArrayList<>();
+        final List<ImportProgressDTO> progress = new ArrayList<>();
+
+        @Override
+        public void onError(ImportRowErrorDTO error) {
+            errors.add(error);
+        }
+
+        @Override
+        public void onProgress(ImportProgressDTO progress) {
+            this.progress.add(progress);
+        }
+    }
+}
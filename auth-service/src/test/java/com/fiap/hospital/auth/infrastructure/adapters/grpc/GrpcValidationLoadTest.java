@@ -0,0 +1,119 @@
+package com.fiap.hospital.auth.infrastructure.adapters.grpc;
+
+import com.fiap.hospital.auth.domain.entities.User;
+import com.fiap.hospital.auth.domain.enums.UserRole;
+import com.fiap.hospital.auth.domain.ports.persistence.UserRepositoryPort;
+import com.fiap.hospital.auth.proto.AuthServiceGrpc;
+import com.fiap.hospital.auth.proto.TokenValidationRequest;
+import com.fiap.hospital.auth.proto.TokenValidationResponse;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Drives concurrent legacy-token validations, which all need a user lookup, against the running gRPC server.
+ * Run with {@code mvn test -Dtest=GrpcValidationLoadTest -DloadTest=true}, adding
+ * {@code -Dspring.threads.virtual.enabled=true} on Java 21+ to compare with virtual threads. The test fails
+ * below {@code -DloadTest.minRate} validations per second (default 200).
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@EnabledIfSystemProperty(named = "loadTest", matches = "true")
+@Slf4j
+public class GrpcValidationLoadTest {
+
+    private static final int CLIENTS = 200;
+    private static final int REQUESTS_PER_CLIENT = 50;
+
+    @Autowired
+    private UserRepositoryPort userRepository;
+
+    @Value("${jwt.secret}")
+    private String jwtSecret;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Test
+    void validateLegacyTokensConcurrently() throws Exception {
+        userRepository.findByUsername("load_test_user").orElseGet(() -> userRepository.save(User.builder()
+                .username("load_test_user")
+                .name("Load Test")
+                .password("password")
+                .role(UserRole.PATIENT)
+                .build()));
+
+        ManagedChannel channel = ManagedChannelBuilder.forAddress("localhost", 9090)
+                .usePlaintext()
+                .build();
+        AuthServiceGrpc.AuthServiceBlockingStub stub = AuthServiceGrpc.newBlockingStub(channel);
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+
+        try {
+            long start = System.nanoTime();
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int client = 0; client < CLIENTS; client++) {
+                int clientId = client;
+                results.add(clients.submit(() -> {
+                    int valid = 0;
+                    for (int i = 0; i < REQUESTS_PER_CLIENT; i++) {
+                        // A distinct token per request so every call misses the validation cache and hits the database.
+                        TokenValidationResponse response = stub.validateTokenAndGetRole(TokenValidationRequest.newBuilder()
+                                .setToken(legacyToken("load_test_user", clientId * REQUESTS_PER_CLIENT + i))
+                                .build());
+                        if (response.getIsValid()) {
+                            valid++;
+                        }
+                    }
+                    return valid;
+                }));
+            }
+
+            int valid = 0;
+            for (Future<Integer> result : results) {
+                valid += result.get();
+            }
+            double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+            int total = CLIENTS * REQUESTS_PER_CLIENT;
+
+            double rate = total / seconds;
+            double minRate = Double.parseDouble(System.getProperty("loadTest.minRate", "200"));
+
+            log.info("gRPC validation load test (virtual threads: {}): {} requests in {} s, {} req/s",
+                    virtualThreads, total, String.format("%.2f", seconds), String.format("%.0f", rate));
+            assertEquals(total, valid);
+            assertTrue(rate >= minRate, String.format("%.0f req/s, expected at least %.0f", rate, minRate));
+        } finally {
+            clients.shutdownNow();
+            channel.shutdownNow();
+        }
+    }
+
+    private String legacyToken(String username, int sequence) {
+        return Jwts.builder()
+                .setSubject(username)
+                .claim("seq", sequence)
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(jwtSecret.substring(0, 32).getBytes(StandardCharsets.UTF_8)))
+                .compact();
+    }
+}
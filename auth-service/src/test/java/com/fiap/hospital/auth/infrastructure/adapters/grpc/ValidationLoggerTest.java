@@ -0,0 +1,84 @@
+package com.fiap.hospital.auth.infrastructure.adapters.grpc;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.security.SignatureException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ValidationLoggerTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000);
+    private final Logger logger = (Logger) LoggerFactory.getLogger(ValidationLogger.class);
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+    private Level previousLevel;
+
+    @BeforeEach
+    void setUp() {
+        previousLevel = logger.getLevel();
+        logger.setLevel(Level.INFO);
+        appender.start();
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+        logger.setLevel(previousLevel);
+    }
+
+    @Test
+    void testOutcome_MapsExpectedJwtFailures() {
+        assertEquals(ValidationOutcome.EXPIRED, ValidationOutcome.of(new ExpiredJwtException(null, null, "expired")));
+        assertEquals(ValidationOutcome.BAD_SIGNATURE, ValidationOutcome.of(new SignatureException("bad signature")));
+        assertEquals(ValidationOutcome.MALFORMED, ValidationOutcome.of(new MalformedJwtException("malformed")));
+        assertEquals(ValidationOutcome.MALFORMED, ValidationOutcome.of(new IllegalArgumentException("empty")));
+        assertEquals(ValidationOutcome.UNKNOWN_USER, ValidationOutcome.of(new UsernameNotFoundException("missing")));
+        assertEquals(ValidationOutcome.ERROR, ValidationOutcome.of(new IllegalStateException("boom")));
+    }
+
+    @Test
+    void testRejected_CapsFailuresPerSecondAndReportsSuppressed() {
+        ValidationLogger validationLogger = new ValidationLogger(0, 2, clock::get);
+
+        for (int i = 0; i < 5; i++) {
+            rejected(validationLogger, "ValidateTokenAndGetRole", new SignatureException("bad signature"));
+        }
+        assertEquals(2, appender.list.size());
+
+        clock.addAndGet(1000);
+        rejected(validationLogger, "ValidateTokenAndGetRole", new SignatureException("bad signature"));
+
+        assertEquals(3, appender.list.size());
+        assertTrue(appender.list.get(2).getFormattedMessage().contains("outcome=BAD_SIGNATURE"));
+        assertTrue(appender.list.get(2).getFormattedMessage().contains("suppressed=3"));
+    }
+
+    @Test
+    void testRejected_StackTraceOnlyForUnexpectedErrors() {
+        ValidationLogger validationLogger = new ValidationLogger(0, 10, clock::get);
+
+        rejected(validationLogger, "ValidateTokens", new ExpiredJwtException(null, null, "expired"));
+        rejected(validationLogger, "ValidateTokens", new IllegalStateException("boom"));
+
+        assertEquals(Level.INFO, appender.list.get(0).getLevel());
+        assertNull(appender.list.get(0).getThrowableProxy());
+        assertEquals(Level.WARN, appender.list.get(1).getLevel());
+        assertNotNull(appender.list.get(1).getThrowableProxy());
+    }
+
+    private static void rejected(ValidationLogger validationLogger, String rpc, Exception e) {
+        validationLogger.rejected(rpc, ValidationOutcome.of(e), e);
+    }
+}
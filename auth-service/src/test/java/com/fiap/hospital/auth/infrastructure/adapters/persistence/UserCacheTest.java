@@ -0,0 +1,153 @@
+package com.fiap.hospital.auth.infrastructure.adapters.persistence;
+
+import com.fiap.hospital.auth.domain.entities.User;
+import com.fiap.hospital.auth.domain.enums.UserRole;
+import com.fiap.hospital.auth.domain.ports.persistence.UserRepositoryPort;
+import com.fiap.hospital.auth.infrastructure.adapters.security.RefreshTokenAdapter;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class UserCacheTest {
+
+    @Autowired
+    private UserRepositoryPort userRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private RefreshTokenAdapter refreshTokenAdapter;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Cache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = cacheManager.getCache(UserRepositoryPort.USERS_CACHE);
+        cache.clear();
+    }
+
+    @Test
+    void testFindByUsername_SecondLookupIsServedFromCache() {
+        userRepository.save(user("cached_user", UserRole.PATIENT));
+        cache.clear();
+        CacheStats before = stats();
+
+        assertTrue(userRepository.findByUsername("cached_user").isPresent());
+        assertTrue(userRepository.findByUsername("cached_user").isPresent());
+
+        assertEquals(before.missCount() + 1, stats().missCount());
+        assertEquals(before.hitCount() + 1, stats().hitCount());
+    }
+
+    @Test
+    void testFindByUsername_UnknownUserIsNotCached() {
+        assertTrue(userRepository.findByUsername("cache_unknown_user").isEmpty());
+
+        assertNull(cache.get("cache_unknown_user"));
+    }
+
+    @Test
+    void testSave_ReplacesCachedUser() {
+        User user = userRepository.findByUsername("cache_updated_user")
+                .orElseGet(() -> userRepository.save(user("cache_updated_user", UserRole.PATIENT)));
+        userRepository.findByUsername("cache_updated_user");
+
+        user.setRole(UserRole.NURSE);
+        userRepository.save(user);
+
+        assertEquals(UserRole.NURSE, userRepository.findByUsername("cache_updated_user").orElseThrow().getRole());
+    }
+
+    @Test
+    void testFindByUsername_ChangesToTheReturnedUserDoNotReachTheCache() {
+        userRepository.save(user("cache_copied_user", UserRole.PATIENT));
+
+        User user = userRepository.findByUsername("cache_copied_user").orElseThrow();
+        user.setPassword("changed-but-not-saved");
+
+        User cached = userRepository.findByUsername("cache_copied_user").orElseThrow();
+        assertEquals("password", cached.getPassword());
+        assertNotSame(user, cached);
+    }
+
+    @Test
+    void testSave_RolledBackChangeIsNotCached() {
+        User user = userRepository.save(user("cache_rolled_back_user", UserRole.PATIENT));
+        userRepository.findByUsername("cache_rolled_back_user");
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            user.setRole(UserRole.ADMIN);
+            userRepository.save(user);
+            status.setRollbackOnly();
+        });
+
+        assertEquals(UserRole.PATIENT, userRepository.findByUsername("cache_rolled_back_user").orElseThrow().getRole());
+    }
+
+    @Test
+    void testBulkWrites_EvictCachedUsers() {
+        User saved = userRepository.save(user("cache_bulk_user", UserRole.PATIENT));
+        userRepository.findByUsername("cache_bulk_user");
+
+        saved.setRole(UserRole.NURSE);
+        userRepository.saveAll(List.of(saved));
+        assertNull(cache.get("cache_bulk_user"));
+        assertEquals(UserRole.NURSE, userRepository.findByUsername("cache_bulk_user").orElseThrow().getRole());
+
+        userRepository.deleteById(saved.getId());
+        assertTrue(userRepository.findByUsername("cache_bulk_user").isEmpty());
+    }
+
+    @Test
+    void testInsertAll_KeepsCachedUsers() {
+        userRepository.save(user("cache_hot_user", UserRole.DOCTOR));
+        userRepository.findByUsername("cache_hot_user");
+
+        userRepository.insertAll(List.of(user("cache_imported_1", UserRole.PATIENT), user("cache_imported_2", UserRole.PATIENT)));
+
+        assertNotNull(cache.get("cache_hot_user"));
+        assertTrue(userRepository.findByUsername("cache_imported_2").isPresent());
+    }
+
+    @Test
+    void testWarmUp_LoadsUsersWithActiveSession() {
+        User user = userRepository.findByUsername("cache_active_user")
+                .orElseGet(() -> userRepository.save(user("cache_active_user", UserRole.DOCTOR)));
+        refreshTokenAdapter.issue(user);
+        cache.clear();
+
+        new UserCacheWarmer(userRepository, cacheManager, true, 100).warmUp();
+
+        assertNotNull(cache.get("cache_active_user"));
+    }
+
+    private CacheStats stats() {
+        return ((com.github.benmanes.caffeine.cache.Cache<?, ?>) cache.getNativeCache()).stats();
+    }
+
+    private static User user(String username, UserRole role) {
+        return User.builder()
+                .username(username)
+                .name("Cached User")
+                .password("password")
+                .role(role)
+                .build();
+    }
+}
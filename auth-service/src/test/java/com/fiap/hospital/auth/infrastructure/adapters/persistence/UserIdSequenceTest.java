@@ -0,0 +1,48 @@
+package com.fiap.hospital.auth.infrastructure.adapters.persistence;
+
+import com.fiap.hospital.auth.domain.entities.User;
+import jakarta.persistence.SequenceGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The tests run without Flyway, so nothing else checks that the migrations give {@code users_id_seq} the
+ * increment Hibernate assumes when it hands out ids from a pooled block.
+ */
+public class UserIdSequenceTest {
+
+    private static final Pattern INCREMENT = Pattern.compile(
+            "ALTER\\s+SEQUENCE\\s+users_id_seq\\s+INCREMENT\\s+BY\\s+(\\d+)", Pattern.CASE_INSENSITIVE);
+
+    @Test
+    void testMigrations_SequenceIncrementMatchesAllocationSize() throws Exception {
+        Resource[] migrations = new PathMatchingResourcePatternResolver().getResources("classpath:db/migration/V*.sql");
+        Arrays.sort(migrations, Comparator.comparingInt(UserIdSequenceTest::version));
+
+        Integer increment = null;
+        for (Resource migration : migrations) {
+            Matcher matcher = INCREMENT.matcher(migration.getContentAsString(StandardCharsets.UTF_8));
+            while (matcher.find()) {
+                increment = Integer.parseInt(matcher.group(1));
+            }
+        }
+
+        SequenceGenerator generator = User.class.getDeclaredField("id").getAnnotation(SequenceGenerator.class);
+        assertNotNull(increment, "no migration sets the increment of users_id_seq");
+        assertEquals(generator.allocationSize(), increment);
+    }
+
+    private static int version(Resource migration) {
+        String name = migration.getFilename();
+        return Integer.parseInt(name.substring(1, name.indexOf("__")));
+    }
+}
@@ -0,0 +1,173 @@
+package com.fiap.hospital.auth.infrastructure.adapters.security;
+
+import com.fiap.hospital.auth.domain.entities.User;
+import com.fiap.hospital.auth.domain.enums.UserRole;
+import com.fiap.hospital.auth.infrastructure.config.JwtConfiguration;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.UnsupportedJwtException;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JwtTokenAdapterTest {
+
+    private static final String SECRET = "thisissupersecretkeyandshouldbeatleast32bytes";
+
+    private final User user = User.builder()
+            .id(7L)
+            .username("demostenis_villar2")
+            .role(UserRole.DOCTOR)
+            .build();
+
+    @Test
+    void testVerify_HmacTokenCarriesClaims() {
+        JwtTokenAdapter adapter = adapter(configuration("HS256", null, true));
+
+        VerifiedToken token = adapter.verify(adapter.generateToken(user));
+
+        assertEquals(2, token.version());
+        assertEquals("demostenis_villar2", token.username());
+        assertEquals(7L, token.userId());
+        assertEquals(UserRole.DOCTOR, token.role());
+    }
+
+    @Test
+    void testGenerateToken_ExpiresAfterConfiguredMinutes() {
+        JwtTokenAdapter adapter = adapter(configuration("HS256", null, true));
+
+        long before = System.currentTimeMillis();
+        VerifiedToken token = adapter.verify(adapter.generateToken(user));
+
+        long lifetime = token.expiration().getTime() - before;
+        assertTrue(lifetime > 59 * 60_000L && lifetime <= 60 * 60_000L, "lifetime was " + lifetime + " ms");
+    }
+
+    @Test
+    void testVerify_RsaTokenSignedWithActiveKeyId() {
+        JwtTokenAdapter adapter = adapter(configuration("RS256", "rsa-2026-02", true));
+
+        String token = adapter.generateToken(user);
+
+        String header = new String(Base64.getUrlDecoder().decode(token.substring(0, token.indexOf('.'))),
+                StandardCharsets.UTF_8);
+
+        assertTrue(header.contains("\"kid\":\"rsa-2026-02\""));
+        assertTrue(header.contains("\"alg\":\"RS256\""));
+        assertEquals(UserRole.DOCTOR, adapter.verify(token).role());
+    }
+
+    @Test
+    void testVerify_TokenSignedWithPreviousKeyStillAcceptedAfterRotation() {
+        String issuedBeforeRotation = adapter(configuration("RS256", "rsa-2026-01", true)).generateToken(user);
+
+        JwtTokenAdapter rotated = adapter(configuration("RS256", "rsa-2026-02", true));
+
+        assertEquals("demostenis_villar2", rotated.verify(issuedBeforeRotation).username());
+    }
+
+    @Test
+    void testVerify_HmacTokenRejectedWhenHmacDisabled() {
+        String hmacToken = adapter(configuration("HS256", null, true)).generateToken(user);
+
+        JwtTokenAdapter rsaOnly = adapter(configuration("RS256", "rsa-2026-02", false));
+
+        assertThrows(UnsupportedJwtException.class, () -> rsaOnly.verify(hmacToken));
+    }
+
+    @Test
+    void testVerify_HmacTokenRejectedInRsaModeByDefault() {
+        String hmacToken = adapter(configuration("HS256", null, true)).generateToken(user);
+
+        new ApplicationContextRunner()
+                .withUserConfiguration(JwtConfiguration.class)
+                .withPropertyValues("jwt.secret=" + SECRET, "jwt.signing.algorithm=RS256",
+                        "jwt.signing.key-store=classpath:jwt-test-keystore.p12",
+                        "jwt.signing.key-store-password=changeit", "jwt.signing.key-alias=rsa-2026-02")
+                .run(context -> {
+                    JwtTokenAdapter rsa = adapter(context.getBean(JwtConfiguration.class));
+
+                    assertEquals(UserRole.DOCTOR, rsa.verify(rsa.generateToken(user)).role());
+                    assertThrows(UnsupportedJwtException.class, () -> rsa.verify(hmacToken));
+                });
+    }
+
+    @Test
+    void testVerify_EcdsaToken() {
+        JwtTokenAdapter adapter = adapter(configuration("ES256", "ec-2026-01", true));
+
+        assertEquals(UserRole.DOCTOR, adapter.verify(adapter.generateToken(user)).role());
+    }
+
+    @Test
+    void testVerify_RejectsTamperedToken() {
+        JwtTokenAdapter adapter = adapter(configuration("RS256", "rsa-2026-02", true));
+        String token = adapter.generateToken(user);
+
+        assertThrows(JwtException.class, () -> adapter.verify(token.substring(0, token.length() - 4) + "AAAA"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testGetJwks_PublishesEveryRsaKey() {
+        JwtKeyProvider keyProvider = new JwtKeyProvider(configuration("RS256", "rsa-2026-02", true));
+
+        List<Map<String, Object>> keys = (List<Map<String, Object>>) keyProvider.getJwks().get("keys");
+
+        assertEquals(2, keys.size());
+        assertTrue(keys.stream().anyMatch(key -> "rsa-2026-01".equals(key.get("kid"))));
+        assertTrue(keys.stream().anyMatch(key -> "rsa-2026-02".equals(key.get("kid"))));
+        assertTrue(keys.stream().allMatch(key -> "RSA".equals(key.get("kty")) && key.containsKey("n") && key.containsKey("e")));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testGetJwks_PublishesTheAlgorithmOfEachKey() {
+        String signedBeforeRotation = adapter(configuration("RS512", "rsa-2026-01", true)).generateToken(user);
+        JwtConfiguration rotated = configuration("RS256", "rsa-2026-02", true);
+        ReflectionTestUtils.setField(rotated, "keyAlgorithms", "rsa-2026-01=RS512");
+        JwtKeyProvider keyProvider = new JwtKeyProvider(rotated);
+
+        List<Map<String, Object>> keys = (List<Map<String, Object>>) keyProvider.getJwks().get("keys");
+
+        assertTrue(keys.stream().anyMatch(key -> "rsa-2026-01".equals(key.get("kid")) && "RS512".equals(key.get("alg"))));
+        assertTrue(keys.stream().anyMatch(key -> "rsa-2026-02".equals(key.get("kid")) && "RS256".equals(key.get("alg"))));
+        assertEquals("demostenis_villar2", new JwtTokenAdapter(rotated, keyProvider).verify(signedBeforeRotation).username());
+        // The retired key only verifies tokens of the algorithm it was used with
+        String wrongAlgorithm = adapter(configuration("RS256", "rsa-2026-01", true)).generateToken(user);
+        assertThrows(UnsupportedJwtException.class, () -> new JwtTokenAdapter(rotated, keyProvider).verify(wrongAlgorithm));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testGetJwks_EcKeyAlgorithmFollowsItsCurve() {
+        JwtConfiguration configuration = configuration("ES256", "ec-2026-01", true);
+
+        List<Map<String, Object>> keys = (List<Map<String, Object>>) new JwtKeyProvider(configuration).getJwks().get("keys");
+
+        assertEquals(List.of("ES256"), keys.stream().map(key -> key.get("alg")).toList());
+    }
+
+    private JwtTokenAdapter adapter(JwtConfiguration configuration) {
+        return new JwtTokenAdapter(configuration, new JwtKeyProvider(configuration));
+    }
+
+    private JwtConfiguration configuration(String algorithm, String keyAlias, boolean acceptHmac) {
+        JwtConfiguration configuration = new JwtConfiguration();
+        ReflectionTestUtils.setField(configuration, "secret", SECRET);
+        ReflectionTestUtils.setField(configuration, "accessTokenExpirationMinutes", 60L);
+        ReflectionTestUtils.setField(configuration, "signingAlgorithm", algorithm);
+        ReflectionTestUtils.setField(configuration, "keyStore", "classpath:jwt-test-keystore.p12");
+        ReflectionTestUtils.setField(configuration, "keyStorePassword", "changeit");
+        ReflectionTestUtils.setField(configuration, "keyStoreType", "PKCS12");
+        ReflectionTestUtils.setField(configuration, "keyAlias", keyAlias);
+        ReflectionTestUtils.setField(configuration, "acceptHmac", acceptHmac);
+        return configuration;
+    }
+}
@@ -0,0 +1,89 @@
+package com.fiap.hospital.auth.infrastructure.adapters.security;
+
+import com.fiap.hospital.auth.infrastructure.config.PasswordEncoderConfiguration;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PasswordEncoderFactoryTest {
+
+    private static final String PASSWORD = "S3cure-Passw0rd!";
+
+    @Test
+    void testLegacyBcryptHash_MatchesAndIsUpgradedToConfiguredEncoder() {
+        PasswordEncoder encoder = PasswordEncoderFactory.create(configuration("argon2"));
+        String legacyHash = new BCryptPasswordEncoder(4).encode(PASSWORD);
+
+        assertTrue(encoder.matches(PASSWORD, legacyHash));
+        assertFalse(encoder.matches("wrong", legacyHash));
+        assertTrue(encoder.upgradeEncoding(legacyHash));
+    }
+
+    @Test
+    void testEncode_UsesConfiguredEncoderPrefix() {
+        PasswordEncoder argon2 = PasswordEncoderFactory.create(configuration("argon2"));
+        PasswordEncoder pbkdf2 = PasswordEncoderFactory.create(configuration("pbkdf2"));
+
+        String argon2Hash = argon2.encode(PASSWORD);
+        String pbkdf2Hash = pbkdf2.encode(PASSWORD);
+
+        assertTrue(argon2Hash.startsWith("{argon2}$argon2id$"));
+        assertTrue(pbkdf2Hash.startsWith("{pbkdf2}"));
+        assertTrue(argon2.matches(PASSWORD, argon2Hash));
+        assertFalse(argon2.upgradeEncoding(argon2Hash));
+        assertTrue(argon2.matches(PASSWORD, pbkdf2Hash));
+        assertTrue(argon2.upgradeEncoding(pbkdf2Hash));
+    }
+
+    @Test
+    void testUpgradeEncoding_WhenParametersAreRaised() {
+        PasswordEncoderConfiguration weak = configuration("bcrypt");
+        String weakHash = PasswordEncoderFactory.create(weak).encode(PASSWORD);
+
+        PasswordEncoderConfiguration strong = configuration("bcrypt");
+        ReflectionTestUtils.setField(strong, "bcryptStrength", 6);
+
+        assertFalse(PasswordEncoderFactory.create(weak).upgradeEncoding(weakHash));
+        assertTrue(PasswordEncoderFactory.create(strong).upgradeEncoding(weakHash));
+    }
+
+    @Test
+    void testUpgradeEncoding_WhenPbkdf2IterationsAreRaised() {
+        String weakHash = PasswordEncoderFactory.create(configuration("pbkdf2")).encode(PASSWORD);
+        String legacyHash = "{pbkdf2}" + new Pbkdf2PasswordEncoder("", 16, 1000,
+                Pbkdf2PasswordEncoder.SecretKeyFactoryAlgorithm.PBKDF2WithHmacSHA256).encode(PASSWORD);
+
+        PasswordEncoderConfiguration strong = configuration("pbkdf2");
+        ReflectionTestUtils.setField(strong, "pbkdf2Iterations", 2000);
+        PasswordEncoder strongEncoder = PasswordEncoderFactory.create(strong);
+
+        assertTrue(weakHash.startsWith("{pbkdf2}1000$"));
+        assertFalse(PasswordEncoderFactory.create(configuration("pbkdf2")).upgradeEncoding(weakHash));
+        assertTrue(strongEncoder.matches(PASSWORD, weakHash));
+        assertTrue(strongEncoder.upgradeEncoding(weakHash));
+        assertFalse(strongEncoder.upgradeEncoding(strongEncoder.encode(PASSWORD)));
+        // Hashes written before the count was stored still verify with the configured count
+        assertTrue(PasswordEncoderFactory.create(configuration("pbkdf2")).matches(PASSWORD, legacyHash));
+        assertTrue(PasswordEncoderFactory.create(configuration("pbkdf2")).upgradeEncoding(legacyHash));
+    }
+
+    @Test
+    void testCreate_RejectsUnknownEncoder() {
+        assertThrows(IllegalStateException.class, () -> PasswordEncoderFactory.create(configuration("md5")));
+    }
+
+    private static PasswordEncoderConfiguration configuration(String encoder) {
+        PasswordEncoderConfiguration configuration = new PasswordEncoderConfiguration();
+        ReflectionTestUtils.setField(configuration, "encoder", encoder);
+        ReflectionTestUtils.setField(configuration, "bcryptStrength", 4);
+        ReflectionTestUtils.setField(configuration, "argon2MemoryKib", 1024);
+        ReflectionTestUtils.setField(configuration, "argon2Iterations", 1);
+        ReflectionTestUtils.setField(configuration, "argon2Parallelism", 1);
+        ReflectionTestUtils.setField(configuration, "pbkdf2Iterations", 1000);
+        return configuration;
+    }
+}
@@ -0,0 +1,75 @@
+package com.fiap.hospital.auth.infrastructure.adapters.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PasswordHashingExecutorTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private PasswordHashingExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.destroy();
+    }
+
+    @Test
+    void testExecute_ReturnsResultAndRethrowsTaskExceptions() {
+        executor = new PasswordHashingExecutor(1, 1, Duration.ofSeconds(5));
+
+        assertEquals("hash", executor.execute(() -> "hash"));
+        IllegalArgumentException thrown = assertThrows(IllegalArgumentException.class,
+                () -> executor.execute(() -> {
+                    throw new IllegalArgumentException("bad salt");
+                }));
+        assertEquals("bad salt", thrown.getMessage());
+    }
+
+    @Test
+    void testExecute_RejectsWhenQueueIsFull() throws Exception {
+        executor = new PasswordHashingExecutor(1, 1, Duration.ofSeconds(5));
+        CountDownLatch started = new CountDownLatch(1);
+
+        CompletableFuture.runAsync(() -> executor.execute(() -> {
+            started.countDown();
+            return await(release);
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture.runAsync(() -> executor.execute(() -> await(release)));
+        waitForQueueSize(1);
+
+        assertThrows(PasswordHashingBusyException.class, () -> executor.execute(() -> "hash"));
+    }
+
+    @Test
+    void testExecute_TimesOutWhenTaskTakesTooLong() {
+        executor = new PasswordHashingExecutor(1, 1, Duration.ofMillis(50));
+
+        assertThrows(PasswordHashingBusyException.class, () -> executor.execute(() -> await(release)));
+    }
+
+    private void waitForQueueSize(int size) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (executor.queueSize() < size && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(size, executor.queueSize());
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
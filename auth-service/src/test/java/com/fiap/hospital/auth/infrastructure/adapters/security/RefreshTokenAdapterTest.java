@@ -0,0 +1,83 @@
+package com.fiap.hospital.auth.infrastructure.adapters.security;
+
+import com.fiap.hospital.auth.application.exception.InvalidRefreshTokenException;
+import com.fiap.hospital.auth.domain.entities.User;
+import com.fiap.hospital.auth.domain.enums.UserRole;
+import com.fiap.hospital.auth.domain.ports.persistence.RefreshTokenRepositoryPort;
+import com.fiap.hospital.auth.domain.ports.persistence.UserRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class RefreshTokenAdapterTest {
+
+    @Autowired
+    private RefreshTokenAdapter refreshTokenAdapter;
+
+    @Autowired
+    private RefreshTokenRepositoryPort refreshTokenRepository;
+
+    @Autowired
+    private UserRepositoryPort userRepository;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.findByUsername("refresh_token_user").orElseGet(() -> userRepository.save(User.builder()
+                .username("refresh_token_user")
+                .name("Refresh Token User")
+                .password("password")
+                .role(UserRole.NURSE)
+                .build()));
+    }
+
+    @Test
+    void testRotate_IssuesNewTokenForSameUser() {
+        String issued = refreshTokenAdapter.issue(user);
+
+        RefreshTokenAdapter.RotatedRefreshToken rotated = refreshTokenAdapter.rotate(issued);
+
+        assertEquals("refresh_token_user", rotated.user().getUsername());
+        assertEquals(UserRole.NURSE, rotated.user().getRole());
+        assertNotEquals(issued, rotated.refreshToken());
+        assertNotNull(refreshTokenAdapter.rotate(rotated.refreshToken()).refreshToken());
+    }
+
+    @Test
+    void testRotate_ReuseRevokesWholeFamily() {
+        String issued = refreshTokenAdapter.issue(user);
+        String successor = refreshTokenAdapter.rotate(issued).refreshToken();
+
+        InvalidRefreshTokenException reuse = assertThrows(InvalidRefreshTokenException.class,
+                () -> refreshTokenAdapter.rotate(issued));
+
+        assertEquals("Refresh token has already been used", reuse.getMessage());
+        assertThrows(InvalidRefreshTokenException.class, () -> refreshTokenAdapter.rotate(successor));
+    }
+
+    @Test
+    void testRotate_RejectsUnknownAndExpiredTokens() {
+        assertThrows(InvalidRefreshTokenException.class, () -> refreshTokenAdapter.rotate("not-a-refresh-token"));
+
+        String issued = refreshTokenAdapter.issue(user);
+        refreshTokenRepository.findAll().stream()
+                .filter(token -> token.getRevokedAt() == null && token.getExpiresAt().isAfter(LocalDateTime.now()))
+                .forEach(token -> {
+                    token.setExpiresAt(LocalDateTime.now().minusMinutes(1));
+                    refreshTokenRepository.save(token);
+                });
+
+        InvalidRefreshTokenException expired = assertThrows(InvalidRefreshTokenException.class,
+                () -> refreshTokenAdapter.rotate(issued));
+        assertEquals("Refresh token has expired", expired.getMessage());
+    }
+}
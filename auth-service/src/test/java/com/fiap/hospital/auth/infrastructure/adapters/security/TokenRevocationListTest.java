@@ -0,0 +1,77 @@
+package com.fiap.hospital.auth.infrastructure.adapters.security;
+
+import com.fiap.hospital.auth.domain.entities.RevokedToken;
+import com.fiap.hospital.auth.domain.ports.persistence.RevokedTokenRepositoryPort;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class TokenRevocationListTest {
+
+    @Autowired
+    private TokenRevocationList revocationList;
+
+    @Autowired
+    private RevokedTokenRepositoryPort revokedTokenRepository;
+
+    @Test
+    void testRevoke_IsVisibleImmediatelyAndPersisted() {
+        String tokenId = UUID.randomUUID().toString();
+
+        assertTrue(revocationList.revoke(tokenId, "revocation_user", inOneHour()));
+
+        assertTrue(revocationList.isRevoked(tokenId));
+        assertFalse(revocationList.isRevoked(UUID.randomUUID().toString()));
+        assertFalse(revocationList.isRevoked(null));
+        assertTrue(revokedTokenRepository.existsById(tokenId));
+    }
+
+    @Test
+    void testRevoke_TokenWithoutIdIsIgnored() {
+        assertFalse(revocationList.revoke(null, "revocation_user", inOneHour()));
+    }
+
+    @Test
+    void testRefresh_PicksUpRevocationsMadeByOtherInstances() {
+        String tokenId = UUID.randomUUID().toString();
+        revokedTokenRepository.save(RevokedToken.builder()
+                .tokenId(tokenId)
+                .username("revocation_user")
+                .expiresAt(LocalDateTime.now().plusHours(1))
+                .revokedAt(LocalDateTime.now())
+                .build());
+        assertFalse(revocationList.isRevoked(tokenId));
+
+        revocationList.refresh();
+
+        assertTrue(revocationList.isRevoked(tokenId));
+    }
+
+    @Test
+    void testPurge_DropsExpiredRevocations() {
+        String expiredTokenId = UUID.randomUUID().toString();
+        String activeTokenId = UUID.randomUUID().toString();
+        revocationList.revoke(expiredTokenId, "revocation_user", new Date(System.currentTimeMillis() - 1000));
+        revocationList.revoke(activeTokenId, "revocation_user", inOneHour());
+
+        revocationList.purge();
+
+        assertFalse(revocationList.isRevoked(expiredTokenId));
+        assertFalse(revokedTokenRepository.existsById(expiredTokenId));
+        assertTrue(revocationList.isRevoked(activeTokenId));
+        assertTrue(revokedTokenRepository.existsById(activeTokenId));
+    }
+
+    private static Date inOneHour() {
+        return new Date(System.currentTimeMillis() + 3_600_000);
+    }
+}
@@ -0,0 +1,87 @@
+package com.fiap.hospital.auth.infrastructure.adapters.security;
+
+import com.fiap.hospital.auth.domain.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TokenValidationCacheTest {
+
+    private final AtomicLong ticks = new AtomicLong();
+    private TokenValidationCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new TokenValidationCache(true, 100, Duration.ofMinutes(5), ticks::get);
+    }
+
+    @Test
+    void testGet_ReturnsCachedEntryAndCountsHits() {
+        cache.put("token-a", "jti-a", "doctor", UserRole.DOCTOR, expiresIn(Duration.ofHours(1)));
+
+        assertEquals(UserRole.DOCTOR, cache.get("token-a").orElseThrow().role());
+        assertTrue(cache.get("token-b").isEmpty());
+        assertEquals(1, cache.stats().hitCount());
+        assertEquals(1, cache.stats().missCount());
+    }
+
+    @Test
+    void testGet_EntryDoesNotOutliveTokenExpiration() {
+        cache.put("token-a", "jti-a", "doctor", UserRole.DOCTOR, expiresIn(Duration.ofSeconds(30)));
+
+        advance(Duration.ofSeconds(20));
+        assertTrue(cache.get("token-a").isPresent());
+
+        advance(Duration.ofSeconds(15));
+        assertTrue(cache.get("token-a").isEmpty());
+    }
+
+    @Test
+    void testGet_EntryDoesNotOutliveConfiguredTtl() {
+        cache.put("token-a", "jti-a", "doctor", UserRole.DOCTOR, expiresIn(Duration.ofHours(1)));
+
+        advance(Duration.ofMinutes(6));
+        assertTrue(cache.get("token-a").isEmpty());
+    }
+
+    @Test
+    void testPut_IgnoresExpiredToken() {
+        cache.put("token-a", "jti-a", "doctor", UserRole.DOCTOR, System.currentTimeMillis() - 1000);
+
+        assertTrue(cache.get("token-a").isEmpty());
+    }
+
+    @Test
+    void testInvalidateUser_RemovesOnlyThatUsersTokens() {
+        cache.put("token-a", "jti-a", "doctor", UserRole.DOCTOR, expiresIn(Duration.ofHours(1)));
+        cache.put("token-b", "jti-b", "doctor", UserRole.DOCTOR, expiresIn(Duration.ofHours(1)));
+        cache.put("token-c", "jti-c", "nurse", UserRole.NURSE, expiresIn(Duration.ofHours(1)));
+
+        cache.invalidateUser("doctor");
+
+        assertTrue(cache.get("token-a").isEmpty());
+        assertTrue(cache.get("token-b").isEmpty());
+        assertTrue(cache.get("token-c").isPresent());
+    }
+
+    @Test
+    void testGet_DisabledCacheNeverHits() {
+        TokenValidationCache disabled = new TokenValidationCache(false, 100, Duration.ofMinutes(5), ticks::get);
+        disabled.put("token-a", "jti-a", "doctor", UserRole.DOCTOR, expiresIn(Duration.ofHours(1)));
+
+        assertTrue(disabled.get("token-a").isEmpty());
+    }
+
+    private long expiresIn(Duration duration) {
+        return System.currentTimeMillis() + duration.toMillis();
+    }
+
+    private void advance(Duration duration) {
+        ticks.addAndGet(TimeUnit.NANOSECONDS.convert(duration));
+    }
+}
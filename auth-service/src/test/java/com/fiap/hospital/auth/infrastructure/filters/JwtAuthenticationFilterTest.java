@@ -0,0 +1,93 @@
+package com.fiap.hospital.auth.infrastructure.filters;
+
+import com.fiap.hospital.auth.domain.entities.User;
+import com.fiap.hospital.auth.domain.enums.UserRole;
+import com.fiap.hospital.auth.infrastructure.adapters.security.JwtPrincipal;
+import com.fiap.hospital.auth.infrastructure.adapters.security.JwtTokenAdapter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class JwtAuthenticationFilterTest {
+
+    @Autowired
+    private JwtAuthenticationFilter filter;
+
+    @Autowired
+    private JwtTokenAdapter jwtTokenAdapter;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testDoFilter_AuthenticatesFromClaimsWithoutLoadingUser() throws Exception {
+        double before = userLookups();
+
+        Authentication authentication = filter("/api/auth/logout", "Bearer " + token(UserRole.DOCTOR));
+
+        assertInstanceOf(JwtPrincipal.class, authentication.getPrincipal());
+        assertEquals("ROLE_DOCTOR", authentication.getAuthorities().iterator().next().getAuthority());
+        assertEquals(before, userLookups());
+    }
+
+    @Test
+    void testDoFilter_InvalidTokenNeverReachesDatabase() throws Exception {
+        double before = userLookups();
+
+        Authentication authentication = filter("/api/auth/logout", "Bearer " + token(UserRole.DOCTOR) + "x");
+
+        assertNull(authentication);
+        assertEquals(before, userLookups());
+    }
+
+    @Test
+    void testDoFilter_LoadsUserOnOptInPaths() throws Exception {
+        double before = userLookups();
+
+        Authentication authentication = filter("/api/auth/admin/revoke", "Bearer " + token(UserRole.DOCTOR));
+
+        // The stored user is what gets authorized there, and this one does not exist
+        assertNull(authentication);
+        assertEquals(before + 1, userLookups());
+    }
+
+    private Authentication filter(String path, String authorizationHeader) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", path);
+        request.setServletPath(path);
+        request.addHeader("Authorization", authorizationHeader);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    private String token(UserRole role) {
+        return jwtTokenAdapter.generateToken(User.builder()
+                .id(99L)
+                .username("filter_unknown_user")
+                .role(role)
+                .build());
+    }
+
+    private double userLookups() {
+        return meterRegistry.find("auth.filter.user.lookups").counters().stream()
+                .mapToDouble(Counter::count)
+                .sum();
+    }
+}
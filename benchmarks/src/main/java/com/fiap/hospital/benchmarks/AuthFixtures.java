@@ -0,0 +1,127 @@
+package com.fiap.hospital.benchmarks;
+
+import com.fiap.hospital.auth.domain.entities.User;
+import com.fiap.hospital.auth.domain.enums.UserRole;
+import com.fiap.hospital.auth.domain.ports.persistence.RevokedTokenRepositoryPort;
+import com.fiap.hospital.auth.domain.ports.persistence.UserRepositoryPort;
+import com.fiap.hospital.auth.infrastructure.adapters.security.JwtKeyProvider;
+import com.fiap.hospital.auth.infrastructure.adapters.security.JwtTokenAdapter;
+import com.fiap.hospital.auth.infrastructure.adapters.security.TokenRevocationList;
+import com.fiap.hospital.auth.infrastructure.config.JwtConfiguration;
+import com.fiap.hospital.auth.infrastructure.config.PasswordEncoderConfiguration;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Builds the auth-service components outside of a Spring context, with the same settings as application.yml.
+ */
+final class AuthFixtures {
+
+    static final String SECRET = "thisissupersecretkeyandshouldbeatleast32bytes";
+    static final long EXPIRATION = 86400000L;
+
+    private AuthFixtures() {
+    }
+
+    static JwtConfiguration jwtConfiguration() {
+        JwtConfiguration configuration = new JwtConfiguration();
+        ReflectionTestUtils.setField(configuration, "secret", SECRET);
+        ReflectionTestUtils.setField(configuration, "accessTokenExpirationMinutes", 15L);
+        ReflectionTestUtils.setField(configuration, "signingAlgorithm", "HS256");
+        ReflectionTestUtils.setField(configuration, "keyStoreType", "PKCS12");
+        ReflectionTestUtils.setField(configuration, "acceptHmac", true);
+        return configuration;
+    }
+
+    static PasswordEncoderConfiguration passwordEncoderConfiguration(String encoder) {
+        PasswordEncoderConfiguration configuration = new PasswordEncoderConfiguration();
+        ReflectionTestUtils.setField(configuration, "encoder", encoder);
+        ReflectionTestUtils.setField(configuration, "bcryptStrength", 10);
+        ReflectionTestUtils.setField(configuration, "argon2MemoryKib", 19456);
+        ReflectionTestUtils.setField(configuration, "argon2Iterations", 2);
+        ReflectionTestUtils.setField(configuration, "argon2Parallelism", 1);
+        ReflectionTestUtils.setField(configuration, "pbkdf2Iterations", 600000);
+        return configuration;
+    }
+
+    static JwtTokenAdapter jwtTokenAdapter() {
+        JwtConfiguration configuration = jwtConfiguration();
+        return new JwtTokenAdapter(configuration, new JwtKeyProvider(configuration));
+    }
+
+    static User user(long id, String username, UserRole role) {
+        return User.builder()
+                .id(id)
+                .username(username)
+                .name(username)
+                .password("password")
+                .role(role)
+                .build();
+    }
+
+    /**
+     * Subject-only token, as issued before the role claim existed, which still needs a user lookup.
+     */
+    static String legacyToken(String username) {
+        return Jwts.builder()
+                .setSubject(username)
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + EXPIRATION))
+                .signWith(Keys.hmacShaKeyFor(SECRET.substring(0, 32).getBytes(StandardCharsets.UTF_8)))
+                .compact();
+    }
+
+    /**
+     * Repository answering the lookups used on the validation paths from a map; any other call fails.
+     */
+    static UserRepositoryPort inMemoryUserRepository(User... users) {
+        Map<String, User> byUsername = List.of(users).stream()
+                .collect(Collectors.toMap(User::getUsername, Function.identity()));
+        return (UserRepositoryPort) Proxy.newProxyInstance(
+                UserRepositoryPort.class.getClassLoader(),
+                new Class<?>[]{UserRepositoryPort.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findByUsername" -> Optional.ofNullable(byUsername.get((String) args[0]));
+                    case "existsByUsername" -> byUsername.containsKey((String) args[0]);
+                    case "findByUsernameIn" -> ((Collection<?>) args[0]).stream()
+                            .map(byUsername::get)
+                            .filter(user -> user != null)
+                            .toList();
+                    case "toString" -> "InMemoryUserRepository";
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    /**
+     * Revocation list whose repository accepts writes and has nothing to load.
+     */
+    static TokenRevocationList revocationList() {
+        RevokedTokenRepositoryPort repository = (RevokedTokenRepositoryPort) Proxy.newProxyInstance(
+                RevokedTokenRepositoryPort.class.getClassLoader(),
+                new Class<?>[]{RevokedTokenRepositoryPort.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "save" -> args[0];
+                    case "findByRevokedAtGreaterThanEqualAndExpiresAtAfter" -> List.of();
+                    case "deleteExpired" -> 0;
+                    case "toString" -> "InMemoryRevokedTokenRepository";
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+        return new TokenRevocationList(repository, 100_000, 0.01, Duration.ofMinutes(1));
+    }
+}
@@ -0,0 +1,101 @@
+package com.fiap.hospital.benchmarks;
+
+import com.fiap.hospital.appointment.domain.entities.BookedPeriod;
+import com.fiap.hospital.appointment.domain.entities.Doctor;
+import com.fiap.hospital.appointment.infrastructure.adapters.availability.AvailabilityIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Availability search over a hospital-sized index: doctors spread over 25 specialties, 15 minute slots from
+ * 08:00 to 18:00 over four weeks, with {@code bookedPercent} of the slots taken at random.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AvailabilityIndexBenchmark {
+
+    private static final int SPECIALTIES = 25;
+    private static final int HORIZON_DAYS = 28;
+    private static final Duration SLOT = Duration.ofMinutes(15);
+
+    @Param({"1000", "5000"})
+    public int doctors;
+
+    @Param({"70", "95"})
+    public int bookedPercent;
+
+    private AvailabilityIndex index;
+    private LocalDate firstDay;
+    private SplittableRandom random;
+
+    @Setup
+    public void setUp() {
+        index = new AvailabilityIndex(LocalTime.of(8, 0), LocalTime.of(18, 0), SLOT, HORIZON_DAYS);
+        firstDay = LocalDate.now();
+        random = new SplittableRandom(42);
+
+        List<Doctor> doctorList = new ArrayList<>(doctors);
+        List<BookedPeriod> booked = new ArrayList<>();
+        for (long id = 1; id <= doctors; id++) {
+            doctorList.add(Doctor.builder().id(id).name("Doctor " + id).specialty("specialty-" + id % SPECIALTIES).build());
+            for (int day = 0; day < HORIZON_DAYS; day++) {
+                LocalDateTime slot = firstDay.plusDays(day).atTime(8, 0);
+                for (int i = 0; i < 40; i++, slot = slot.plus(SLOT)) {
+                    if (random.nextInt(100) < bookedPercent) {
+                        booked.add(new BookedPeriod(id, slot, slot.plus(SLOT)));
+                    }
+                }
+            }
+        }
+        index.replace(index.build(firstDay, doctorList, booked));
+    }
+
+    /**
+     * The patient-facing search: the next free slot of every doctor of a specialty over the coming week.
+     */
+    @Benchmark
+    public List<AvailabilityIndex.AvailableSlot> searchNextWeek() {
+        return index.findFirstAvailable("specialty-" + random.nextInt(SPECIALTIES),
+                firstDay.atTime(8, 0), firstDay.plusDays(7).atStartOfDay(), 20);
+    }
+
+    @Benchmark
+    public List<AvailabilityIndex.AvailableSlot> searchWholeHorizon() {
+        return index.findFirstAvailable("specialty-" + random.nextInt(SPECIALTIES),
+                firstDay.atTime(8, 0), firstDay.plusDays(HORIZON_DAYS).atStartOfDay(), 20);
+    }
+
+    /**
+     * A booking followed by its cancellation, the incremental work done for each committed change.
+     */
+    @Benchmark
+    public void bookAndCancel() {
+        long doctorId = 1 + random.nextInt(doctors);
+        LocalDateTime startTime = firstDay.plusDays(random.nextInt(HORIZON_DAYS)).atTime(8, 0)
+                .plus(SLOT.multipliedBy(random.nextInt(40)));
+        index.markBooked(doctorId, startTime, startTime.plus(SLOT));
+        index.markFree(doctorId, startTime, startTime.plus(SLOT), List.of());
+    }
+}
@@ -0,0 +1,98 @@
+package com.fiap.hospital.benchmarks;
+
+import com.fiap.hospital.auth.domain.entities.User;
+import com.fiap.hospital.auth.domain.enums.UserRole;
+import com.fiap.hospital.auth.infrastructure.adapters.grpc.AuthGrpcAdapter;
+import com.fiap.hospital.auth.infrastructure.adapters.grpc.ValidationLogger;
+import com.fiap.hospital.auth.infrastructure.adapters.metrics.AuthMetrics;
+import com.fiap.hospital.auth.infrastructure.adapters.persistence.DatabaseConcurrencyLimiter;
+import com.fiap.hospital.auth.infrastructure.adapters.security.JwtTokenAdapter;
+import com.fiap.hospital.auth.infrastructure.adapters.security.TokenValidationCache;
+import com.fiap.hospital.auth.proto.TokenValidationRequest;
+import com.fiap.hospital.auth.proto.TokenValidationResponse;
+import io.grpc.stub.StreamObserver;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unary token validation as the gRPC service runs it, minus the transport, against an in-memory repository.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GrpcValidationBenchmark {
+
+    /**
+     * {@code legacy} tokens only carry the subject and need a user lookup, {@code embedded} tokens carry the role.
+     */
+    @Param({"embedded", "legacy"})
+    public String tokenFormat;
+
+    @Param({"true", "false"})
+    public boolean cacheEnabled;
+
+    private AuthGrpcAdapter authGrpcAdapter;
+    private TokenValidationRequest request;
+
+    @Setup
+    public void setUp() {
+        User user = AuthFixtures.user(1L, "benchmark_user", UserRole.DOCTOR);
+        JwtTokenAdapter jwtTokenAdapter = AuthFixtures.jwtTokenAdapter();
+        authGrpcAdapter = new AuthGrpcAdapter(
+                jwtTokenAdapter,
+                AuthFixtures.inMemoryUserRepository(user),
+                new TokenValidationCache(cacheEnabled, 10_000, Duration.ofMinutes(5)),
+                AuthFixtures.revocationList(),
+                new DatabaseConcurrencyLimiter(10, Duration.ofSeconds(2)),
+                new ValidationLogger(0.01, 10),
+                new AuthMetrics(new SimpleMeterRegistry()),
+                1000);
+
+        String token = "legacy".equals(tokenFormat)
+                ? AuthFixtures.legacyToken(user.getUsername())
+                : jwtTokenAdapter.generateToken(user);
+        request = TokenValidationRequest.newBuilder().setToken(token).build();
+    }
+
+    @Benchmark
+    public TokenValidationResponse validateTokenAndGetRole() {
+        ResponseCapture responseObserver = new ResponseCapture();
+        authGrpcAdapter.validateTokenAndGetRole(request, responseObserver);
+        return responseObserver.response;
+    }
+
+    private static final class ResponseCapture implements StreamObserver<TokenValidationResponse> {
+
+        private TokenValidationResponse response;
+
+        @Override
+        public void onNext(TokenValidationResponse value) {
+            response = value;
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            throw new IllegalStateException(t);
+        }
+
+        @Override
+        public void onCompleted() {
+        }
+    }
+}
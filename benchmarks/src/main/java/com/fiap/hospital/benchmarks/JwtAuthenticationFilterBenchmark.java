@@ -0,0 +1,96 @@
+package com.fiap.hospital.benchmarks;
+
+import com.fiap.hospital.auth.domain.entities.User;
+import com.fiap.hospital.auth.domain.enums.UserRole;
+import com.fiap.hospital.auth.infrastructure.adapters.metrics.AuthMetrics;
+import com.fiap.hospital.auth.infrastructure.adapters.security.JwtTokenAdapter;
+import com.fiap.hospital.auth.infrastructure.adapters.security.UserDetailsAdapter;
+import com.fiap.hospital.auth.infrastructure.filters.JwtAuthenticationFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One pass of the servlet filter per request, with a fresh security context like Spring Security gives each request.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtAuthenticationFilterBenchmark {
+
+    @Param({"embedded", "legacy", "none"})
+    public String tokenFormat;
+
+    /**
+     * The admin path is listed in {@code auth.filter.user-lookup-paths}, so it always loads the user.
+     */
+    @Param({"/api/auth/logout", "/api/auth/admin/revoke"})
+    public String path;
+
+    private JwtAuthenticationFilter filter;
+    private String authorizationHeader;
+
+    @Setup
+    public void setUp() {
+        User user = AuthFixtures.user(1L, "benchmark_user", UserRole.PATIENT);
+        JwtTokenAdapter jwtTokenAdapter = AuthFixtures.jwtTokenAdapter();
+
+        filter = new JwtAuthenticationFilter();
+        ReflectionTestUtils.setField(filter, "jwtService", jwtTokenAdapter);
+        ReflectionTestUtils.setField(filter, "userDetailsService",
+                new UserDetailsAdapter(AuthFixtures.inMemoryUserRepository(user)));
+        ReflectionTestUtils.setField(filter, "metrics", new AuthMetrics(new SimpleMeterRegistry()));
+        ReflectionTestUtils.setField(filter, "revocationList", AuthFixtures.revocationList());
+        filter.setUserLookupPaths(List.of("/api/auth/admin/**"));
+
+        authorizationHeader = switch (tokenFormat) {
+            case "embedded" -> "Bearer " + jwtTokenAdapter.generateToken(user);
+            case "legacy" -> "Bearer " + AuthFixtures.legacyToken(user.getUsername());
+            default -> null;
+        };
+    }
+
+    @Benchmark
+    public Authentication doFilter() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", path);
+        request.setServletPath(path);
+        if (authorizationHeader != null) {
+            request.addHeader("Authorization", authorizationHeader);
+        }
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+}
@@ -0,0 +1,58 @@
+package com.fiap.hospital.benchmarks;
+
+import com.fiap.hospital.auth.domain.entities.User;
+import com.fiap.hospital.auth.domain.enums.UserRole;
+import com.fiap.hospital.auth.infrastructure.adapters.security.JwtTokenAdapter;
+import com.fiap.hospital.auth.infrastructure.adapters.security.VerifiedToken;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtTokenBenchmark {
+
+    private JwtTokenAdapter jwtTokenAdapter;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtTokenAdapter = AuthFixtures.jwtTokenAdapter();
+        user = AuthFixtures.user(1L, "benchmark_user", UserRole.DOCTOR);
+        token = jwtTokenAdapter.generateToken(user);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtTokenAdapter.generateToken(user);
+    }
+
+    @Benchmark
+    public Boolean validateToken() {
+        return jwtTokenAdapter.validateToken(token, "benchmark_user");
+    }
+
+    @Benchmark
+    public String extractUsername() {
+        return jwtTokenAdapter.extractUsername(token);
+    }
+
+    @Benchmark
+    public VerifiedToken verify() {
+        return jwtTokenAdapter.verify(token);
+    }
+}
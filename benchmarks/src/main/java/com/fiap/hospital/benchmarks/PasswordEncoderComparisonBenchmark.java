@@ -0,0 +1,51 @@
+package com.fiap.hospital.benchmarks;
+
+import com.fiap.hospital.auth.infrastructure.adapters.security.PasswordEncoderFactory;
+import com.fiap.hospital.auth.infrastructure.config.PasswordEncoderConfiguration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-login cost of each supported encoder with the defaults from application.yml. Hashing is single-threaded,
+ * so the average time is the CPU time a login spends on the password, and the GC profiler shows Argon2's memory cost.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PasswordEncoderComparisonBenchmark {
+
+    private static final String PASSWORD = "S3cure-Passw0rd!";
+
+    @Param({PasswordEncoderFactory.BCRYPT, PasswordEncoderFactory.ARGON2, PasswordEncoderFactory.PBKDF2})
+    public String encoder;
+
+    private PasswordEncoder passwordEncoder;
+    private String encodedPassword;
+
+    @Setup
+    public void setUp() {
+        PasswordEncoderConfiguration configuration = AuthFixtures.passwordEncoderConfiguration(encoder);
+        passwordEncoder = PasswordEncoderFactory.create(configuration);
+        encodedPassword = passwordEncoder.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return passwordEncoder.matches(PASSWORD, encodedPassword);
+    }
+}
@@ -0,0 +1,58 @@
+package com.fiap.hospital.benchmarks;
+
+import com.fiap.hospital.auth.infrastructure.adapters.security.TokenRevocationList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TokenRevocationBenchmark {
+
+    @Param({"0", "10000", "100000"})
+    public int revokedTokens;
+
+    private TokenRevocationList revocationList;
+    private String activeTokenId;
+    private String revokedTokenId;
+
+    @Setup
+    public void setUp() {
+        revocationList = AuthFixtures.revocationList();
+        Date expiresAt = new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1));
+        for (int i = 0; i < revokedTokens; i++) {
+            revokedTokenId = UUID.randomUUID().toString();
+            revocationList.revoke(revokedTokenId, "benchmark_user", expiresAt);
+        }
+        activeTokenId = UUID.randomUUID().toString();
+    }
+
+    /**
+     * The common case: a token that was never revoked, answered by the bloom filter alone.
+     */
+    @Benchmark
+    public boolean activeToken() {
+        return revocationList.isRevoked(activeTokenId);
+    }
+
+    @Benchmark
+    public boolean revokedToken() {
+        return revokedTokenId != null && revocationList.isRevoked(revokedTokenId);
+    }
+}
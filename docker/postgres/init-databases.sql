@@ -0,0 +1,3 @@
+-- Runs once, when the postgres volume is created. hospital_auth is created by POSTGRES_DB.
+CREATE DATABASE hospital_appointment;
+CREATE DATABASE hospital_notification;
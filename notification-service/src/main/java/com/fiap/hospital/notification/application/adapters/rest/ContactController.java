@@ -0,0 +1,90 @@
+package com.fiap.hospital.notification.application.adapters.rest;
+
+import com.fiap.hospital.notification.application.dto.ContactRequestDTO;
+import com.fiap.hospital.notification.application.dto.ContactResponseDTO;
+import com.fiap.hospital.notification.application.exception.ApiError;
+import com.fiap.hospital.notification.domain.ports.contact.ContactPort;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/contacts")
+@RequiredArgsConstructor
+@Tag(name = "Contacts", description = "Where patients are notified of their appointments")
+public class ContactController {
+
+    private final ContactPort contactService;
+
+    @PutMapping("/{patientId}")
+    @Operation(
+        summary = "Save contact",
+        description = "Create or replace the contact of a patient, identified by the id of their user in the auth-service. "
+            + "Only the patient and admins may call it"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Contact saved successfully",
+            content = @Content(schema = @Schema(implementation = ContactResponseDTO.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid request parameters",
+            content = @Content(schema = @Schema(implementation = ApiError.class))
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Missing or invalid token"
+        ),
+        @ApiResponse(
+            responseCode = "403",
+            description = "Token of another patient"
+        )
+    })
+    public ResponseEntity<ContactResponseDTO> save(
+            @PathVariable("patientId") Long patientId,
+            @Parameter(description = "Contact information", required = true)
+            @Valid @RequestBody ContactRequestDTO contactRequest) {
+        return ResponseEntity.ok(ContactResponseDTO.from(contactService.save(patientId, contactRequest)));
+    }
+
+    @GetMapping("/{patientId}")
+    @Operation(summary = "Get contact", description = "Get the contact of a patient. Only the patient and admins may call it")
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Contact of the patient",
+            content = @Content(schema = @Schema(implementation = ContactResponseDTO.class))
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Patient has no contact",
+            content = @Content(schema = @Schema(implementation = ApiError.class))
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Missing or invalid token"
+        ),
+        @ApiResponse(
+            responseCode = "403",
+            description = "Token of another patient"
+        )
+    })
+    public ResponseEntity<ContactResponseDTO> find(@PathVariable("patientId") Long patientId) {
+        return ResponseEntity.ok(ContactResponseDTO.from(contactService.find(patientId)));
+    }
+}
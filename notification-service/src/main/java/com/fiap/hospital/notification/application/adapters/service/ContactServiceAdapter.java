@@ -0,0 +1,33 @@
+package com.fiap.hospital.notification.application.adapters.service;
+
+import com.fiap.hospital.notification.application.dto.ContactRequestDTO;
+import com.fiap.hospital.notification.domain.entities.Contact;
+import com.fiap.hospital.notification.domain.ports.contact.ContactPort;
+import com.fiap.hospital.notification.domain.ports.persistence.ContactRepositoryPort;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class ContactServiceAdapter implements ContactPort {
+
+    private final ContactRepositoryPort contactRepository;
+
+    @Override
+    @Transactional
+    public Contact save(Long patientId, ContactRequestDTO contactRequest) {
+        Contact contact = contactRepository.findById(patientId)
+                .orElseGet(() -> Contact.builder().patientId(patientId).build());
+        contact.setName(contactRequest.getName());
+        contact.setEmail(contactRequest.getEmail().trim());
+        return contactRepository.save(contact);
+    }
+
+    @Override
+    public Contact find(Long patientId) {
+        return contactRepository.findById(patientId)
+                .orElseThrow(() -> new EntityNotFoundException("Contact not found: " + patientId));
+    }
+}
@@ -0,0 +1,94 @@
+package com.fiap.hospital.notification.application.adapters.service;
+
+import com.fiap.hospital.notification.domain.entities.Contact;
+import com.fiap.hospital.notification.domain.entities.Notification;
+import com.fiap.hospital.notification.domain.entities.ProcessedEvent;
+import com.fiap.hospital.notification.domain.events.AppointmentNotificationEvent;
+import com.fiap.hospital.notification.domain.ports.notification.NotificationPort;
+import com.fiap.hospital.notification.domain.ports.notification.NotificationSenderPort;
+import com.fiap.hospital.notification.domain.ports.persistence.ContactRepositoryPort;
+import com.fiap.hospital.notification.domain.ports.persistence.ProcessedEventRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Handles a batch of events with two queries, whatever its size: one for the events already processed and one
+ * for the contacts of the patients. An event is recorded as processed once its notification was handed over,
+ * so a redelivery is skipped; a crash between the two can still notify a patient twice, never lose a
+ * notification.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class NotificationServiceAdapter implements NotificationPort {
+
+    private final ProcessedEventRepositoryPort processedEventRepository;
+    private final ContactRepositoryPort contactRepository;
+    private final NotificationSenderPort notificationSender;
+
+    @Override
+    public Set<String> process(List<AppointmentNotificationEvent> events) {
+        Map<String, AppointmentNotificationEvent> pending = new LinkedHashMap<>();
+        events.forEach(event -> pending.putIfAbsent(event.eventId(), event));
+        if (pending.isEmpty()) {
+            return Set.of();
+        }
+        pending.keySet().removeAll(processedEventRepository.findProcessedIds(pending.keySet()));
+        if (pending.isEmpty()) {
+            return Set.of();
+        }
+
+        Set<Long> patientIds = pending.values().stream()
+                .map(AppointmentNotificationEvent::patientId)
+                .collect(Collectors.toSet());
+        Map<Long, Contact> contacts = contactRepository.findAllById(patientIds).stream()
+                .collect(Collectors.toMap(Contact::getPatientId, Function.identity()));
+
+        Set<String> failed = new HashSet<>();
+        List<ProcessedEvent> processed = new ArrayList<>(pending.size());
+        for (AppointmentNotificationEvent event : pending.values()) {
+            Contact contact = contacts.get(event.patientId());
+            if (contact == null) {
+                log.debug("Patient {} has no contact, skipping event {}", event.patientId(), event.eventId());
+            } else {
+                try {
+                    notificationSender.send(new Notification(event, contact));
+                } catch (RuntimeException e) {
+                    log.warn("Notification of event {} to patient {} failed: {}", event.eventId(), event.patientId(),
+                            e.getMessage());
+                    failed.add(event.eventId());
+                    continue;
+                }
+            }
+            processed.add(ProcessedEvent.builder().eventId(event.eventId()).build());
+        }
+        markProcessed(processed);
+        return failed;
+    }
+
+    private void markProcessed(List<ProcessedEvent> processed) {
+        try {
+            processedEventRepository.saveAll(processed);
+        } catch (DataIntegrityViolationException e) {
+            // Another consumer handled a redelivery of one of these events at the same time
+            for (ProcessedEvent event : processed) {
+                try {
+                    processedEventRepository.save(event);
+                } catch (DataIntegrityViolationException duplicate) {
+                    log.debug("Event {} already recorded as processed", event.getEventId());
+                }
+            }
+        }
+    }
+}
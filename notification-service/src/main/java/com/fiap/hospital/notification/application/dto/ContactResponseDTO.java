@@ -0,0 +1,21 @@
+package com.fiap.hospital.notification.application.dto;
+
+import com.fiap.hospital.notification.domain.entities.Contact;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContactResponseDTO {
+    private Long patientId;
+    private String name;
+    private String email;
+
+    public static ContactResponseDTO from(Contact contact) {
+        return new ContactResponseDTO(contact.getPatientId(), contact.getName(), contact.getEmail());
+    }
+}
@@ -0,0 +1,9 @@
+package com.fiap.hospital.notification.domain.entities;
+
+import com.fiap.hospital.notification.domain.events.AppointmentNotificationEvent;
+
+/**
+ * A notification ready to be delivered: the event it is sent for and the patient it goes to.
+ */
+public record Notification(AppointmentNotificationEvent event, Contact recipient) {
+}
@@ -0,0 +1,29 @@
+package com.fiap.hospital.notification.domain.enums;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * What a notification is about, keyed by the event type (and routing key) it is sent for.
+ */
+public enum NotificationType {
+    APPOINTMENT_BOOKED("appointment.booked"),
+    APPOINTMENT_CANCELLED("appointment.cancelled"),
+    APPOINTMENT_REMINDER("appointment.reminder");
+
+    private final String eventType;
+
+    NotificationType(String eventType) {
+        this.eventType = eventType;
+    }
+
+    public String getEventType() {
+        return eventType;
+    }
+
+    public static Optional<NotificationType> fromEventType(String eventType) {
+        return Arrays.stream(values())
+                .filter(type -> type.eventType.equals(eventType))
+                .findFirst();
+    }
+}
@@ -0,0 +1,13 @@
+package com.fiap.hospital.notification.domain.events;
+
+import com.fiap.hospital.notification.domain.enums.NotificationType;
+
+import java.time.LocalDateTime;
+
+/**
+ * An appointment event to notify the patient of. {@code eventId} is the message id given by the publisher and
+ * is the same on every redelivery of the event.
+ */
+public record AppointmentNotificationEvent(String eventId, NotificationType type, Long appointmentId, Long doctorId,
+                                           Long patientId, LocalDateTime startTime, LocalDateTime endTime) {
+}
@@ -0,0 +1,11 @@
+package com.fiap.hospital.notification.domain.ports.contact;
+
+import com.fiap.hospital.notification.application.dto.ContactRequestDTO;
+import com.fiap.hospital.notification.domain.entities.Contact;
+
+public interface ContactPort {
+
+    Contact save(Long patientId, ContactRequestDTO contactRequest);
+
+    Contact find(Long patientId);
+}
@@ -0,0 +1,16 @@
+package com.fiap.hospital.notification.domain.ports.notification;
+
+import com.fiap.hospital.notification.domain.events.AppointmentNotificationEvent;
+
+import java.util.List;
+import java.util.Set;
+
+public interface NotificationPort {
+
+    /**
+     * Notifies the patients of a batch of events, skipping events already handled.
+     *
+     * @return the ids of the events whose notification failed and should be retried
+     */
+    Set<String> process(List<AppointmentNotificationEvent> events);
+}
@@ -0,0 +1,11 @@
+package com.fiap.hospital.notification.domain.ports.notification;
+
+import com.fiap.hospital.notification.domain.entities.Notification;
+
+public interface NotificationSenderPort {
+
+    /**
+     * Delivers the notification, throwing if it could not be handed over.
+     */
+    void send(Notification notification);
+}
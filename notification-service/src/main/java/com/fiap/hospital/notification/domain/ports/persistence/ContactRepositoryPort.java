@@ -0,0 +1,9 @@
+package com.fiap.hospital.notification.domain.ports.persistence;
+
+import com.fiap.hospital.notification.domain.entities.Contact;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ContactRepositoryPort extends JpaRepository<Contact, Long> {
+}
@@ -0,0 +1,25 @@
+package com.fiap.hospital.notification.domain.ports.persistence;
+
+import com.fiap.hospital.notification.domain.entities.ProcessedEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Set;
+
+@Repository
+public interface ProcessedEventRepositoryPort extends JpaRepository<ProcessedEvent, String> {
+
+    @Query("SELECT e.eventId FROM ProcessedEvent e WHERE e.eventId IN :eventIds")
+    Set<String> findProcessedIds(@Param("eventIds") Collection<String> eventIds);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM ProcessedEvent e WHERE e.processedAt < :before")
+    int deleteProcessedBefore(@Param("before") LocalDateTime before);
+}
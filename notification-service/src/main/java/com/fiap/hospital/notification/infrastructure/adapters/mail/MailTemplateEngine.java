@@ -0,0 +1,198 @@
+package com.fiap.hospital.notification.infrastructure.adapters.mail;
+
+import com.fiap.hospital.notification.domain.entities.Notification;
+import com.fiap.hospital.notification.domain.events.AppointmentNotificationEvent;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Mail templates read from {@code notification.mail.templates}, one {@code <event type>.txt} file per
+ * notification type: {@code version:} and {@code subject:} header lines, a blank line, then the body.
+ * Subject and body may use the {@link #VARIABLES} as {@code {{name}}}; a value the event does not carry is
+ * rendered empty.
+ * <p>
+ * A template is parsed into literal and variable segments once per version, so rendering only concatenates.
+ * The files are read again every {@code templates-refresh-interval}; a changed file is compiled only if its
+ * version changed, and a file that does not compile is reported and the previous version kept.
+ */
+@Component
+@Slf4j
+public class MailTemplateEngine {
+
+    static final Set<String> VARIABLES = Set.of("name", "date", "time", "startTime", "endTime", "appointmentId",
+            "doctorId");
+
+    private static final DateTimeFormatter DATE = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+    private static final DateTimeFormatter TIME = DateTimeFormatter.ofPattern("HH:mm");
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
+
+    private final ResourcePatternResolver resolver;
+    private final String location;
+    private final Map<String, CompiledTemplate> compiled = new ConcurrentHashMap<>();
+    private volatile Map<String, CompiledTemplate> current = Map.of();
+
+    public MailTemplateEngine(@Value("${notification.mail.templates:classpath:mail-templates/}") String location) {
+        this.resolver = new PathMatchingResourcePatternResolver();
+        this.location = location.endsWith("/") ? location : location + "/";
+    }
+
+    @PostConstruct
+    void load() {
+        try {
+            reload();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Mail templates could not be read from " + location, e);
+        }
+        log.info("Mail templates loaded: {}", current.keySet());
+    }
+
+    @Scheduled(fixedDelayString = "${notification.mail.templates-refresh-interval:PT1M}",
+            initialDelayString = "${notification.mail.templates-refresh-interval:PT1M}")
+    public void refresh() {
+        try {
+            reload();
+        } catch (IOException e) {
+            log.warn("Mail templates could not be read from {}, keeping the loaded ones: {}", location, e.getMessage());
+        }
+    }
+
+    /**
+     * Reads the template files, compiling those of a version not seen before.
+     */
+    public synchronized void reload() throws IOException {
+        Map<String, CompiledTemplate> loaded = new HashMap<>();
+        for (Resource resource : resolver.getResources(location + "*.txt")) {
+            String name = resource.getFilename().substring(0, resource.getFilename().length() - ".txt".length());
+            CompiledTemplate previous = current.get(name);
+            try {
+                CompiledTemplate template = read(name, resource.getContentAsString(StandardCharsets.UTF_8));
+                loaded.put(name, template);
+                if (previous != null && previous.version() != template.version()) {
+                    log.info("Mail template {} updated from version {} to {}", name, previous.version(),
+                            template.version());
+                }
+            } catch (IllegalArgumentException e) {
+                if (previous == null) {
+                    throw new IllegalStateException(e.getMessage(), e);
+                }
+                log.warn("{}, keeping version {}", e.getMessage(), previous.version());
+                loaded.put(name, previous);
+            }
+        }
+        current = Map.copyOf(loaded);
+    }
+
+    public RenderedMail render(Notification notification) {
+        AppointmentNotificationEvent event = notification.event();
+        CompiledTemplate template = current.get(event.type().getEventType());
+        if (template == null) {
+            throw new IllegalStateException("No mail template for " + event.type().getEventType());
+        }
+        // Only the patient and the start time are required of an event; anything else may be missing
+        Map<String, String> variables = new HashMap<>();
+        variables.put("name", valueOf(notification.recipient().getName()));
+        variables.put("date", DATE.format(event.startTime()));
+        variables.put("time", TIME.format(event.startTime()));
+        variables.put("startTime", DATE_TIME.format(event.startTime()));
+        variables.put("endTime", event.endTime() == null ? "" : DATE_TIME.format(event.endTime()));
+        variables.put("appointmentId", valueOf(event.appointmentId()));
+        variables.put("doctorId", valueOf(event.doctorId()));
+        return new RenderedMail(template.subject().render(variables), template.body().render(variables));
+    }
+
+    private static String valueOf(Object value) {
+        return value == null ? "" : value.toString();
+    }
+
+    int version(String name) {
+        CompiledTemplate template = current.get(name);
+        return template == null ? -1 : template.version();
+    }
+
+    private CompiledTemplate read(String name, String source) {
+        String normalized = source.replace("\r\n", "\n");
+        int headerEnd = normalized.indexOf("\n\n");
+        if (headerEnd < 0) {
+            throw new IllegalArgumentException("Mail template " + name + " has no blank line after its header");
+        }
+        Map<String, String> header = new HashMap<>();
+        for (String line : normalized.substring(0, headerEnd).split("\n")) {
+            int colon = line.indexOf(':');
+            if (colon > 0) {
+                header.put(line.substring(0, colon).trim(), line.substring(colon + 1).trim());
+            }
+        }
+        int version;
+        try {
+            version = Integer.parseInt(header.getOrDefault("version", ""));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Mail template " + name + " has no numeric version");
+        }
+        String subject = header.get("subject");
+        if (subject == null || subject.isEmpty()) {
+            throw new IllegalArgumentException("Mail template " + name + " has no subject");
+        }
+        String body = normalized.substring(headerEnd + 2);
+        return compiled.computeIfAbsent(name + "@" + version,
+                key -> new CompiledTemplate(version, compile(name, subject), compile(name, body)));
+    }
+
+    private static Segments compile(String name, String text) {
+        List<String> literals = new ArrayList<>();
+        List<String> variables = new ArrayList<>();
+        int position = 0;
+        int open;
+        while ((open = text.indexOf("{{", position)) >= 0) {
+            int close = text.indexOf("}}", open);
+            if (close < 0) {
+                throw new IllegalArgumentException("Mail template " + name + " has an unclosed {{");
+            }
+            String variable = text.substring(open + 2, close).trim();
+            if (!VARIABLES.contains(variable)) {
+                throw new IllegalArgumentException("Mail template " + name + " uses unknown variable " + variable);
+            }
+            literals.add(text.substring(position, open));
+            variables.add(variable);
+            position = close + 2;
+        }
+        literals.add(text.substring(position));
+        return new Segments(literals.toArray(String[]::new), variables.toArray(String[]::new), text.length());
+    }
+
+    public record RenderedMail(String subject, String body) {
+    }
+
+    private record CompiledTemplate(int version, Segments subject, Segments body) {
+    }
+
+    /**
+     * Literal text with a variable between each two literals.
+     */
+    private record Segments(String[] literals, String[] variables, int sizeHint) {
+
+        String render(Map<String, String> values) {
+            StringBuilder text = new StringBuilder(sizeHint + 16 * variables.length);
+            for (int i = 0; i < variables.length; i++) {
+                text.append(literals[i]).append(values.get(variables[i]));
+            }
+            return text.append(literals[variables.length]).toString();
+        }
+    }
+}
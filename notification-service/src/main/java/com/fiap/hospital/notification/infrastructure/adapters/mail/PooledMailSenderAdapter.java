@@ -0,0 +1,131 @@
+package com.fiap.hospital.notification.infrastructure.adapters.mail;
+
+import com.fiap.hospital.notification.domain.entities.Notification;
+import com.fiap.hospital.notification.domain.ports.notification.NotificationSenderPort;
+import jakarta.mail.Message;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Session;
+import jakarta.mail.internet.AddressException;
+import jakarta.mail.internet.InternetAddress;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailSendException;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends notifications through the relays of {@code notification.mail.relays}, each with its own pool of
+ * persistent connections and its own rate limit. Relays take turns; a relay that is down, refuses the message
+ * (421 closing, 451 rate limited, ...), or whose rate limit or connections stay exhausted for
+ * {@code acquire-timeout}, is skipped for the next one. A recipient the relay rejects fails the notification
+ * without trying the others.
+ */
+@Component
+@Slf4j
+public class PooledMailSenderAdapter implements NotificationSenderPort, DisposableBean {
+
+    private final MailTemplateEngine templates;
+    private final List<Relay> relays = new ArrayList<>();
+    private final Session session = Session.getInstance(new Properties());
+    private final InternetAddress from;
+    private final Duration acquireTimeout;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public PooledMailSenderAdapter(MailTemplateEngine templates,
+                                   @Value("${notification.mail.relays:localhost:25}") List<String> relays,
+                                   @Value("${notification.mail.username:}") String username,
+                                   @Value("${notification.mail.password:}") String password,
+                                   @Value("${notification.mail.starttls:false}") boolean startTls,
+                                   @Value("${notification.mail.pool-size:4}") int poolSize,
+                                   @Value("${notification.mail.messages-per-connection:500}") int messagesPerConnection,
+                                   @Value("${notification.mail.max-idle:60s}") Duration maxIdle,
+                                   @Value("${notification.mail.rate:50}") double rate,
+                                   @Value("${notification.mail.burst:50}") int burst,
+                                   @Value("${notification.mail.acquire-timeout:30s}") Duration acquireTimeout,
+                                   @Value("${notification.mail.connect-timeout:10s}") Duration connectTimeout,
+                                   @Value("${notification.mail.timeout:30s}") Duration timeout,
+                                   @Value("${notification.mail.from:no-reply@hospital.local}") String from)
+            throws AddressException {
+        this.templates = templates;
+        this.from = new InternetAddress(from, true);
+        this.acquireTimeout = acquireTimeout;
+        for (String relay : relays) {
+            int colon = relay.lastIndexOf(':');
+            String host = colon < 0 ? relay.trim() : relay.substring(0, colon).trim();
+            int port = colon < 0 ? 25 : Integer.parseInt(relay.substring(colon + 1).trim());
+            this.relays.add(new Relay(new TokenBucket(rate, burst), new SmtpTransportPool(host, port, username,
+                    password, startTls, poolSize, messagesPerConnection, maxIdle, connectTimeout, timeout)));
+        }
+        if (this.relays.isEmpty()) {
+            throw new IllegalArgumentException("notification.mail.relays is empty");
+        }
+    }
+
+    @Override
+    public void send(Notification notification) {
+        MailTemplateEngine.RenderedMail mail = templates.render(notification);
+        MimeMessage message;
+        try {
+            message = new MimeMessage(session);
+            message.setFrom(from);
+            message.setRecipient(Message.RecipientType.TO, new InternetAddress(notification.recipient().getEmail()));
+            message.setSubject(mail.subject(), StandardCharsets.UTF_8.name());
+            message.setText(mail.body(), StandardCharsets.UTF_8.name());
+            message.setSentDate(new Date());
+            message.setHeader("X-Event-Id", notification.event().eventId());
+            message.saveChanges();
+        } catch (MessagingException e) {
+            throw new MailSendException("Mail for event " + notification.event().eventId() + " could not be built", e);
+        }
+
+        int first = Math.floorMod(next.getAndIncrement(), relays.size());
+        MessagingException failure = null;
+        for (int i = 0; i < relays.size(); i++) {
+            Relay relay = relays.get((first + i) % relays.size());
+            try {
+                if (!relay.rateLimit().tryAcquire(acquireTimeout)) {
+                    failure = new MessagingException("Rate limit of " + relay.pool().relay() + " exhausted for "
+                            + acquireTimeout);
+                    continue;
+                }
+                relay.pool().send(message, acquireTimeout);
+                return;
+            } catch (MessagingException e) {
+                if (SmtpTransportPool.isRecipientRejected(e)) {
+                    throw new MailSendException("Relay " + relay.pool().relay() + " rejected the recipient of event "
+                            + notification.event().eventId(), e);
+                }
+                log.warn("Relay {} failed: {}", relay.pool().relay(), e.getMessage());
+                failure = e;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new MailSendException("Interrupted sending the mail for event " + notification.event().eventId(), e);
+            }
+        }
+        throw new MailSendException("No relay took the mail for event " + notification.event().eventId(), failure);
+    }
+
+    /**
+     * Connections opened so far, across every relay.
+     */
+    public long connectionsOpened() {
+        return relays.stream().mapToLong(relay -> relay.pool().connectionsOpened()).sum();
+    }
+
+    @Override
+    public void destroy() {
+        relays.forEach(relay -> relay.pool().close());
+    }
+
+    private record Relay(TokenBucket rateLimit, SmtpTransportPool pool) {
+    }
+}
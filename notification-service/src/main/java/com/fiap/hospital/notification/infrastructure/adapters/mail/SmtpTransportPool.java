@@ -0,0 +1,185 @@
+package com.fiap.hospital.notification.infrastructure.adapters.mail;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.Session;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Properties;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Up to {@code size} SMTP connections to one relay, kept open between messages so the connect, TLS and
+ * authentication handshakes are paid once per connection rather than once per message. A connection is
+ * replaced after {@code messagesPerConnection} messages, as relays cap them, or when it was idle longer than
+ * {@code maxIdle}, as relays drop idle clients. A kept connection the relay closed anyway is detected by the
+ * failed send, which is retried once on a new connection. A connection is only kept after a failed send when
+ * the relay refused the recipients, see {@link #isRecipientRejected}.
+ */
+@Slf4j
+public class SmtpTransportPool implements AutoCloseable {
+
+    private final String relay;
+    private final Session session;
+    private final String host;
+    private final int port;
+    private final String username;
+    private final String password;
+    private final int messagesPerConnection;
+    private final long maxIdleNanos;
+    private final Semaphore permits;
+    private final Deque<PooledTransport> idle = new ArrayDeque<>();
+    private final AtomicLong connectionsOpened = new AtomicLong();
+    private boolean closed;
+
+    public SmtpTransportPool(String host, int port, String username, String password, boolean startTls, int size,
+                             int messagesPerConnection, Duration maxIdle, Duration connectTimeout, Duration timeout) {
+        this.relay = host + ":" + port;
+        this.host = host;
+        this.port = port;
+        this.username = username == null || username.isBlank() ? null : username;
+        this.password = this.username == null ? null : password;
+        this.messagesPerConnection = messagesPerConnection;
+        this.maxIdleNanos = maxIdle.toNanos();
+        this.permits = new Semaphore(size, true);
+
+        Properties properties = new Properties();
+        properties.put("mail.smtp.auth", String.valueOf(this.username != null));
+        properties.put("mail.smtp.starttls.enable", String.valueOf(startTls));
+        properties.put("mail.smtp.starttls.required", String.valueOf(startTls));
+        properties.put("mail.smtp.connectiontimeout", String.valueOf(connectTimeout.toMillis()));
+        properties.put("mail.smtp.timeout", String.valueOf(timeout.toMillis()));
+        properties.put("mail.smtp.writetimeout", String.valueOf(timeout.toMillis()));
+        this.session = Session.getInstance(properties);
+    }
+
+    /**
+     * Sends the message on a pooled connection, waiting up to {@code timeout} for one to be free.
+     */
+    public void send(MimeMessage message, Duration timeout) throws MessagingException, InterruptedException {
+        if (!permits.tryAcquire(timeout.toNanos(), TimeUnit.NANOSECONDS)) {
+            throw new MessagingException("No connection to " + relay + " free within " + timeout);
+        }
+        try {
+            PooledTransport kept = takeIdle();
+            if (kept != null) {
+                try {
+                    kept.send(message);
+                    giveBack(kept);
+                    return;
+                } catch (MessagingException e) {
+                    if (isRecipientRejected(e)) {
+                        giveBack(kept);
+                        throw e;
+                    }
+                    log.debug("Connection to {} kept for {} message(s) failed, reconnecting: {}", relay, kept.sent,
+                            e.getMessage());
+                    kept.close();
+                }
+            }
+            PooledTransport fresh = connect();
+            try {
+                fresh.send(message);
+            } catch (MessagingException e) {
+                if (isRecipientRejected(e)) {
+                    giveBack(fresh);
+                } else {
+                    fresh.close();
+                }
+                throw e;
+            }
+            giveBack(fresh);
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Whether the relay refused the recipients themselves, which another relay would refuse as well. Negative
+     * replies to MAIL FROM or DATA, such as 421 closing or 451 rate limited, also raise a
+     * {@link SendFailedException}, but without invalid addresses: they concern the relay or the connection.
+     */
+    public static boolean isRecipientRejected(MessagingException e) {
+        return e instanceof SendFailedException sendFailed && sendFailed.getInvalidAddresses() != null
+                && sendFailed.getInvalidAddresses().length > 0;
+    }
+
+    public String relay() {
+        return relay;
+    }
+
+    public long connectionsOpened() {
+        return connectionsOpened.get();
+    }
+
+    @Override
+    public void close() {
+        synchronized (idle) {
+            closed = true;
+            idle.forEach(PooledTransport::close);
+            idle.clear();
+        }
+    }
+
+    private PooledTransport takeIdle() {
+        synchronized (idle) {
+            PooledTransport transport;
+            // Most recently used first, so the connections beyond what the load needs go idle and expire
+            while ((transport = idle.pollFirst()) != null) {
+                if (System.nanoTime() - transport.lastUsed <= maxIdleNanos) {
+                    return transport;
+                }
+                transport.close();
+            }
+            return null;
+        }
+    }
+
+    private void giveBack(PooledTransport transport) {
+        synchronized (idle) {
+            if (closed || transport.sent >= messagesPerConnection) {
+                transport.close();
+            } else {
+                idle.addFirst(transport);
+            }
+        }
+    }
+
+    private PooledTransport connect() throws MessagingException {
+        Transport transport = session.getTransport("smtp");
+        transport.connect(host, port, username, password);
+        connectionsOpened.incrementAndGet();
+        return new PooledTransport(transport);
+    }
+
+    private final class PooledTransport {
+        private final Transport transport;
+        private int sent;
+        private long lastUsed = System.nanoTime();
+
+        private PooledTransport(Transport transport) {
+            this.transport = transport;
+        }
+
+        private void send(MimeMessage message) throws MessagingException {
+            sent++;
+            lastUsed = System.nanoTime();
+            transport.sendMessage(message, message.getAllRecipients());
+        }
+
+        private void close() {
+            try {
+                transport.close();
+            } catch (MessagingException e) {
+                log.debug("Closing connection to {} failed: {}", relay, e.getMessage());
+            }
+        }
+    }
+}
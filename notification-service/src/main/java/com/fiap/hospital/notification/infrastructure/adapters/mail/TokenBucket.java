@@ -0,0 +1,50 @@
+package com.fiap.hospital.notification.infrastructure.adapters.mail;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lets through {@code ratePerSecond} acquisitions per second on average and up to {@code burst} at once. A
+ * caller that finds no token reserves the next one and sleeps until it is due, so waiting callers are served
+ * in the order they arrived without polling.
+ */
+public class TokenBucket {
+
+    private final double tokensPerNano;
+    private final double capacity;
+    private double tokens;
+    private long refilledAt;
+
+    public TokenBucket(double ratePerSecond, int burst) {
+        if (ratePerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("Invalid rate limit: " + ratePerSecond + "/s with burst " + burst);
+        }
+        this.tokensPerNano = ratePerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.capacity = burst;
+        this.tokens = burst;
+        this.refilledAt = System.nanoTime();
+    }
+
+    /**
+     * Takes a token, waiting for it if it is due within {@code timeout}.
+     *
+     * @return false, without taking a token, if none is due within {@code timeout}
+     */
+    public boolean tryAcquire(Duration timeout) throws InterruptedException {
+        long waitNanos;
+        synchronized (this) {
+            long now = System.nanoTime();
+            tokens = Math.min(capacity, tokens + (now - refilledAt) * tokensPerNano);
+            refilledAt = now;
+            waitNanos = tokens >= 1 ? 0 : (long) Math.ceil((1 - tokens) / tokensPerNano);
+            if (waitNanos > timeout.toNanos()) {
+                return false;
+            }
+            tokens -= 1;
+        }
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+        return true;
+    }
+}
@@ -0,0 +1,99 @@
+package com.fiap.hospital.notification.infrastructure.adapters.messaging;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fiap.hospital.notification.domain.enums.NotificationType;
+import com.fiap.hospital.notification.domain.events.AppointmentNotificationEvent;
+import com.fiap.hospital.notification.domain.ports.notification.NotificationPort;
+import com.fiap.hospital.notification.infrastructure.config.MessagingConfiguration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Receives appointment events in batches and hands them to the {@link NotificationPort} together. Messages
+ * whose notification failed go to their next retry queue, unreadable ones straight to the dead letter queue;
+ * the batch is acked once they are there. Events of types that need no notification are acked and ignored.
+ */
+@Component
+@Slf4j
+public class AppointmentEventListener {
+
+    private final NotificationPort notificationService;
+    private final RetryPublisher retryPublisher;
+    private final ObjectMapper objectMapper;
+
+    public AppointmentEventListener(NotificationPort notificationService, RetryPublisher retryPublisher,
+                                    ObjectMapper objectMapper) {
+        this.notificationService = notificationService;
+        this.retryPublisher = retryPublisher;
+        this.objectMapper = objectMapper;
+    }
+
+    @RabbitListener(id = "appointment-events", queues = "${notification.consumer.queue:notification.appointments}",
+            containerFactory = MessagingConfiguration.BATCH_LISTENER_CONTAINER_FACTORY)
+    public void onMessages(List<Message> messages) {
+        List<AppointmentNotificationEvent> events = new ArrayList<>(messages.size());
+        List<Message> eventMessages = new ArrayList<>(messages.size());
+        List<Message> unreadable = new ArrayList<>();
+        for (Message message : messages) {
+            try {
+                parse(message).ifPresent(event -> {
+                    events.add(event);
+                    eventMessages.add(message);
+                });
+            } catch (IOException | IllegalArgumentException e) {
+                log.warn("Unreadable message {}: {}", message.getMessageProperties().getMessageId(), e.getMessage());
+                unreadable.add(message);
+            }
+        }
+
+        Set<String> failed;
+        try {
+            failed = notificationService.process(events);
+        } catch (RuntimeException e) {
+            log.warn("Batch of {} notification(s) failed, retrying all of them", events.size(), e);
+            failed = events.stream().map(AppointmentNotificationEvent::eventId).collect(Collectors.toSet());
+        }
+        List<Message> retries = new ArrayList<>(failed.size());
+        for (int i = 0; i < events.size(); i++) {
+            if (failed.contains(events.get(i).eventId())) {
+                retries.add(eventMessages.get(i));
+            }
+        }
+        retryPublisher.deadLetter(unreadable);
+        retryPublisher.retry(retries);
+    }
+
+    Optional<AppointmentNotificationEvent> parse(Message message) throws IOException {
+        MessageProperties properties = message.getMessageProperties();
+        String eventId = properties.getMessageId();
+        if (eventId == null || eventId.isBlank()) {
+            throw new IllegalArgumentException("Message has no id");
+        }
+        String eventType = properties.getType() != null ? properties.getType() : properties.getReceivedRoutingKey();
+        Optional<NotificationType> type = NotificationType.fromEventType(eventType);
+        if (type.isEmpty()) {
+            log.debug("Ignoring event {} of type {}", eventId, eventType);
+            return Optional.empty();
+        }
+        Payload payload = objectMapper.readValue(message.getBody(), Payload.class);
+        if (payload.patientId() == null || payload.startTime() == null) {
+            throw new IllegalArgumentException("Event " + eventId + " has no patientId or startTime");
+        }
+        return Optional.of(new AppointmentNotificationEvent(eventId, type.get(), payload.appointmentId(),
+                payload.doctorId(), payload.patientId(), payload.startTime(), payload.endTime()));
+    }
+
+    record Payload(Long appointmentId, Long doctorId, Long patientId, LocalDateTime startTime, LocalDateTime endTime) {
+    }
+}
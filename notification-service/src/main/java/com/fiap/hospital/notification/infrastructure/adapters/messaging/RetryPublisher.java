@@ -0,0 +1,110 @@
+package com.fiap.hospital.notification.infrastructure.adapters.messaging;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Moves messages to their next retry queue or to the dead letter queue, through the default exchange. It waits
+ * for the broker's confirms and throws if any is missing, so the listener fails and the batch is redelivered
+ * rather than acked with a message lost on the way.
+ */
+@Component
+@Slf4j
+public class RetryPublisher {
+
+    public static final String RETRY_COUNT_HEADER = "x-retry-count";
+
+    private final RabbitTemplate rabbitTemplate;
+    private final RetryTopology topology;
+    private final Duration confirmTimeout;
+
+    public RetryPublisher(RabbitTemplate rabbitTemplate,
+                          RetryTopology topology,
+                          @Value("${notification.retry.confirm-timeout:5s}") Duration confirmTimeout) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.topology = topology;
+        this.confirmTimeout = confirmTimeout;
+    }
+
+    public void retry(List<Message> messages) {
+        List<Routed> routed = new ArrayList<>(messages.size());
+        for (Message message : messages) {
+            int attempt = retryCount(message) + 1;
+            String queue = topology.nextQueue(attempt);
+            if (queue.equals(topology.deadLetterQueue())) {
+                log.warn("Event {} failed {} time(s), moving it to {}", message.getMessageProperties().getMessageId(),
+                        attempt, queue);
+            }
+            routed.add(new Routed(queue, copy(message, attempt)));
+        }
+        publish(routed);
+    }
+
+    public void deadLetter(List<Message> messages) {
+        publish(messages.stream()
+                .map(message -> new Routed(topology.deadLetterQueue(), copy(message, retryCount(message))))
+                .toList());
+    }
+
+    public static int retryCount(Message message) {
+        Object count = message.getMessageProperties().getHeader(RETRY_COUNT_HEADER);
+        return count instanceof Number number ? number.intValue() : 0;
+    }
+
+    private void publish(List<Routed> routed) {
+        if (routed.isEmpty()) {
+            return;
+        }
+        List<CorrelationData> sent = new ArrayList<>(routed.size());
+        for (Routed message : routed) {
+            CorrelationData correlation = new CorrelationData();
+            rabbitTemplate.send("", message.queue(), message.message(), correlation);
+            sent.add(correlation);
+        }
+        long deadline = System.nanoTime() + confirmTimeout.toNanos();
+        for (CorrelationData correlation : sent) {
+            try {
+                CorrelationData.Confirm confirm = correlation.getFuture()
+                        .get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                if (!confirm.isAck() || correlation.getReturned() != null) {
+                    throw new AmqpException("Broker did not accept a retried message: " + confirm.getReason());
+                }
+            } catch (TimeoutException | ExecutionException e) {
+                throw new AmqpException("No confirm for a retried message within " + confirmTimeout, e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AmqpException("Interrupted waiting for confirms", e);
+            }
+        }
+    }
+
+    private static Message copy(Message message, int attempt) {
+        MessageProperties properties = message.getMessageProperties();
+        MessageBuilder copy = MessageBuilder.fromClonedMessage(message);
+        copy.setHeader(RETRY_COUNT_HEADER, attempt)
+                .setDeliveryMode(MessageDeliveryMode.PERSISTENT);
+        if (properties.getType() == null) {
+            // Back in the main queue the routing key is the queue's name, so keep the event type in the message
+            copy.setType(properties.getReceivedRoutingKey());
+        }
+        return copy.build();
+    }
+
+    private record Routed(String queue, Message message) {
+    }
+}
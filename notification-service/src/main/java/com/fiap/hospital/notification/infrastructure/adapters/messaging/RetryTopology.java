@@ -0,0 +1,74 @@
+package com.fiap.hospital.notification.infrastructure.adapters.messaging;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Names and delays of the queues a failed notification goes through. Attempt {@code n} waits in a retry queue
+ * whose messages all share the TTL {@code initial-interval * multiplier^(n-1)}, capped at {@code max-interval},
+ * and then dead-letter back to the main queue; a uniform TTL per queue keeps every message expiring at its
+ * head. After {@code max-attempts} retries a message goes to the dead letter queue. Retry queues are named
+ * after their delay, so changing the intervals declares new queues instead of clashing with existing ones.
+ */
+@Component
+public class RetryTopology {
+
+    private final String queue;
+    private final int maxAttempts;
+    private final Duration initialInterval;
+    private final double multiplier;
+    private final Duration maxInterval;
+
+    public RetryTopology(@Value("${notification.consumer.queue:notification.appointments}") String queue,
+                         @Value("${notification.retry.max-attempts:5}") int maxAttempts,
+                         @Value("${notification.retry.initial-interval:5s}") Duration initialInterval,
+                         @Value("${notification.retry.multiplier:4}") double multiplier,
+                         @Value("${notification.retry.max-interval:30m}") Duration maxInterval) {
+        this.queue = queue;
+        this.maxAttempts = maxAttempts;
+        this.initialInterval = initialInterval;
+        this.multiplier = multiplier;
+        this.maxInterval = maxInterval;
+    }
+
+    public String queue() {
+        return queue;
+    }
+
+    public String deadLetterQueue() {
+        return queue + ".dlq";
+    }
+
+    public int maxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * Where a message goes after failing {@code attempt} times: a retry queue, or the dead letter queue once
+     * the retries are used up.
+     */
+    public String nextQueue(int attempt) {
+        return attempt > maxAttempts ? deadLetterQueue() : retryQueue(delay(attempt));
+    }
+
+    public Duration delay(int attempt) {
+        double millis = initialInterval.toMillis() * Math.pow(multiplier, attempt - 1);
+        return millis >= maxInterval.toMillis() ? maxInterval : Duration.ofMillis((long) millis);
+    }
+
+    public Set<Duration> retryDelays() {
+        Set<Duration> delays = new LinkedHashSet<>();
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            delays.add(delay(attempt));
+        }
+        return delays;
+    }
+
+    public String retryQueue(Duration delay) {
+        return queue + ".retry." + delay.toMillis() + "ms";
+    }
+}
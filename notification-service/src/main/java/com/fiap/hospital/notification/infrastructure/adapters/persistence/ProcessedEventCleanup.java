@@ -0,0 +1,37 @@
+package com.fiap.hospital.notification.infrastructure.adapters.persistence;
+
+import com.fiap.hospital.notification.domain.ports.persistence.ProcessedEventRepositoryPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Forgets processed events once a redelivery of them is no longer expected: the retention must exceed the
+ * longest time an event can spend in the retry queues.
+ */
+@Component
+@Slf4j
+public class ProcessedEventCleanup {
+
+    private final ProcessedEventRepositoryPort processedEventRepository;
+    private final Duration retention;
+
+    public ProcessedEventCleanup(ProcessedEventRepositoryPort processedEventRepository,
+                                 @Value("${notification.idempotency.retention:7d}") Duration retention) {
+        this.processedEventRepository = processedEventRepository;
+        this.retention = retention;
+    }
+
+    @Scheduled(fixedDelayString = "${notification.idempotency.cleanup-interval:PT1H}")
+    public int deleteExpired() {
+        int deleted = processedEventRepository.deleteProcessedBefore(LocalDateTime.now().minus(retention));
+        if (deleted > 0) {
+            log.info("Forgot {} processed event(s) older than {}", deleted, retention);
+        }
+        return deleted;
+    }
+}
@@ -0,0 +1,88 @@
+package com.fiap.hospital.notification.infrastructure.config;
+
+import com.fiap.hospital.notification.infrastructure.adapters.messaging.RetryTopology;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.AcknowledgeMode;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.Declarable;
+import org.springframework.amqp.core.Declarables;
+import org.springframework.amqp.core.ExchangeBuilder;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.QueueBuilder;
+import org.springframework.amqp.core.TopicExchange;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Queues and consumers of appointment events. The main queue is bound to the exchange the appointment-service
+ * publishes to; its retry and dead letter queues are described by {@link RetryTopology}.
+ * <p>
+ * Each consumer takes up to {@code batch-size} messages, or what arrived within {@code batch-timeout}, and
+ * handles them as one batch; {@code prefetch} messages are buffered per consumer so the next batch is ready.
+ * Consumers start at {@code concurrency} and grow to {@code max-concurrency} under a backlog, which also caps
+ * how many notifications are being sent at once.
+ */
+@Configuration
+@Slf4j
+public class MessagingConfiguration {
+
+    public static final String BATCH_LISTENER_CONTAINER_FACTORY = "batchListenerContainerFactory";
+
+    @Bean
+    public Declarables notificationTopology(RetryTopology topology,
+                                            @Value("${notification.consumer.exchange:hospital.appointments}") String exchange,
+                                            @Value("${notification.consumer.binding-key:appointment.#}") String bindingKey) {
+        List<Declarable> declarables = new ArrayList<>();
+        TopicExchange appointments = ExchangeBuilder.topicExchange(exchange).durable(true).build();
+        Queue queue = QueueBuilder.durable(topology.queue())
+                .deadLetterExchange("")
+                .deadLetterRoutingKey(topology.deadLetterQueue())
+                .build();
+        declarables.add(appointments);
+        declarables.add(queue);
+        declarables.add(BindingBuilder.bind(queue).to(appointments).with(bindingKey));
+        declarables.add(QueueBuilder.durable(topology.deadLetterQueue()).build());
+        for (Duration delay : topology.retryDelays()) {
+            declarables.add(QueueBuilder.durable(topology.retryQueue(delay))
+                    .ttl((int) delay.toMillis())
+                    .deadLetterExchange("")
+                    .deadLetterRoutingKey(topology.queue())
+                    .build());
+        }
+        return new Declarables(declarables);
+    }
+
+    @Bean(BATCH_LISTENER_CONTAINER_FACTORY)
+    public SimpleRabbitListenerContainerFactory batchListenerContainerFactory(
+            ConnectionFactory connectionFactory,
+            @Value("${notification.consumer.prefetch:250}") int prefetch,
+            @Value("${notification.consumer.concurrency:4}") int concurrency,
+            @Value("${notification.consumer.max-concurrency:8}") int maxConcurrency,
+            @Value("${notification.consumer.batch-size:50}") int batchSize,
+            @Value("${notification.consumer.batch-timeout:500ms}") Duration batchTimeout,
+            @Value("${notification.consumer.auto-startup:true}") boolean autoStartup) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        factory.setConnectionFactory(connectionFactory);
+        factory.setAcknowledgeMode(AcknowledgeMode.AUTO);
+        // A listener only throws when it could not move failed messages to their retry queue
+        factory.setDefaultRequeueRejected(true);
+        factory.setPrefetchCount(Math.max(prefetch, batchSize));
+        factory.setConcurrentConsumers(concurrency);
+        factory.setMaxConcurrentConsumers(Math.max(concurrency, maxConcurrency));
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(batchSize);
+        factory.setReceiveTimeout(batchTimeout.toMillis());
+        factory.setAutoStartup(autoStartup);
+        log.info("Notification consumers: {}-{} with prefetch {}, batches of {} within {}", concurrency,
+                maxConcurrency, Math.max(prefetch, batchSize), batchSize, batchTimeout);
+        return factory;
+    }
+}
@@ -0,0 +1,61 @@
+package com.fiap.hospital.notification.infrastructure.config;
+
+import com.fiap.hospital.auth.client.security.AuthPrincipal;
+import com.fiap.hospital.auth.client.security.AuthTokenFilter;
+import com.fiap.hospital.auth.proto.UserRole;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+
+import java.util.function.Supplier;
+
+@Configuration
+@EnableWebSecurity
+public class SecurityConfig {
+
+    private final AuthTokenFilter authTokenFilter;
+
+    public SecurityConfig(AuthTokenFilter authTokenFilter) {
+        this.authTokenFilter = authTokenFilter;
+    }
+
+    @Bean
+    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+        http
+            .csrf(AbstractHttpConfigurer::disable)
+            .authorizeHttpRequests(auth -> auth
+                .requestMatchers("/api/contacts/{patientId}").access(SecurityConfig::isPatientOrAdmin)
+                .anyRequest().permitAll()
+            )
+            .exceptionHandling(exceptions -> exceptions
+                .authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED))
+            )
+            .sessionManagement(session -> session
+                .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
+            )
+            .addFilterBefore(authTokenFilter, UsernamePasswordAuthenticationFilter.class);
+
+        return http.build();
+    }
+
+    // A contact holds the address the patient's notifications go to: only the patient and admins may see or change it
+    private static AuthorizationDecision isPatientOrAdmin(Supplier<Authentication> authentication,
+                                                          RequestAuthorizationContext context) {
+        if (!(authentication.get().getPrincipal() instanceof AuthPrincipal principal)) {
+            return new AuthorizationDecision(false);
+        }
+        boolean patient = principal.id() != null
+                && principal.id().toString().equals(context.getVariables().get("patientId"));
+        return new AuthorizationDecision(patient || principal.role() == UserRole.ADMIN);
+    }
+}
@@ -0,0 +1,87 @@
+package com.fiap.hospital.notification.application.adapters.rest;
+
+import com.fiap.hospital.auth.client.AuthTokenValidator;
+import com.fiap.hospital.auth.client.TokenValidationResult;
+import com.fiap.hospital.auth.proto.UserRole;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class ContactControllerSecurityTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @TestConfiguration
+    static class Tokens {
+
+        @Bean
+        AuthTokenValidator authTokenValidator() {
+            AuthTokenValidator validator = Mockito.mock(AuthTokenValidator.class);
+            when(validator.validate(anyString()))
+                    .thenReturn(new TokenValidationResult(false, null, null, UserRole.UNKNOWN, "Invalid token", 0));
+            when(validator.validate("patient-501"))
+                    .thenReturn(new TokenValidationResult(true, "ana", 501L, UserRole.PATIENT, "", 0));
+            when(validator.validate("legacy-patient"))
+                    .thenReturn(new TokenValidationResult(true, "ana", null, UserRole.PATIENT, "", 0));
+            when(validator.validate("admin"))
+                    .thenReturn(new TokenValidationResult(true, "root", 1L, UserRole.ADMIN, "", 0));
+            return validator;
+        }
+    }
+
+    @Test
+    void testSave_RequiresAToken() throws Exception {
+        save(null, 501L).andExpect(status().isUnauthorized());
+        save("forged", 501L).andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/api/contacts/501")).andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void testSave_PatientMayOnlyWriteTheirOwnContact() throws Exception {
+        save("patient-501", 501L).andExpect(status().isOk()).andExpect(jsonPath("$.email").value("ana@example.com"));
+
+        save("patient-501", 502L).andExpect(status().isForbidden());
+        save("legacy-patient", 501L).andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/contacts/502").header("Authorization", "Bearer patient-501"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void testSave_AdminMayWriteAnyContact() throws Exception {
+        save("admin", 503L).andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/contacts/503").header("Authorization", "Bearer admin"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.patientId").value(503));
+    }
+
+    private ResultActions save(String token, Long patientId) throws Exception {
+        MockHttpServletRequestBuilder request = put("/api/contacts/" + patientId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"Ana\",\"email\":\"ana@example.com\"}");
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        return mockMvc.perform(request);
+    }
+}
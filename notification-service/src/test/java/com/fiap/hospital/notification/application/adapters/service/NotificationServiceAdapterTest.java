@@ -0,0 +1,99 @@
+package com.fiap.hospital.notification.application.adapters.service;
+
+import com.fiap.hospital.notification.domain.entities.Contact;
+import com.fiap.hospital.notification.domain.entities.Notification;
+import com.fiap.hospital.notification.domain.enums.NotificationType;
+import com.fiap.hospital.notification.domain.events.AppointmentNotificationEvent;
+import com.fiap.hospital.notification.domain.ports.notification.NotificationSenderPort;
+import com.fiap.hospital.notification.domain.ports.persistence.ContactRepositoryPort;
+import com.fiap.hospital.notification.domain.ports.persistence.ProcessedEventRepositoryPort;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class NotificationServiceAdapterTest {
+
+    private static final LocalDateTime START = LocalDateTime.now().plusDays(1).withNano(0);
+
+    @Autowired
+    private ProcessedEventRepositoryPort processedEventRepository;
+
+    @Autowired
+    private ContactRepositoryPort contactRepository;
+
+    @Test
+    void testProcess_NotifiesEachEventOnceAndSkipsRedeliveries() {
+        contact(401L, "ana@example.com");
+        contact(402L, "bruno@example.com");
+        RecordingSender sender = new RecordingSender();
+        NotificationServiceAdapter notificationService = service(sender);
+
+        Set<String> failed = notificationService.process(List.of(
+                event("notify-once-1", 401L), event("notify-once-2", 402L),
+                event("notify-once-1", 401L), event("notify-once-3", 499L)));
+        Set<String> failedOnRedelivery = notificationService.process(List.of(
+                event("notify-once-1", 401L), event("notify-once-3", 499L)));
+
+        assertEquals(Set.of(), failed);
+        assertEquals(Set.of(), failedOnRedelivery);
+        assertEquals(List.of("notify-once-1:ana@example.com", "notify-once-2:bruno@example.com"), sender.sent);
+        // A patient without a contact has nothing to send, but the event is still handled
+        assertEquals(Set.of("notify-once-1", "notify-once-2", "notify-once-3"), processedEventRepository.findProcessedIds(
+                List.of("notify-once-1", "notify-once-2", "notify-once-3")));
+    }
+
+    @Test
+    void testProcess_FailedNotificationIsReportedAndNotRecorded() {
+        contact(403L, "carla@example.com");
+        contact(404L, "davi@example.com");
+        RecordingSender sender = new RecordingSender();
+        sender.failingOnce.add("davi@example.com");
+        NotificationServiceAdapter notificationService = service(sender);
+
+        Set<String> failed = notificationService.process(List.of(event("notify-fail-1", 403L), event("notify-fail-2", 404L)));
+
+        assertEquals(Set.of("notify-fail-2"), failed);
+        assertEquals(Set.of("notify-fail-1"), processedEventRepository.findProcessedIds(List.of("notify-fail-1", "notify-fail-2")));
+
+        assertEquals(Set.of(), notificationService.process(List.of(event("notify-fail-2", 404L))));
+        assertEquals(List.of("notify-fail-1:carla@example.com", "notify-fail-2:davi@example.com"), sender.sent);
+    }
+
+    private NotificationServiceAdapter service(NotificationSenderPort sender) {
+        return new NotificationServiceAdapter(processedEventRepository, contactRepository, sender);
+    }
+
+    private void contact(Long patientId, String email) {
+        contactRepository.save(Contact.builder().patientId(patientId).name("Patient " + patientId).email(email).build());
+    }
+
+    private static AppointmentNotificationEvent event(String eventId, Long patientId) {
+        return new AppointmentNotificationEvent(eventId, NotificationType.APPOINTMENT_REMINDER, 1L, 2L, patientId,
+                START, START.plusMinutes(30));
+    }
+
+    private static class RecordingSender implements NotificationSenderPort {
+        final List<String> sent = new ArrayList<>();
+        final Set<String> failingOnce = new HashSet<>();
+
+        @Override
+        public void send(Notification notification) {
+            String email = notification.recipient().getEmail();
+            if (failingOnce.remove(email)) {
+                throw new IllegalStateException("Relay unavailable");
+            }
+            sent.add(notification.event().eventId() + ":" + email);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.fiap.hospital.notification.infrastructure.adapters.mail;
+
+import com.fiap.hospital.notification.domain.entities.Contact;
+import com.fiap.hospital.notification.domain.entities.Notification;
+import com.fiap.hospital.notification.domain.enums.NotificationType;
+import com.fiap.hospital.notification.domain.events.AppointmentNotificationEvent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MailTemplateEngineTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2030, 3, 4, 9, 30);
+
+    @TempDir
+    Path templateDir;
+
+    @Test
+    void testReload_RecompilesOnlyWhenTheVersionChanges() throws Exception {
+        write("version: 1\nsubject: Booked {{date}}\n\nHello, {{name}}: {{startTime}} to {{endTime}}.\n");
+        MailTemplateEngine templates = new MailTemplateEngine(templateDir.toUri().toString());
+        templates.reload();
+        assertEquals(new MailTemplateEngine.RenderedMail("Booked 04/03/2030",
+                "Hello, Ana: 04/03/2030 09:30 to 04/03/2030 10:00.\n"), templates.render(notification()));
+
+        write("version: 1\nsubject: Edited {{date}}\n\nEdited.\n");
+        templates.reload();
+        assertEquals("Booked 04/03/2030", templates.render(notification()).subject());
+
+        write("version: 2\r\nsubject: Booked at {{time}}\r\n\r\nHi {{name}}\r\n");
+        templates.reload();
+        assertEquals(new MailTemplateEngine.RenderedMail("Booked at 09:30", "Hi Ana\n"), templates.render(notification()));
+    }
+
+    @Test
+    void testReload_KeepsThePreviousVersionWhenATemplateDoesNotCompile() throws Exception {
+        write("version: 1\nsubject: Booked\n\nHello, {{name}}.");
+        MailTemplateEngine templates = new MailTemplateEngine(templateDir.toUri().toString());
+        templates.reload();
+
+        write("version: 2\nsubject: Booked\n\nHello, {{patient}}.");
+        templates.reload();
+
+        assertEquals(1, templates.version("appointment.booked"));
+        assertEquals("Hello, Ana.", templates.render(notification()).body());
+        write("version: 3\nsubject: Booked\n\nHello, {{name}.");
+        MailTemplateEngine fresh = new MailTemplateEngine(templateDir.toUri().toString());
+        assertThrows(IllegalStateException.class, fresh::reload);
+    }
+
+    @Test
+    void testRender_MissingEventValuesAreRenderedEmpty() throws Exception {
+        write("version: 1\nsubject: Consulta {{appointmentId}}\n\n{{startTime}} a {{endTime}}, medico {{doctorId}}.");
+        MailTemplateEngine templates = new MailTemplateEngine(templateDir.toUri().toString());
+        templates.reload();
+
+        Notification notification = new Notification(new AppointmentNotificationEvent("event-2",
+                NotificationType.APPOINTMENT_BOOKED, null, null, 3L, START, null),
+                Contact.builder().patientId(3L).email("ana@example.com").build());
+
+        assertEquals(new MailTemplateEngine.RenderedMail("Consulta ", "04/03/2030 09:30 a , medico ."),
+                templates.render(notification));
+    }
+
+    private void write(String template) throws Exception {
+        Files.writeString(templateDir.resolve("appointment.booked.txt"), template, StandardCharsets.UTF_8);
+    }
+
+    private static Notification notification() {
+        return new Notification(new AppointmentNotificationEvent("event-1", NotificationType.APPOINTMENT_BOOKED, 1L, 2L,
+                3L, START, START.plusMinutes(30)), Contact.builder().patientId(3L).name("Ana").email("ana@example.com").build());
+    }
+}
@@ -0,0 +1,232 @@
+package com.fiap.hospital.notification.infrastructure.adapters.mail;
+
+import com.fiap.hospital.notification.domain.entities.Contact;
+import com.fiap.hospital.notification.domain.entities.Notification;
+import com.fiap.hospital.notification.domain.enums.NotificationType;
+import com.fiap.hospital.notification.domain.events.AppointmentNotificationEvent;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.GreenMailUtil;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mail.MailSendException;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class PooledMailSenderAdapterTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2030, 3, 4, 9, 30);
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @Autowired
+    private PooledMailSenderAdapter mailSender;
+
+    @Autowired
+    private MailTemplateEngine templates;
+
+    @Test
+    void testSend_ReusesOneConnectionForConsecutiveMessages() throws Exception {
+        long opened = mailSender.connectionsOpened();
+
+        for (int i = 0; i < 20; i++) {
+            mailSender.send(notification("reuse-" + i, NotificationType.APPOINTMENT_REMINDER, "ana" + i + "@example.com"));
+        }
+
+        assertTrue(greenMail.waitForIncomingEmail(5000, 20));
+        assertEquals(1, mailSender.connectionsOpened() - opened);
+        MimeMessage first = greenMail.getReceivedMessagesForDomain("ana0@example.com")[0];
+        assertEquals("Lembrete: consulta em 04/03/2030 \u00e0s 09:30", first.getSubject());
+        assertTrue(GreenMailUtil.getBody(first).contains("Ana"));
+        assertEquals("reuse-0", first.getHeader("X-Event-Id")[0]);
+    }
+
+    @Test
+    void testSend_ReconnectsWhenTheRelayDroppedTheConnection() throws Exception {
+        mailSender.send(notification("dropped-1", NotificationType.APPOINTMENT_BOOKED, "bruno@example.com"));
+        long opened = mailSender.connectionsOpened();
+
+        // Restarting the server closes the connection kept in the pool
+        greenMail.reset();
+        mailSender.send(notification("dropped-2", NotificationType.APPOINTMENT_CANCELLED, "bruno@example.com"));
+
+        assertTrue(greenMail.waitForIncomingEmail(5000, 1));
+        assertEquals(1, mailSender.connectionsOpened() - opened);
+        assertEquals("Consulta de 04/03/2030 \u00e0s 09:30 cancelada", greenMail.getReceivedMessages()[0].getSubject());
+    }
+
+    @Test
+    void testSend_RateLimitSpacesMessagesOut() throws Exception {
+        PooledMailSenderAdapter limited = new PooledMailSenderAdapter(templates, List.of("localhost:3025"), "", "",
+                false, 2, 500, Duration.ofSeconds(60), 20, 1, Duration.ofSeconds(5), Duration.ofSeconds(2),
+                Duration.ofSeconds(5), "no-reply@hospital.local");
+        try {
+            long started = System.nanoTime();
+            for (int i = 0; i < 11; i++) {
+                limited.send(notification("limited-" + i, NotificationType.APPOINTMENT_REMINDER, "carla@example.com"));
+            }
+            long elapsedMillis = Duration.ofNanos(System.nanoTime() - started).toMillis();
+
+            // 20 per second with no burst: the first message goes at once, each of the other ten 50 ms later
+            assertTrue(elapsedMillis >= 450, "sent 11 messages in " + elapsedMillis + " ms");
+            assertEquals(11, greenMail.getReceivedMessages().length);
+            assertEquals(1, limited.connectionsOpened());
+        } finally {
+            limited.destroy();
+        }
+    }
+
+    @Test
+    void testSend_RelayRefusingTheMessageIsClosedAndSkipped() throws Exception {
+        try (ScriptedRelay refusing = new ScriptedRelay("451 4.7.1 Rate limited, try again later", "250 OK")) {
+            PooledMailSenderAdapter failover = adapter(refusing.address(), "localhost:3025");
+            try {
+                failover.send(notification("refused-1", NotificationType.APPOINTMENT_BOOKED, "davi@example.com"));
+
+                assertTrue(greenMail.waitForIncomingEmail(5000, 1));
+                assertEquals(1, refusing.sessions());
+                assertEquals(1, refusing.closed());
+            } finally {
+                failover.destroy();
+            }
+        }
+    }
+
+    @Test
+    void testSend_RejectedRecipientFailsWithoutTryingTheOtherRelays() throws Exception {
+        try (ScriptedRelay rejecting = new ScriptedRelay("250 OK", "550 5.1.1 Unknown user")) {
+            PooledMailSenderAdapter failover = adapter(rejecting.address(), "localhost:3025");
+            try {
+                assertThrows(MailSendException.class, () -> failover.send(
+                        notification("rejected-1", NotificationType.APPOINTMENT_BOOKED, "nobody@example.com")));
+
+                assertEquals(0, greenMail.getReceivedMessages().length);
+                // The relay is fine with the connection, so it stays in the pool
+                assertEquals(0, rejecting.closed());
+            } finally {
+                failover.destroy();
+            }
+        }
+    }
+
+    private PooledMailSenderAdapter adapter(String... relays) throws Exception {
+        return new PooledMailSenderAdapter(templates, List.of(relays), "", "", false, 2, 500, Duration.ofSeconds(60),
+                100, 10, Duration.ofSeconds(5), Duration.ofSeconds(2), Duration.ofSeconds(5), "no-reply@hospital.local");
+    }
+
+    private static Notification notification(String eventId, NotificationType type, String email) {
+        String name = Character.toUpperCase(email.charAt(0)) + email.substring(1, email.indexOf('@')).replaceAll("\\d", "");
+        return new Notification(new AppointmentNotificationEvent(eventId, type, 1L, 2L, 3L, START, START.plusMinutes(30)),
+                Contact.builder().patientId(3L).name(name).email(email).build());
+    }
+
+    /**
+     * SMTP relay answering MAIL FROM and RCPT TO with the given replies, for the failures GreenMail does not
+     * produce.
+     */
+    private static class ScriptedRelay implements AutoCloseable {
+
+        private final ServerSocket server = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        private final String mailFromReply;
+        private final String rcptToReply;
+        private final AtomicInteger sessions = new AtomicInteger();
+        private final AtomicInteger closed = new AtomicInteger();
+
+        ScriptedRelay(String mailFromReply, String rcptToReply) throws IOException {
+            this.mailFromReply = mailFromReply;
+            this.rcptToReply = rcptToReply;
+            Thread acceptor = new Thread(this::accept, "scripted-relay");
+            acceptor.setDaemon(true);
+            acceptor.start();
+        }
+
+        String address() {
+            return server.getInetAddress().getHostAddress() + ":" + server.getLocalPort();
+        }
+
+        int sessions() {
+            return sessions.get();
+        }
+
+        int closed() {
+            return closed.get();
+        }
+
+        private void accept() {
+            while (!server.isClosed()) {
+                try {
+                    Socket socket = server.accept();
+                    sessions.incrementAndGet();
+                    Thread session = new Thread(() -> converse(socket), "scripted-relay-session");
+                    session.setDaemon(true);
+                    session.start();
+                } catch (IOException e) {
+                    return;
+                }
+            }
+        }
+
+        private void converse(Socket socket) {
+            try (socket;
+                 BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+                 Writer out = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.US_ASCII)) {
+                reply(out, "220 scripted ESMTP");
+                String line;
+                while ((line = in.readLine()) != null) {
+                    String command = line.length() < 4 ? line.toUpperCase() : line.substring(0, 4).toUpperCase();
+                    switch (command) {
+                        case "MAIL" -> reply(out, mailFromReply);
+                        case "RCPT" -> reply(out, rcptToReply);
+                        case "DATA" -> {
+                            reply(out, "354 End data with <CR><LF>.<CR><LF>");
+                            while ((line = in.readLine()) != null && !line.equals(".")) {
+                                // Discard the message
+                            }
+                            reply(out, "250 OK");
+                        }
+                        case "QUIT" -> {
+                            closed.incrementAndGet();
+                            reply(out, "221 Bye");
+                            return;
+                        }
+                        default -> reply(out, "250 OK");
+                    }
+                }
+                closed.incrementAndGet();
+            } catch (IOException e) {
+                closed.incrementAndGet();
+            }
+        }
+
+        private static void reply(Writer out, String reply) throws IOException {
+            out.write(reply + "\r\n");
+            out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            server.close();
+        }
+    }
+}
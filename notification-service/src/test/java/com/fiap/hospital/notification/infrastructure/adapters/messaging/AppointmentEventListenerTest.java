@@ -0,0 +1,92 @@
+package com.fiap.hospital.notification.infrastructure.adapters.messaging;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fiap.hospital.notification.domain.enums.NotificationType;
+import com.fiap.hospital.notification.domain.events.AppointmentNotificationEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class AppointmentEventListenerTest {
+
+    private static final String PAYLOAD = """
+            {"appointmentId":7,"doctorId":3,"patientId":5,"startTime":"2030-03-10T09:00:00","endTime":"2030-03-10T09:30:00"}""";
+
+    private final RetryTopology topology = new RetryTopology("notification.appointments", 3,
+            Duration.ofSeconds(5), 4, Duration.ofMinutes(1));
+
+    @Test
+    void testOnMessages_RoutesFailedAndUnreadableMessages() {
+        RabbitTemplate rabbitTemplate = mock(RabbitTemplate.class);
+        List<Object[]> published = new ArrayList<>();
+        doAnswer(invocation -> {
+            published.add(new Object[]{invocation.getArgument(1), invocation.getArgument(2)});
+            ((CorrelationData) invocation.getArgument(3)).getFuture().complete(new CorrelationData.Confirm(true, null));
+            return null;
+        }).when(rabbitTemplate).send(eq(""), anyString(), any(Message.class), any(CorrelationData.class));
+        List<AppointmentNotificationEvent> received = new ArrayList<>();
+        AppointmentEventListener listener = new AppointmentEventListener(events -> {
+            received.addAll(events);
+            return Set.of("failing", "exhausted");
+        }, new RetryPublisher(rabbitTemplate, topology, Duration.ofSeconds(1)), new ObjectMapper().findAndRegisterModules());
+
+        listener.onMessages(List.of(
+                message("ok", "appointment.booked", PAYLOAD, 0),
+                message("failing", "appointment.reminder", PAYLOAD, 1),
+                message("exhausted", "appointment.cancelled", PAYLOAD, 3),
+                message("broken", "appointment.booked", "{not json", 0),
+                message("other", "appointment.rescheduled", PAYLOAD, 0)));
+
+        assertEquals(List.of("ok", "failing", "exhausted"), received.stream().map(AppointmentNotificationEvent::eventId).toList());
+        AppointmentNotificationEvent booked = received.get(0);
+        assertEquals(NotificationType.APPOINTMENT_BOOKED, booked.type());
+        assertEquals(5L, booked.patientId());
+        assertEquals(LocalDateTime.of(2030, 3, 10, 9, 0), booked.startTime());
+
+        Map<String, String> queues = published.stream().collect(Collectors.toMap(
+                entry -> ((Message) entry[1]).getMessageProperties().getMessageId(), entry -> (String) entry[0]));
+        assertEquals(Map.of(
+                "broken", "notification.appointments.dlq",
+                "failing", "notification.appointments.retry.20000ms",
+                "exhausted", "notification.appointments.dlq"), queues);
+        Message retried = published.stream().map(entry -> (Message) entry[1])
+                .filter(message -> message.getMessageProperties().getMessageId().equals("failing"))
+                .findFirst().orElseThrow();
+        assertEquals(2, RetryPublisher.retryCount(retried));
+        assertEquals("appointment.reminder", retried.getMessageProperties().getType());
+    }
+
+    @Test
+    void testRetryTopology_DelaysGrowExponentiallyUpToTheCap() {
+        assertEquals(List.of(Duration.ofSeconds(5), Duration.ofSeconds(20), Duration.ofMinutes(1)),
+                List.copyOf(topology.retryDelays()));
+        assertEquals("notification.appointments.retry.5000ms", topology.nextQueue(1));
+        assertEquals("notification.appointments.retry.60000ms", topology.nextQueue(3));
+        assertEquals("notification.appointments.dlq", topology.nextQueue(4));
+    }
+
+    private static Message message(String eventId, String routingKey, String body, int retryCount) {
+        MessageBuilder builder = MessageBuilder.withBody(body.getBytes(StandardCharsets.UTF_8));
+        builder.setMessageId(eventId)
+                .setReceivedRoutingKey(routingKey);
+        if (retryCount > 0) {
+            builder.setHeader(RetryPublisher.RETRY_COUNT_HEADER, retryCount);
+        }
+        return builder.build();
+    }
+}